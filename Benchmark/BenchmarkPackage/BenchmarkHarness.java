@@ -0,0 +1,78 @@
+package BenchmarkPackage;
+
+import java.util.function.Supplier;
+
+/**
+ * A minimal timing harness shared by the benchmark programs in this package.
+ * Each benchmark body runs for a number of warm-up iterations, so the JIT compiler
+ * has compiled the hot paths, followed by measured iterations whose average is reported.
+ */
+public final class BenchmarkHarness {
+    private static volatile Object sink; // Keeps results reachable so the JIT cannot discard the work
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private BenchmarkHarness() {
+    }
+
+    /**
+     * Runs a benchmark body and prints the average time per iteration and per operation.
+     *
+     * @param label              A label describing the benchmark.
+     * @param warmupIterations   The number of unmeasured iterations to run first.
+     * @param measuredIterations The number of measured iterations.
+     * @param operations         The number of operations performed by one iteration of the body.
+     * @param body               The benchmark body; its result is consumed so it cannot be optimized away.
+     * @return The average time of one measured iteration, in nanoseconds.
+     */
+    public static double measure(String label, int warmupIterations, int measuredIterations,
+                                 long operations, Supplier<?> body) {
+        for (int i = 0; i < warmupIterations; i++) {
+            sink = body.get();
+        }
+
+        long totalNanos = 0;
+        for (int i = 0; i < measuredIterations; i++) {
+            long start = System.nanoTime();
+            sink = body.get();
+            totalNanos += System.nanoTime() - start;
+        }
+
+        double averageNanos = (double) totalNanos / measuredIterations;
+        System.out.printf("%-50s %12.3f ms/iter %10.1f ns/op %14.0f ops/s%n",
+                label, averageNanos / 1e6, averageNanos / operations, operations * 1e9 / averageNanos);
+        return averageNanos;
+    }
+
+    /**
+     * Parses a positive integer command-line argument, falling back to a default.
+     *
+     * @param args         The command-line arguments.
+     * @param index        The index of the argument to parse.
+     * @param defaultValue The value to use if the argument is absent.
+     * @return The parsed argument, or {@code defaultValue} if it is absent.
+     */
+    public static int intArg(String[] args, int index, int defaultValue) {
+        return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
+    }
+
+    /**
+     * Finds a {@code name=value1,value2} command-line argument and splits its values,
+     * falling back to a default list.
+     *
+     * @param args         The command-line arguments.
+     * @param name         The name of the argument.
+     * @param defaultValue The comma-separated values to use if the argument is absent.
+     * @return The values of the argument.
+     */
+    public static String[] listArg(String[] args, String name, String defaultValue) {
+        String value = defaultValue;
+        for (String arg : args) {
+            if (arg.startsWith(name + "=")) {
+                value = arg.substring(name.length() + 1);
+            }
+        }
+        return value.split(",");
+    }
+}
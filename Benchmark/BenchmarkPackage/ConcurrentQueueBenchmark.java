@@ -0,0 +1,156 @@
+package BenchmarkPackage;
+
+import StackAndQueuePackage.ConcurrentArrayQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Benchmarks the throughput of hand-offs between threads through a bounded queue under
+ * contention, comparing {@link ConcurrentArrayQueue} with {@link ArrayBlockingQueue}, and
+ * with the unbounded {@link ConcurrentLinkedQueue} polled in a spin loop. Each run starts
+ * the given numbers of producers and consumers and moves a fixed number of entries from
+ * the producers to the consumers.
+ *
+ * Usage: {@code java BenchmarkPackage.ConcurrentQueueBenchmark [entries] [capacity]}
+ */
+public class ConcurrentQueueBenchmark {
+
+    /**
+     * A queue under test, reduced to the two blocking operations the benchmark needs.
+     */
+    private interface HandOff {
+        /**
+         * Adds an entry, waiting while the queue is full.
+         *
+         * @param entry The entry.
+         * @throws InterruptedException if the thread is interrupted.
+         */
+        void put(Integer entry) throws InterruptedException;
+
+        /**
+         * Removes an entry, waiting while the queue is empty.
+         *
+         * @return The entry.
+         * @throws InterruptedException if the thread is interrupted.
+         */
+        Integer take() throws InterruptedException;
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optional number of entries per run (default 1,000,000) and queue capacity (default 1024).
+     */
+    public static void main(String[] args) {
+        int entries = BenchmarkHarness.intArg(args, 0, 1_000_000);
+        int capacity = BenchmarkHarness.intArg(args, 1, 1024);
+        int[][] threadCounts = {{1, 1}, {2, 2}, {4, 4}};
+
+        for (int[] threads : threadCounts) {
+            int producers = threads[0];
+            int consumers = threads[1];
+            String suffix = " " + producers + "P/" + consumers + "C (" + entries + ")";
+
+            BenchmarkHarness.measure("ConcurrentArrayQueue" + suffix, 2, 5, entries, () -> {
+                ConcurrentArrayQueue<Integer> queue = new ConcurrentArrayQueue<>(capacity);
+                return run(new HandOff() {
+                    @Override
+                    public void put(Integer entry) throws InterruptedException {
+                        queue.put(entry);
+                    }
+
+                    @Override
+                    public Integer take() throws InterruptedException {
+                        return queue.take();
+                    }
+                }, producers, consumers, entries);
+            });
+            BenchmarkHarness.measure("ArrayBlockingQueue" + suffix, 2, 5, entries, () -> {
+                BlockingQueue<Integer> queue = new ArrayBlockingQueue<>(capacity);
+                return run(new HandOff() {
+                    @Override
+                    public void put(Integer entry) throws InterruptedException {
+                        queue.put(entry);
+                    }
+
+                    @Override
+                    public Integer take() throws InterruptedException {
+                        return queue.take();
+                    }
+                }, producers, consumers, entries);
+            });
+            BenchmarkHarness.measure("ConcurrentLinkedQueue (unbounded)" + suffix, 2, 5, entries, () -> {
+                ConcurrentLinkedQueue<Integer> queue = new ConcurrentLinkedQueue<>();
+                return run(new HandOff() {
+                    @Override
+                    public void put(Integer entry) {
+                        queue.offer(entry);
+                    }
+
+                    @Override
+                    public Integer take() {
+                        Integer entry;
+                        while ((entry = queue.poll()) == null) {
+                            Thread.onSpinWait();
+                        }
+                        return entry;
+                    }
+                }, producers, consumers, entries);
+            });
+        }
+    }
+
+    /**
+     * Moves entries from producer threads to consumer threads through a queue.
+     *
+     * @param queue     The queue.
+     * @param producers The number of producer threads.
+     * @param consumers The number of consumer threads.
+     * @param entries   The total number of entries; it is divided evenly between the threads.
+     * @return The sum of the entries consumed, so the work cannot be optimized away.
+     */
+    private static long run(HandOff queue, int producers, int consumers, int entries) {
+        LongAdder sum = new LongAdder();
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < entries / producers; i++) {
+                        queue.put(i & 1023); // Small values come from the Integer cache
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads.add(new Thread(() -> {
+                long consumed = 0;
+                try {
+                    for (int i = 0; i < entries / consumers; i++) {
+                        consumed += queue.take();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                sum.add(consumed);
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return sum.sum();
+    }
+}
@@ -0,0 +1,121 @@
+package BenchmarkPackage;
+
+import TreePackage.AVLTree;
+import TreePackage.ConcurrentSearchTree;
+import TreePackage.SearchTreeInterface;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Benchmarks addIfAbsent under contention: many threads add identifiers, most of them
+ * duplicates, to one shared set. The lock-free ConcurrentSearchTree is compared with an
+ * AVLTree guarded by a single lock, at 1, 4, 16 and 64 threads.
+ *
+ * Usage: {@code java BenchmarkPackage.ConcurrentTreeBenchmark [operations] [distinct]}
+ */
+public class ConcurrentTreeBenchmark {
+    private static final int[] THREAD_COUNTS = {1, 4, 16, 64};
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optional total number of additions per run (default 2,000,000) and number
+     *             of distinct identifiers (default 20,000).
+     */
+    public static void main(String[] args) {
+        int operations = BenchmarkHarness.intArg(args, 0, 2_000_000);
+        int distinct = BenchmarkHarness.intArg(args, 1, 20_000);
+
+        String[] identifiers = new String[distinct];
+        for (int i = 0; i < distinct; i++) {
+            identifiers[i] = "identifier" + i;
+        }
+
+        for (int threads : THREAD_COUNTS) {
+            int[][] picks = picks(threads, operations / threads, distinct);
+
+            BenchmarkHarness.measure("ConcurrentSearchTree, " + threads + " threads", 2, 5, operations,
+                    () -> run(new ConcurrentSearchTree<>(), identifiers, picks, null));
+
+            Object lock = new Object();
+            BenchmarkHarness.measure("synchronized AVLTree, " + threads + " threads", 2, 5, operations,
+                    () -> run(new AVLTree<>(), identifiers, picks, lock));
+        }
+    }
+
+    /**
+     * Chooses the identifiers each thread adds, uniformly at random.
+     *
+     * @param threads   The number of threads.
+     * @param perThread The number of additions made by each thread.
+     * @param distinct  The number of distinct identifiers.
+     * @return For each thread, the indices of the identifiers it adds.
+     */
+    private static int[][] picks(int threads, int perThread, int distinct) {
+        Random random = new Random(42);
+        int[][] picks = new int[threads][perThread];
+        for (int[] thread : picks) {
+            for (int i = 0; i < perThread; i++) {
+                thread[i] = random.nextInt(distinct);
+            }
+        }
+        return picks;
+    }
+
+    /**
+     * Starts one thread per row of {@code picks}, releases them together and waits for all
+     * of them to finish adding to the shared set.
+     *
+     * @param set         The shared set.
+     * @param identifiers The identifiers to add.
+     * @param picks       For each thread, the indices of the identifiers it adds.
+     * @param lock        A lock to hold around each addition, or {@code null} for none.
+     * @return The number of identifiers added.
+     */
+    private static int run(SearchTreeInterface<String> set, String[] identifiers, int[][] picks, Object lock) {
+        CountDownLatch start = new CountDownLatch(1);
+        int[] added = new int[picks.length];
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < picks.length; t++) {
+            int thread = t;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int index : picks[thread]) {
+                    boolean wasAdded;
+                    if (lock == null) {
+                        wasAdded = set.addIfAbsent(identifiers[index]);
+                    } else {
+                        synchronized (lock) {
+                            wasAdded = set.addIfAbsent(identifiers[index]);
+                        }
+                    }
+                    if (wasAdded) {
+                        added[thread]++;
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+
+        start.countDown();
+        int total = 0;
+        try {
+            for (int t = 0; t < workers.size(); t++) {
+                workers.get(t).join();
+                total += added[t];
+            }
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        return total;
+    }
+}
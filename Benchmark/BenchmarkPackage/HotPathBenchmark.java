@@ -0,0 +1,190 @@
+package BenchmarkPackage;
+
+import Main.Parser;
+import TreePackage.AVLTree;
+import TreePackage.BinarySearchTree;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.function.Supplier;
+
+/**
+ * A parameterized suite over the hot paths of the tree and parser code, meant to be run
+ * before and after a change to spot regressions:
+ * <ul>
+ *     <li>{@code insert}: {@code add} of every key into a new tree;</li>
+ *     <li>{@code lookup}: {@code contains} of keys drawn from the same distribution;</li>
+ *     <li>{@code iterate}: a full in-order iteration;</li>
+ *     <li>{@code parse}: {@link Parser#parseFile(String)} end to end, in MB/s.</li>
+ * </ul>
+ * The tree benchmarks run for every combination of tree type, tree size and key
+ * distribution; the parse benchmark for every file size and input mode. Everything runs
+ * offline: keys are generated and parse inputs are built by repeating a source file.
+ *
+ * Usage: {@code java BenchmarkPackage.HotPathBenchmark [name=value,...]...} with the parameters
+ * {@code benchmarks}, {@code trees}, {@code sizes}, {@code distributions}, {@code megabytes},
+ * {@code modes} and {@code source}; for example {@code sizes=1000,1000000 distributions=ZIPFIAN}.
+ */
+public class HotPathBenchmark {
+    private static final int UNBALANCED_SORTED_LIMIT = 20_000; // Larger sorted inputs take quadratic time
+    private static final long SEED = 42;
+
+    /**
+     * Runs the selected benchmarks.
+     *
+     * @param args Optional {@code name=value1,value2} parameters; see the class description.
+     * @throws IOException if a parse input cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        String[] benchmarks = BenchmarkHarness.listArg(args, "benchmarks", "insert,lookup,iterate,parse");
+        String[] trees = BenchmarkHarness.listArg(args, "trees", "BinarySearchTree,AVLTree");
+        String[] sizes = BenchmarkHarness.listArg(args, "sizes", "1000,100000,1000000");
+        String[] distributions = BenchmarkHarness.listArg(args, "distributions", "RANDOM,SORTED,ZIPFIAN");
+        String[] megabytes = BenchmarkHarness.listArg(args, "megabytes", "1,16,64");
+        String[] modes = BenchmarkHarness.listArg(args, "modes", "READER,MEMORY_MAPPED");
+        Path source = Paths.get(BenchmarkHarness.listArg(args, "source", "Palindrome.java")[0]);
+
+        for (String benchmark : benchmarks) {
+            if (benchmark.equals("parse")) {
+                for (String size : megabytes) {
+                    for (String mode : modes) {
+                        parse(source, Integer.parseInt(size), Parser.InputMode.valueOf(mode));
+                    }
+                }
+                continue;
+            }
+            for (String tree : trees) {
+                for (String size : sizes) {
+                    for (String distribution : distributions) {
+                        runTreeBenchmark(benchmark, tree, Integer.parseInt(size), KeyDistribution.valueOf(distribution));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs one tree benchmark for one combination of parameters.
+     *
+     * @param benchmark    The benchmark: {@code insert}, {@code lookup} or {@code iterate}.
+     * @param tree         The tree type: {@code BinarySearchTree} or {@code AVLTree}.
+     * @param size         The number of keys.
+     * @param distribution The key distribution.
+     * @throws IllegalArgumentException if the benchmark or tree type is unknown.
+     */
+    private static void runTreeBenchmark(String benchmark, String tree, int size, KeyDistribution distribution) {
+        String label = benchmark + " " + tree + " " + distribution + " n=" + size;
+        if (tree.equals("BinarySearchTree") && distribution == KeyDistribution.SORTED && size > UNBALANCED_SORTED_LIMIT) {
+            System.out.printf("%-50s skipped: quadratic on sorted input above %d keys%n", label, UNBALANCED_SORTED_LIMIT);
+            return;
+        }
+        Supplier<BinarySearchTree<String>> factory = treeFactory(tree);
+        String[] keys = distribution.keys(size, size, SEED);
+
+        switch (benchmark) {
+            case "insert":
+                BenchmarkHarness.measure(label, 2, 5, size, () -> fill(factory.get(), keys));
+                break;
+            case "lookup":
+                BinarySearchTree<String> searched = fill(factory.get(), keys);
+                String[] queries = distribution.keys(size, size, SEED + 1);
+                BenchmarkHarness.measure(label, 2, 5, size, () -> {
+                    int found = 0;
+                    for (String query : queries) {
+                        if (searched.contains(query)) {
+                            found++;
+                        }
+                    }
+                    return found;
+                });
+                break;
+            case "iterate":
+                BinarySearchTree<String> iterated = fill(factory.get(), keys);
+                int entries = count(iterated);
+                BenchmarkHarness.measure(label + " (" + entries + " entries)", 2, 5, entries, () -> count(iterated));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown benchmark: " + benchmark);
+        }
+    }
+
+    /**
+     * Creates the factory for a tree type.
+     *
+     * @param tree The tree type: {@code BinarySearchTree} or {@code AVLTree}.
+     * @return A factory for empty trees of that type.
+     * @throws IllegalArgumentException if the tree type is unknown.
+     */
+    private static Supplier<BinarySearchTree<String>> treeFactory(String tree) {
+        switch (tree) {
+            case "BinarySearchTree":
+                return BinarySearchTree::new;
+            case "AVLTree":
+                return AVLTree::new;
+            default:
+                throw new IllegalArgumentException("Unknown tree: " + tree);
+        }
+    }
+
+    /**
+     * Adds keys to a tree.
+     *
+     * @param tree The tree.
+     * @param keys The keys to add.
+     * @return The tree.
+     */
+    private static BinarySearchTree<String> fill(BinarySearchTree<String> tree, String[] keys) {
+        for (String key : keys) {
+            tree.add(key);
+        }
+        return tree;
+    }
+
+    /**
+     * Counts the entries of a tree with its in-order iterator.
+     *
+     * @param tree The tree.
+     * @return The number of entries.
+     */
+    private static int count(BinarySearchTree<String> tree) {
+        int entries = 0;
+        Iterator<String> iterator = tree.getInorderIterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+            entries++;
+        }
+        return entries;
+    }
+
+    /**
+     * Measures parsing a generated file with a fresh parser per iteration and prints the throughput.
+     *
+     * @param source    The source file repeated to build the input.
+     * @param megabytes The approximate size of the input, in MB.
+     * @param mode      The input mode of the parser.
+     * @throws IOException if the input cannot be read or written.
+     */
+    private static void parse(Path source, int megabytes, Parser.InputMode mode) throws IOException {
+        Path file = InputBenchmark.generateFile(source, megabytes);
+        long bytes = Files.size(file);
+        String label = "parse " + mode + " " + megabytes + " MB";
+        try {
+            double averageNanos = BenchmarkHarness.measure(label, 1, 3, bytes, () -> {
+                Parser parser = new Parser();
+                parser.setInputMode(mode);
+                try {
+                    parser.initializeAndParse("reservedWords.txt", file.toString());
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+                return parser;
+            });
+            System.out.printf("%-50s %10.1f MB/s%n", label, bytes / (1024.0 * 1024.0) / (averageNanos / 1e9));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package BenchmarkPackage;
+
+import LexerPackage.MappedSourceReader;
+import LexerPackage.SourceScanner;
+import LexerPackage.TokenHandler;
+import LexerPackage.Tokenizer;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Benchmarks tokenizing a large source file read three ways: line by line through a
+ * BufferedReader (the original input path), streamed through a FileReader, and
+ * memory-mapped with a MappedSourceReader. The two streaming readers are also measured
+ * decoding alone, without tokenizing.
+ *
+ * Usage: {@code java BenchmarkPackage.InputBenchmark [sourceFile] [megabytes]}
+ */
+public class InputBenchmark {
+
+    /**
+     * A source of freshly opened readers over the benchmark file.
+     */
+    private interface ReaderFactory {
+        /**
+         * Opens the benchmark file.
+         *
+         * @return A reader over the file.
+         * @throws IOException if the file cannot be opened.
+         */
+        Reader open() throws IOException;
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optional source file to repeat and the size of the generated file in MB (default 256).
+     * @throws IOException if a file cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        String sourceFile = args.length > 0 ? args[0] : "Palindrome.java";
+        int megabytes = BenchmarkHarness.intArg(args, 1, 256);
+
+        Path file = generateFile(Paths.get(sourceFile), megabytes);
+        long bytes = Files.size(file);
+        try {
+            Tokenizer tokenizer = new Tokenizer();
+            int[] count = new int[1];
+            TokenHandler counter = (chars, start, end) -> count[0]++;
+
+            report("BufferedReader.readLine", bytes, BenchmarkHarness.measure("BufferedReader.readLine", 1, 3, bytes, () -> {
+                count[0] = 0;
+                try (BufferedReader reader = new BufferedReader(new FileReader(file.toFile(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        char[] chars = line.trim().toCharArray();
+                        tokenizer.tokenize(chars, 0, chars.length, true, counter);
+                    }
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+                return count[0];
+            }));
+
+            report("FileReader + SourceScanner", bytes, BenchmarkHarness.measure("FileReader + SourceScanner", 1, 3, bytes,
+                    () -> scan(() -> new FileReader(file.toFile(), StandardCharsets.UTF_8), tokenizer, counter, count)));
+
+            report("MappedSourceReader + SourceScanner", bytes, BenchmarkHarness.measure("MappedSourceReader + SourceScanner", 1, 3, bytes,
+                    () -> scan(() -> new MappedSourceReader(file), tokenizer, counter, count)));
+
+            report("FileReader, decode only", bytes, BenchmarkHarness.measure("FileReader, decode only", 1, 3, bytes,
+                    () -> drain(() -> new FileReader(file.toFile(), StandardCharsets.UTF_8))));
+
+            report("MappedSourceReader, decode only", bytes, BenchmarkHarness.measure("MappedSourceReader, decode only", 1, 3, bytes,
+                    () -> drain(() -> new MappedSourceReader(file))));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Tokenizes a freshly opened reader with a SourceScanner.
+     *
+     * @param factory   Opens the reader.
+     * @param tokenizer The tokenizer to use.
+     * @param counter   A handler that counts tokens into {@code count[0]}.
+     * @param count     The token count.
+     * @return The number of tokens.
+     */
+    private static int scan(ReaderFactory factory, Tokenizer tokenizer, TokenHandler counter, int[] count) {
+        count[0] = 0;
+        try (Reader reader = factory.open()) {
+            new SourceScanner().scan(reader, tokenizer, counter);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return count[0];
+    }
+
+    /**
+     * Reads a freshly opened reader to its end without tokenizing.
+     *
+     * @param factory Opens the reader.
+     * @return The number of characters read.
+     */
+    private static long drain(ReaderFactory factory) {
+        char[] buffer = new char[SourceScanner.DEFAULT_WINDOW_SIZE];
+        long characters = 0;
+        try (Reader reader = factory.open()) {
+            int read;
+            while ((read = reader.read(buffer, 0, buffer.length)) >= 0) {
+                characters += read;
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return characters;
+    }
+
+    /**
+     * Prints the throughput of a measured input path.
+     *
+     * @param label        A label describing the input path.
+     * @param bytes        The number of bytes read per iteration.
+     * @param averageNanos The average time of one iteration, in nanoseconds.
+     */
+    static void report(String label, long bytes, double averageNanos) {
+        System.out.printf("%-50s %10.1f MB/s%n", label, bytes / (1024.0 * 1024.0) / (averageNanos / 1e9));
+    }
+
+    /**
+     * Writes a temporary file made of repeated copies of a source file.
+     *
+     * @param source    The source file to repeat.
+     * @param megabytes The approximate size of the generated file, in MB.
+     * @return The path of the generated file.
+     * @throws IOException if a file cannot be read or written.
+     */
+    static Path generateFile(Path source, int megabytes) throws IOException {
+        byte[] content = Files.readAllBytes(source);
+        Path file = Files.createTempFile("input-benchmark", ".java");
+        long target = (long) megabytes * 1024 * 1024;
+        try (OutputStream out = Files.newOutputStream(file)) {
+            for (long written = 0; written < target; written += content.length) {
+                out.write(content);
+            }
+        }
+        return file;
+    }
+}
@@ -0,0 +1,112 @@
+package BenchmarkPackage;
+
+import java.util.Random;
+
+/**
+ * The orders in which benchmark keys are generated. Keys are identifiers such as
+ * {@code id0000042}, so they compare like the identifiers a parser stores.
+ */
+public enum KeyDistribution {
+    /** Distinct keys in random order. */
+    RANDOM,
+    /** Distinct keys in ascending order, the worst case for an unbalanced tree. */
+    SORTED,
+    /**
+     * Keys drawn with Zipf's law (exponent 1) from a set of distinct keys, so a few keys
+     * occur very often and most occur rarely, as identifiers do in source code.
+     */
+    ZIPFIAN;
+
+    /**
+     * Generates keys.
+     *
+     * @param count    The number of keys to generate.
+     * @param distinct The number of distinct keys to draw from; used by ZIPFIAN only.
+     * @param seed     The seed of the random generator, so runs are repeatable.
+     * @return The keys.
+     */
+    public String[] keys(int count, int distinct, long seed) {
+        Random random = new Random(seed);
+        String[] keys = new String[count];
+        switch (this) {
+            case SORTED:
+                for (int i = 0; i < count; i++) {
+                    keys[i] = key(i);
+                }
+                break;
+            case RANDOM:
+                for (int i = 0; i < count; i++) {
+                    keys[i] = key(i);
+                }
+                for (int i = count - 1; i > 0; i--) {
+                    int j = random.nextInt(i + 1);
+                    String swap = keys[i];
+                    keys[i] = keys[j];
+                    keys[j] = swap;
+                }
+                break;
+            default:
+                double[] cumulative = zipfCumulative(distinct);
+                String[] pool = new String[distinct];
+                for (int i = 0; i < count; i++) {
+                    int rank = rankOf(cumulative, random.nextDouble());
+                    if (pool[rank] == null) {
+                        pool[rank] = key(rank);
+                    }
+                    keys[i] = pool[rank];
+                }
+                break;
+        }
+        return keys;
+    }
+
+    /**
+     * Formats the key with the given number.
+     *
+     * @param number The number of the key.
+     * @return The key.
+     */
+    private static String key(int number) {
+        return String.format("id%07d", number);
+    }
+
+    /**
+     * Computes the cumulative probabilities of Zipf's law with exponent 1.
+     *
+     * @param distinct The number of ranks.
+     * @return The probability that a draw has each rank or a lower one.
+     */
+    private static double[] zipfCumulative(int distinct) {
+        double[] cumulative = new double[distinct];
+        double sum = 0;
+        for (int rank = 0; rank < distinct; rank++) {
+            sum += 1.0 / (rank + 1);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < distinct; rank++) {
+            cumulative[rank] /= sum;
+        }
+        return cumulative;
+    }
+
+    /**
+     * Finds the rank a uniform random number falls into.
+     *
+     * @param cumulative The cumulative probabilities of the ranks.
+     * @param uniform    A random number in {@code [0, 1)}.
+     * @return The first rank whose cumulative probability exceeds the number.
+     */
+    private static int rankOf(double[] cumulative, double uniform) {
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] > uniform) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
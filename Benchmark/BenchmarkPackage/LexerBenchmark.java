@@ -0,0 +1,147 @@
+package BenchmarkPackage;
+
+import LexerPackage.JavaLexer;
+import LexerPackage.ReservedWordMatcher;
+import LexerPackage.SymbolTable;
+import LexerPackage.TokenHandler;
+import LexerPackage.TokenScanner;
+import LexerPackage.Tokenizer;
+import LexerPackage.TrieReservedWordMatcher;
+import Main.DirectoryParser;
+import TreePackage.AVLTree;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Benchmarks classifying every token of a source tree into reserved words and identifiers,
+ * comparing the word Tokenizer, which also reports the words of comments and literals,
+ * with the JavaLexer, which skips them. Besides the time, the number of identifier
+ * lookups and the size of the resulting identifier tree are reported. The JDK sources
+ * make a comment-heavy input: unzip {@code $JAVA_HOME/lib/src.zip} and pass a module
+ * directory such as {@code java.base}. Finally, the JavaLexer is measured again with the
+ * identifiers interned in a {@link SymbolTable} and counted in an array, as the Parser does.
+ *
+ * Usage: {@code java BenchmarkPackage.LexerBenchmark [sourceDirectory] [reservedWordsFile]}
+ */
+public class LexerBenchmark {
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optional source directory (default {@code src}) and reserved words file
+     *             (default {@code reservedWords.txt}).
+     * @throws IOException if a file cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        Path sourceDirectory = Paths.get(args.length > 0 ? args[0] : "src");
+        Path reservedWordsFile = Paths.get(args.length > 1 ? args[1] : "reservedWords.txt");
+
+        List<String> reservedWords = new ArrayList<>();
+        for (String line : Files.readAllLines(reservedWordsFile, StandardCharsets.UTF_8)) {
+            if (!line.trim().isEmpty()) {
+                reservedWords.add(line.trim());
+            }
+        }
+        ReservedWordMatcher matcher = new TrieReservedWordMatcher(reservedWords);
+
+        List<char[]> sources = new ArrayList<>();
+        long characters = 0;
+        for (Path file : DirectoryParser.findSourceFiles(List.of(sourceDirectory))) {
+            char[] chars = new String(Files.readAllBytes(file), StandardCharsets.UTF_8).toCharArray();
+            sources.add(chars);
+            characters += chars.length;
+        }
+        System.out.println("Classifying " + sources.size() + " files, " + characters + " characters");
+
+        run("Tokenizer", new Tokenizer(), matcher, sources, characters);
+        run("JavaLexer", new JavaLexer(), matcher, sources, characters);
+        runInterned("JavaLexer + SymbolTable", new JavaLexer(), matcher, sources, characters);
+    }
+
+    /**
+     * Measures classifying every token of the sources with identifiers interned by symbol
+     * ID, so that only the first occurrence of each identifier creates a String.
+     *
+     * @param label      A label describing the scanner.
+     * @param scanner    The scanner that splits the sources into tokens.
+     * @param matcher    The reserved-word matcher.
+     * @param sources    The contents of the source files.
+     * @param characters The total number of characters in the sources.
+     */
+    private static void runInterned(String label, TokenScanner scanner, ReservedWordMatcher matcher,
+                                    List<char[]> sources, long characters) {
+        long[] lookups = new long[1];
+        List<SymbolTable> result = new ArrayList<>(1);
+        BenchmarkHarness.measure(label + " + classify", 1, 3, characters, () -> {
+            SymbolTable symbols = new SymbolTable();
+            int[][] counts = {new int[64]};
+            TokenHandler classifier = (chars, start, end) -> {
+                if (matcher.indexOf(chars, start, end) == ReservedWordMatcher.NOT_RESERVED) {
+                    int id = symbols.intern(chars, start, end);
+                    if (id == counts[0].length) {
+                        counts[0] = Arrays.copyOf(counts[0], id * 2);
+                    }
+                    counts[0][id]++;
+                    lookups[0]++;
+                }
+            };
+            lookups[0] = 0;
+            for (char[] chars : sources) {
+                scanner.reset();
+                scanner.tokenize(chars, 0, chars.length, true, classifier);
+            }
+            result.clear();
+            result.add(symbols);
+            return counts;
+        });
+        System.out.printf("%-50s %,14d identifier lookups %,12d distinct identifiers%n",
+                label, lookups[0], result.get(0).size());
+    }
+
+    /**
+     * Measures classifying every token of the sources with one scanner, then prints how
+     * many identifier lookups were made and how many distinct identifiers were kept.
+     *
+     * @param label      A label describing the scanner.
+     * @param scanner    The scanner that splits the sources into tokens.
+     * @param matcher    The reserved-word matcher.
+     * @param sources    The contents of the source files.
+     * @param characters The total number of characters in the sources.
+     */
+    private static void run(String label, TokenScanner scanner, ReservedWordMatcher matcher,
+                            List<char[]> sources, long characters) {
+        long[] lookups = new long[1];
+        List<AVLTree<String>> result = new ArrayList<>(1);
+        BenchmarkHarness.measure(label + " + classify", 1, 3, characters, () -> {
+            AVLTree<String> identifiers = new AVLTree<>();
+            TokenHandler classifier = (chars, start, end) -> {
+                if (matcher.indexOf(chars, start, end) == ReservedWordMatcher.NOT_RESERVED) {
+                    identifiers.addOccurrence(new String(chars, start, end - start));
+                    lookups[0]++;
+                }
+            };
+            lookups[0] = 0;
+            for (char[] chars : sources) {
+                scanner.reset();
+                scanner.tokenize(chars, 0, chars.length, true, classifier);
+            }
+            result.clear();
+            result.add(identifiers);
+            return identifiers;
+        });
+
+        int distinct = 0;
+        for (Iterator<String> iterator = result.get(0).getInorderIterator(); iterator.hasNext(); iterator.next()) {
+            distinct++;
+        }
+        System.out.printf("%-50s %,14d identifier lookups %,12d distinct identifiers%n", label, lookups[0], distinct);
+    }
+}
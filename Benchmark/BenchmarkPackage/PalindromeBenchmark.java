@@ -0,0 +1,116 @@
+package BenchmarkPackage;
+
+import Main.Palindrome;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Benchmarks {@link Palindrome#isPalindrome(String)} against the original implementation,
+ * which built the reversed string one concatenation at a time, and compares the in-place
+ * checks over strings, character arrays and byte buffers, exactly and ignoring case and
+ * punctuation. Every input is a palindrome, so each check reads the whole input.
+ *
+ * The original implementation takes quadratic time, so it only runs on inputs up to
+ * {@code concatLimitKB} (default 64 KB); larger inputs would take minutes to hours.
+ *
+ * Usage: {@code java BenchmarkPackage.PalindromeBenchmark [sizes=1K,64K,1M,16M,100M] [concatLimitKB]}
+ */
+public class PalindromeBenchmark {
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optional {@code sizes=} list of input sizes in characters (with K or M
+     *             suffixes) and the largest size in KB for the original implementation.
+     */
+    public static void main(String[] args) {
+        String[] sizes = BenchmarkHarness.listArg(args, "sizes", "1K,64K,1M,16M,100M");
+        int concatLimit = 1024 * BenchmarkHarness.intArg(positional(args), 0, 64);
+
+        for (String size : sizes) {
+            int length = parseSize(size);
+            char[] chars = palindrome(length);
+            String text = new String(chars);
+            byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++) {
+                bytes[i] = (byte) chars[i];
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            int iterations = length <= 1 << 20 ? 20 : 3;
+            String suffix = " (" + size + ")";
+
+            if (length <= concatLimit) {
+                BenchmarkHarness.measure("Concatenating reverse" + suffix, 2, length <= 1024 ? 20 : 3, length,
+                        () -> concatenatingIsPalindrome(text));
+            }
+            BenchmarkHarness.measure("isPalindrome(String)" + suffix, 3, iterations, length,
+                    () -> Palindrome.isPalindrome(text));
+            BenchmarkHarness.measure("isPalindrome(char[])" + suffix, 3, iterations, length,
+                    () -> Palindrome.isPalindrome(chars, 0, length, Palindrome.Mode.EXACT));
+            BenchmarkHarness.measure("isPalindrome(ByteBuffer)" + suffix, 3, iterations, length,
+                    () -> Palindrome.isPalindrome(buffer, Palindrome.Mode.EXACT));
+            BenchmarkHarness.measure("isPalindrome(String, LETTERS_AND_DIGITS)" + suffix, 3, iterations, length,
+                    () -> Palindrome.isPalindrome(text, Palindrome.Mode.LETTERS_AND_DIGITS));
+            BenchmarkHarness.measure("isPalindrome(ByteBuffer, LETTERS_AND_DIGITS)" + suffix, 3, iterations, length,
+                    () -> Palindrome.isPalindrome(buffer, Palindrome.Mode.LETTERS_AND_DIGITS));
+        }
+    }
+
+    /**
+     * The original implementation: builds the reversed string by repeated concatenation
+     * and compares it with the input.
+     *
+     * @param str The input string.
+     * @return {@code true} if the string is a palindrome.
+     */
+    static boolean concatenatingIsPalindrome(String str) {
+        String rev = "";
+        for (int i = str.length() - 1; i >= 0; i--) {
+            rev = rev + str.charAt(i);
+        }
+        return str.equals(rev);
+    }
+
+    /**
+     * Builds a palindrome of mixed-case words, spaces and punctuation.
+     *
+     * @param length The number of characters.
+     * @return The palindrome.
+     */
+    private static char[] palindrome(int length) {
+        String pattern = "Never odd or even, ";
+        char[] chars = new char[length];
+        for (int i = 0; i < (length + 1) / 2; i++) {
+            chars[i] = pattern.charAt(i % pattern.length());
+            chars[length - 1 - i] = chars[i];
+        }
+        return chars;
+    }
+
+    /**
+     * Parses a size such as {@code 64K} or {@code 100M}.
+     *
+     * @param size The size, optionally with a K or M suffix.
+     * @return The size in characters.
+     */
+    private static int parseSize(String size) {
+        char unit = Character.toUpperCase(size.charAt(size.length() - 1));
+        if (unit == 'K') {
+            return Integer.parseInt(size.substring(0, size.length() - 1)) << 10;
+        } else if (unit == 'M') {
+            return Integer.parseInt(size.substring(0, size.length() - 1)) << 20;
+        }
+        return Integer.parseInt(size);
+    }
+
+    /**
+     * Removes the {@code name=value} arguments, leaving the positional ones.
+     *
+     * @param args The command-line arguments.
+     * @return The positional arguments.
+     */
+    private static String[] positional(String[] args) {
+        return Arrays.stream(args).filter(arg -> !arg.contains("=")).toArray(String[]::new);
+    }
+}
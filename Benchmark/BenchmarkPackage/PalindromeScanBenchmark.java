@@ -0,0 +1,92 @@
+package BenchmarkPackage;
+
+import Main.Palindrome;
+import Main.PalindromeScanner;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+/**
+ * Benchmarks counting the palindromic lines of a large file: line by line through a
+ * BufferedReader with the original lowercase copy and concatenating check, line by line
+ * with the in-place check, as a parallel stream of lines with
+ * {@link PalindromeScanner#scan(Stream)}, and memory-mapped in parallel segments with
+ * {@link PalindromeScanner#scanLines(Path)}.
+ *
+ * Usage: {@code java BenchmarkPackage.PalindromeScanBenchmark [sourceFile] [megabytes]}
+ */
+public class PalindromeScanBenchmark {
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optional source file to repeat and the size of the generated file in MB (default 256).
+     * @throws IOException if a file cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        String sourceFile = args.length > 0 ? args[0] : "Palindrome.java";
+        int megabytes = BenchmarkHarness.intArg(args, 1, 256);
+
+        Path file = InputBenchmark.generateFile(Paths.get(sourceFile), megabytes);
+        long bytes = Files.size(file);
+        PalindromeScanner scanner = new PalindromeScanner(Palindrome.Mode.LETTERS_AND_DIGITS);
+        try {
+            InputBenchmark.report("readLine, toLowerCase, concatenating reverse", bytes,
+                    BenchmarkHarness.measure("readLine, toLowerCase, concatenating reverse", 1, 3, bytes, () -> {
+                        long found = 0;
+                        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                            String line;
+                            while ((line = reader.readLine()) != null) {
+                                if (PalindromeBenchmark.concatenatingIsPalindrome(line.toLowerCase())) {
+                                    found++;
+                                }
+                            }
+                        } catch (IOException e) {
+                            throw new IllegalStateException(e);
+                        }
+                        return found;
+                    }));
+
+            InputBenchmark.report("readLine, isPalindrome in place", bytes,
+                    BenchmarkHarness.measure("readLine, isPalindrome in place", 1, 3, bytes, () -> {
+                        long found = 0;
+                        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                            String line;
+                            while ((line = reader.readLine()) != null) {
+                                if (Palindrome.isPalindrome(line, Palindrome.Mode.LETTERS_AND_DIGITS)) {
+                                    found++;
+                                }
+                            }
+                        } catch (IOException e) {
+                            throw new IllegalStateException(e);
+                        }
+                        return found;
+                    }));
+
+            InputBenchmark.report("PalindromeScanner.scan(Files.lines)", bytes,
+                    BenchmarkHarness.measure("PalindromeScanner.scan(Files.lines)", 1, 3, bytes, () -> {
+                        try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+                            return scanner.scan(lines).getPalindromes();
+                        } catch (IOException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }));
+
+            InputBenchmark.report("PalindromeScanner.scanLines (mapped)", bytes,
+                    BenchmarkHarness.measure("PalindromeScanner.scanLines (mapped)", 1, 3, bytes, () -> {
+                        try {
+                            return scanner.scanLines(file).getPalindromes();
+                        } catch (IOException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
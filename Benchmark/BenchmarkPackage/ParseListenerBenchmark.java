@@ -0,0 +1,95 @@
+package BenchmarkPackage;
+
+import Main.AsyncParseListener;
+import Main.BufferedParseListener;
+import Main.ParseListener;
+import Main.Parser;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Benchmarks parsing a large source file with each way of reporting parse events: no
+ * listener, one println per event (the original behaviour), the buffered listener and the
+ * asynchronous listener. Output goes to a discarding stream, so the figures show the
+ * cost of producing the output rather than the speed of a terminal.
+ *
+ * Usage: {@code java BenchmarkPackage.ParseListenerBenchmark [sourceFile] [megabytes]}
+ */
+public class ParseListenerBenchmark {
+
+    /**
+     * A source of fresh listeners, one per benchmark iteration.
+     */
+    private interface ListenerFactory {
+        /**
+         * Creates a listener.
+         *
+         * @return A new listener.
+         */
+        ParseListener create();
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optional source file to repeat and the size of the generated file in MB (default 32).
+     * @throws IOException if a file cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        String sourceFile = args.length > 0 ? args[0] : "Palindrome.java";
+        int megabytes = BenchmarkHarness.intArg(args, 1, 32);
+
+        Path file = InputBenchmark.generateFile(Paths.get(sourceFile), megabytes);
+        long bytes = Files.size(file);
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+        try {
+            measure("no listener", file, bytes, () -> ParseListener.NONE);
+            measure("println per event", file, bytes, () -> new ParseListener() {
+                @Override
+                public void reservedWord(String word) {
+                    discard.println("Reserved Word: " + word);
+                }
+
+                @Override
+                public void identifierAdded(String identifier) {
+                    discard.println("Identifier Added: " + identifier);
+                }
+            });
+            measure("BufferedParseListener", file, bytes,
+                    () -> new BufferedParseListener(new OutputStreamWriter(discard)));
+            measure("AsyncParseListener", file, bytes,
+                    () -> new AsyncParseListener(new BufferedParseListener(new OutputStreamWriter(discard))));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Measures parsing the file with a fresh parser and listener per iteration. The time
+     * includes closing the listener, so pending output is counted.
+     *
+     * @param label   A label describing the listener.
+     * @param file    The file to parse.
+     * @param bytes   The size of the file.
+     * @param factory Creates the listener.
+     */
+    private static void measure(String label, Path file, long bytes, ListenerFactory factory) {
+        double averageNanos = BenchmarkHarness.measure(label, 1, 3, bytes, () -> {
+            Parser parser = new Parser();
+            try (ParseListener listener = factory.create()) {
+                parser.setParseListener(listener);
+                parser.initializeAndParse("reservedWords.txt", file.toString());
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return parser;
+        });
+        System.out.printf("%-50s %10.1f MB/s%n", label, bytes / (1024.0 * 1024.0) / (averageNanos / 1e9));
+    }
+}
@@ -0,0 +1,63 @@
+package BenchmarkPackage;
+
+import Main.ParseMetrics;
+import Main.Parser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks the cost of recording parse metrics: parsing a large source file with
+ * metrics disabled, enabled, and enabled with JFR events. Start the JVM with
+ * {@code -XX:StartFlightRecording} to include the cost of a running recording.
+ *
+ * Usage: {@code java BenchmarkPackage.ParseMetricsBenchmark [sourceFile] [megabytes]}
+ */
+public class ParseMetricsBenchmark {
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optional source file to repeat and the size of the generated file in MB (default 32).
+     * @throws IOException if a file cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        String sourceFile = args.length > 0 ? args[0] : "Palindrome.java";
+        int megabytes = BenchmarkHarness.intArg(args, 1, 32);
+
+        Path file = InputBenchmark.generateFile(Paths.get(sourceFile), megabytes);
+        long bytes = Files.size(file);
+        try {
+            measure("metrics disabled", file, bytes, () -> ParseMetrics.DISABLED);
+            measure("metrics enabled", file, bytes, ParseMetrics::new);
+            measure("metrics enabled with JFR events", file, bytes, () -> new ParseMetrics(true));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Measures parsing the file with a fresh parser and registry per iteration.
+     *
+     * @param label   A label describing the registry.
+     * @param file    The file to parse.
+     * @param bytes   The size of the file.
+     * @param metrics Creates the registry.
+     */
+    private static void measure(String label, Path file, long bytes, Supplier<ParseMetrics> metrics) {
+        double averageNanos = BenchmarkHarness.measure(label, 1, 3, bytes, () -> {
+            Parser parser = new Parser();
+            parser.setMetrics(metrics.get());
+            try {
+                parser.initializeAndParse("reservedWords.txt", file.toString());
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return parser;
+        });
+        System.out.printf("%-50s %10.1f MB/s%n", label, bytes / (1024.0 * 1024.0) / (averageNanos / 1e9));
+    }
+}
@@ -0,0 +1,122 @@
+package BenchmarkPackage;
+
+import Main.DirectoryParser;
+import Main.Parser;
+import Main.PipelinedParser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks the staged {@link PipelinedParser} against parsing on one thread and against
+ * the fork-join {@link DirectoryParser}: first on one large file, where only the stages
+ * can overlap, then on several files. The inputs are built by repeating a source file.
+ *
+ * Usage: {@code java BenchmarkPackage.PipelineBenchmark [source] [megabytes] [files]}
+ */
+public class PipelineBenchmark {
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optional source file to repeat, total input size in MB (default 64) and
+     *             number of files for the second part (default 8).
+     * @throws IOException if a file cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        Path source = Paths.get(args.length > 0 ? args[0] : "Palindrome.java");
+        int megabytes = BenchmarkHarness.intArg(args, 1, 64);
+        int fileCount = BenchmarkHarness.intArg(args, 2, 8);
+
+        Path large = InputBenchmark.generateFile(source, megabytes);
+        try {
+            compare(Collections.singletonList(large), "1 file of " + megabytes + " MB");
+        } finally {
+            Files.delete(large);
+        }
+
+        List<Path> files = new ArrayList<>();
+        try {
+            for (int i = 0; i < fileCount; i++) {
+                files.add(InputBenchmark.generateFile(source, Math.max(1, megabytes / fileCount)));
+            }
+            compare(files, fileCount + " files of " + Math.max(1, megabytes / fileCount) + " MB");
+        } finally {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Measures every way of parsing the given files.
+     *
+     * @param files The files to parse.
+     * @param label A description of the files.
+     * @throws IOException if the size of a file cannot be read.
+     */
+    private static void compare(List<Path> files, String label) throws IOException {
+        long bytes = 0;
+        for (Path file : files) {
+            bytes += Files.size(file);
+        }
+        report("sequential, " + label, bytes, () -> parse(parser -> {
+            for (Path file : files) {
+                parser.parseFile(file.toString());
+            }
+        }));
+        report("DirectoryParser, " + label, bytes, () -> parse(parser -> new DirectoryParser(parser).parse(files)));
+        for (int tokenizers : new int[] {1, 2}) {
+            report("pipelined, " + tokenizers + " tokenizer(s), " + label, bytes, () -> parse(parser ->
+                    new PipelinedParser(parser, tokenizers, PipelinedParser.DEFAULT_CHUNK_SIZE).parse(files)));
+        }
+    }
+
+    /**
+     * Parses with a new parser that has the reserved words loaded.
+     *
+     * @param action Parses the input with the parser.
+     * @return The parser.
+     */
+    private static Parser parse(ParseAction action) {
+        Parser parser = new Parser();
+        try {
+            parser.initializeReservedWords("reservedWords.txt");
+            action.parse(parser);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return parser;
+    }
+
+    /**
+     * Measures a parse and prints its throughput.
+     *
+     * @param label The label of the measurement.
+     * @param bytes The size of the input, in bytes.
+     * @param parse Runs the parse.
+     */
+    private static void report(String label, long bytes, Supplier<Parser> parse) {
+        double averageNanos = BenchmarkHarness.measure(label, 1, 3, bytes, parse);
+        System.out.printf("%-50s %10.1f MB/s%n", label, bytes / (1024.0 * 1024.0) / (averageNanos / 1e9));
+    }
+
+    /**
+     * A way of parsing the input.
+     */
+    private interface ParseAction {
+        /**
+         * Parses the input.
+         *
+         * @param parser A parser with the reserved words loaded.
+         * @throws IOException if a file cannot be read.
+         */
+        void parse(Parser parser) throws IOException;
+    }
+}
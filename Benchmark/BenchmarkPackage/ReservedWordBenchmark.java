@@ -0,0 +1,85 @@
+package BenchmarkPackage;
+
+import LexerPackage.EytzingerReservedWordMatcher;
+import LexerPackage.ReservedWordMatcher;
+import LexerPackage.SearchTreeReservedWordMatcher;
+import LexerPackage.TrieReservedWordMatcher;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks reserved-word classification of tokens held as slices of a character buffer,
+ * comparing the trie matcher and the Eytzinger array matcher with the search tree path,
+ * which must copy each token into a String before comparing it.
+ *
+ * Usage: {@code java BenchmarkPackage.ReservedWordBenchmark [reservedWordsFile] [sourceFile] [tokens]}
+ */
+public class ReservedWordBenchmark {
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optional reserved words file, source file to draw tokens from, and token count.
+     * @throws IOException if an input file cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        String reservedWordsFile = args.length > 0 ? args[0] : "reservedWords.txt";
+        String sourceFile = args.length > 1 ? args[1] : "Palindrome.java";
+        int tokens = BenchmarkHarness.intArg(args, 2, 1_000_000);
+
+        List<String> reservedWords = Files.readAllLines(Paths.get(reservedWordsFile)).stream()
+                .map(String::trim).filter(word -> !word.isEmpty()).collect(Collectors.toList());
+
+        // Lay the source tokens out back to back in one buffer, repeating them up to the token count
+        List<String> sourceTokens = new ArrayList<>();
+        for (String token : new String(Files.readAllBytes(Paths.get(sourceFile))).split("[^a-zA-Z0-9]+")) {
+            if (!token.isEmpty()) {
+                sourceTokens.add(token);
+            }
+        }
+        StringBuilder text = new StringBuilder();
+        int[] starts = new int[tokens];
+        int[] ends = new int[tokens];
+        for (int i = 0; i < tokens; i++) {
+            starts[i] = text.length();
+            text.append(sourceTokens.get(i % sourceTokens.size()));
+            ends[i] = text.length();
+        }
+        char[] buffer = text.toString().toCharArray();
+
+        ReservedWordMatcher tree = new SearchTreeReservedWordMatcher(reservedWords);
+        ReservedWordMatcher trie = new TrieReservedWordMatcher(reservedWords);
+        ReservedWordMatcher eytzinger = new EytzingerReservedWordMatcher(reservedWords);
+
+        BenchmarkHarness.measure("SearchTreeReservedWordMatcher (" + tokens + " tokens)", 5, 10, tokens,
+                () -> countReserved(tree, buffer, starts, ends));
+        BenchmarkHarness.measure("TrieReservedWordMatcher (" + tokens + " tokens)", 5, 10, tokens,
+                () -> countReserved(trie, buffer, starts, ends));
+        BenchmarkHarness.measure("EytzingerReservedWordMatcher (" + tokens + " tokens)", 5, 10, tokens,
+                () -> countReserved(eytzinger, buffer, starts, ends));
+    }
+
+    /**
+     * Classifies every token slice and counts the reserved words.
+     *
+     * @param matcher The matcher to classify with.
+     * @param buffer  The buffer holding the tokens.
+     * @param starts  The start index of each token.
+     * @param ends    The end index of each token.
+     * @return The number of reserved-word tokens.
+     */
+    private static int countReserved(ReservedWordMatcher matcher, char[] buffer, int[] starts, int[] ends) {
+        int reserved = 0;
+        for (int i = 0; i < starts.length; i++) {
+            if (matcher.indexOf(buffer, starts[i], ends[i]) != ReservedWordMatcher.NOT_RESERVED) {
+                reserved++;
+            }
+        }
+        return reserved;
+    }
+}
@@ -0,0 +1,141 @@
+package BenchmarkPackage;
+
+import StackAndQueuePackage.ArrayQueue;
+import StackAndQueuePackage.ArrayStack;
+import StackAndQueuePackage.IntQueue;
+import StackAndQueuePackage.IntStack;
+import StackAndQueuePackage.LinkedQueue;
+import StackAndQueuePackage.LinkedStack;
+
+import java.util.ArrayDeque;
+
+/**
+ * Benchmarks the stacks and queues as traversal work-lists. Each run walks an implicit
+ * complete binary tree of {@code nodes} nodes, whose children of node {@code i} are
+ * {@code 2i + 1} and {@code 2i + 2}: breadth first with a queue and depth first with a
+ * stack. The object versions hold preallocated {@code Integer} nodes, so only the
+ * work-list itself allocates; the primitive versions hold the indexes.
+ *
+ * Usage: {@code java BenchmarkPackage.StackQueueBenchmark [nodes]}
+ */
+public class StackQueueBenchmark {
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optional number of nodes in the tree (default 1,000,000).
+     */
+    public static void main(String[] args) {
+        int nodes = BenchmarkHarness.intArg(args, 0, 1_000_000);
+        Integer[] tree = new Integer[nodes];
+        for (int i = 0; i < nodes; i++) {
+            tree[i] = i;
+        }
+
+        BenchmarkHarness.measure("breadth first with LinkedQueue (" + nodes + ")", 3, 5, nodes, () -> {
+            LinkedQueue<Integer> queue = new LinkedQueue<>();
+            long sum = 0;
+            queue.enqueue(tree[0]);
+            while (!queue.isEmpty()) {
+                int node = queue.dequeue();
+                sum += node;
+                for (int child = 2 * node + 1; child <= 2 * node + 2 && child < nodes; child++) {
+                    queue.enqueue(tree[child]);
+                }
+            }
+            return sum;
+        });
+        BenchmarkHarness.measure("breadth first with ArrayQueue (" + nodes + ")", 3, 5, nodes, () -> {
+            ArrayQueue<Integer> queue = new ArrayQueue<>();
+            long sum = 0;
+            queue.enqueue(tree[0]);
+            while (!queue.isEmpty()) {
+                int node = queue.dequeue();
+                sum += node;
+                for (int child = 2 * node + 1; child <= 2 * node + 2 && child < nodes; child++) {
+                    queue.enqueue(tree[child]);
+                }
+            }
+            return sum;
+        });
+        BenchmarkHarness.measure("breadth first with ArrayDeque (" + nodes + ")", 3, 5, nodes, () -> {
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            long sum = 0;
+            queue.addLast(tree[0]);
+            while (!queue.isEmpty()) {
+                int node = queue.pollFirst();
+                sum += node;
+                for (int child = 2 * node + 1; child <= 2 * node + 2 && child < nodes; child++) {
+                    queue.addLast(tree[child]);
+                }
+            }
+            return sum;
+        });
+        BenchmarkHarness.measure("breadth first with IntQueue (" + nodes + ")", 3, 5, nodes, () -> {
+            IntQueue queue = new IntQueue();
+            long sum = 0;
+            queue.enqueue(0);
+            while (!queue.isEmpty()) {
+                int node = queue.dequeue();
+                sum += node;
+                for (int child = 2 * node + 1; child <= 2 * node + 2 && child < nodes; child++) {
+                    queue.enqueue(child);
+                }
+            }
+            return sum;
+        });
+
+        BenchmarkHarness.measure("depth first with LinkedStack (" + nodes + ")", 3, 5, nodes, () -> {
+            LinkedStack<Integer> stack = new LinkedStack<>();
+            long sum = 0;
+            stack.push(tree[0]);
+            while (!stack.isEmpty()) {
+                int node = stack.pop();
+                sum += node;
+                for (int child = 2 * node + 1; child <= 2 * node + 2 && child < nodes; child++) {
+                    stack.push(tree[child]);
+                }
+            }
+            return sum;
+        });
+        BenchmarkHarness.measure("depth first with ArrayStack (" + nodes + ")", 3, 5, nodes, () -> {
+            ArrayStack<Integer> stack = new ArrayStack<>();
+            long sum = 0;
+            stack.push(tree[0]);
+            while (!stack.isEmpty()) {
+                int node = stack.pop();
+                sum += node;
+                for (int child = 2 * node + 1; child <= 2 * node + 2 && child < nodes; child++) {
+                    stack.push(tree[child]);
+                }
+            }
+            return sum;
+        });
+        BenchmarkHarness.measure("depth first with ArrayDeque (" + nodes + ")", 3, 5, nodes, () -> {
+            ArrayDeque<Integer> stack = new ArrayDeque<>();
+            long sum = 0;
+            stack.push(tree[0]);
+            while (!stack.isEmpty()) {
+                int node = stack.pop();
+                sum += node;
+                for (int child = 2 * node + 1; child <= 2 * node + 2 && child < nodes; child++) {
+                    stack.push(tree[child]);
+                }
+            }
+            return sum;
+        });
+        BenchmarkHarness.measure("depth first with IntStack (" + nodes + ")", 3, 5, nodes, () -> {
+            IntStack stack = new IntStack();
+            long sum = 0;
+            stack.push(0);
+            while (!stack.isEmpty()) {
+                int node = stack.pop();
+                sum += node;
+                for (int child = 2 * node + 1; child <= 2 * node + 2 && child < nodes; child++) {
+                    stack.push(child);
+                }
+            }
+            return sum;
+        });
+    }
+}
@@ -0,0 +1,65 @@
+package BenchmarkPackage;
+
+import LexerPackage.JavaLexer;
+import LexerPackage.TokenHandler;
+import LexerPackage.Tokenizer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Benchmarks tokenizing source text, comparing {@code String.split} on each line with
+ * the hand-written Tokenizer scanning a character buffer and with the JavaLexer, which
+ * also skips comments and literals and scans identifiers by the Java rules.
+ *
+ * Usage: {@code java BenchmarkPackage.TokenizerBenchmark [sourceFile] [copies]}
+ */
+public class TokenizerBenchmark {
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optional source file and the number of copies of it to tokenize (default 2,000).
+     * @throws IOException if the source file cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        String sourceFile = args.length > 0 ? args[0] : "Palindrome.java";
+        int copies = BenchmarkHarness.intArg(args, 1, 2_000);
+
+        String source = new String(Files.readAllBytes(Paths.get(sourceFile)));
+        String text = source.repeat(copies);
+        String[] lines = text.split("\n");
+        char[] chars = text.toCharArray();
+        long megabytes = Math.max(1, chars.length / (1024 * 1024));
+        System.out.println("Tokenizing " + chars.length + " characters (" + megabytes + " MB)");
+
+        BenchmarkHarness.measure("String.split per line", 3, 5, chars.length, () -> {
+            int count = 0;
+            for (String line : lines) {
+                for (String token : line.split("[^a-zA-Z0-9]+")) {
+                    if (!token.isEmpty()) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        });
+
+        Tokenizer tokenizer = new Tokenizer();
+        int[] count = new int[1];
+        TokenHandler counter = (buffer, start, end) -> count[0]++;
+        BenchmarkHarness.measure("Tokenizer over char[]", 3, 5, chars.length, () -> {
+            count[0] = 0;
+            tokenizer.tokenize(chars, 0, chars.length, true, counter);
+            return count[0];
+        });
+
+        JavaLexer lexer = new JavaLexer();
+        BenchmarkHarness.measure("JavaLexer over char[]", 3, 5, chars.length, () -> {
+            count[0] = 0;
+            lexer.tokenize(chars, 0, chars.length, true, counter);
+            return count[0];
+        });
+    }
+}
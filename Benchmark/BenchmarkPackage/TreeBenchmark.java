@@ -0,0 +1,167 @@
+package BenchmarkPackage;
+
+import TreePackage.AVLTree;
+import TreePackage.BinarySearchTree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Benchmarks identifier inserts, lookups and in-order traversals on adversarial, sorted
+ * input, comparing the unbalanced BinarySearchTree with the self-balancing AVLTree, and
+ * merging a batch into an AVL tree one entry at a time or with a bulk {@code addAll}. Finally, many per-file
+ * trees are reduced into one, by iterating and adding or with the parallel union.
+ *
+ * Usage: {@code java BenchmarkPackage.TreeBenchmark [tokens] [unbalancedTokens]}
+ */
+public class TreeBenchmark {
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Optional number of tokens for the AVL tree (default 1,000,000) and for the
+     *             unbalanced tree (default 10,000; sorted input makes it quadratic).
+     */
+    public static void main(String[] args) {
+        int tokens = BenchmarkHarness.intArg(args, 0, 1_000_000);
+        int unbalancedTokens = BenchmarkHarness.intArg(args, 1, 10_000);
+
+        String[] identifiers = sortedIdentifiers(tokens);
+        String[] unbalancedIdentifiers = sortedIdentifiers(Math.min(tokens, unbalancedTokens));
+
+        BenchmarkHarness.measure("AVLTree sorted insert (" + tokens + ")", 3, 5, tokens, () -> {
+            AVLTree<String> tree = new AVLTree<>();
+            for (String identifier : identifiers) {
+                tree.add(identifier);
+            }
+            return tree;
+        });
+
+        AVLTree<String> avl = new AVLTree<>();
+        for (String identifier : identifiers) {
+            avl.add(identifier);
+        }
+        BenchmarkHarness.measure("AVLTree contains (" + tokens + ")", 3, 5, tokens, () -> {
+            int found = 0;
+            for (String identifier : identifiers) {
+                if (avl.contains(identifier)) {
+                    found++;
+                }
+            }
+            return found;
+        });
+
+        BenchmarkHarness.measure("AVLTree in-order iterator (" + tokens + ")", 3, 5, tokens, () -> {
+            int length = 0;
+            Iterator<String> iterator = avl.getInorderIterator();
+            while (iterator.hasNext()) {
+                length += iterator.next().length();
+            }
+            return length;
+        });
+        BenchmarkHarness.measure("AVLTree forEachInOrder (" + tokens + ")", 3, 5, tokens, () -> {
+            int[] length = new int[1];
+            avl.forEachInOrder(identifier -> length[0] += identifier.length());
+            return length[0];
+        });
+        BenchmarkHarness.measure("AVLTree parallel stream (" + tokens + ")", 3, 5, tokens,
+                () -> avl.parallelStream().mapToInt(String::length).sum());
+
+        BenchmarkHarness.measure("BinarySearchTree sorted insert (" + unbalancedIdentifiers.length + ")",
+                1, 3, unbalancedIdentifiers.length, () -> {
+                    BinarySearchTree<String> tree = new BinarySearchTree<>();
+                    for (String identifier : unbalancedIdentifiers) {
+                        tree.add(identifier);
+                    }
+                    return tree;
+                });
+
+        // Merge the odd-numbered identifiers into a tree holding the even-numbered ones
+        List<String> evens = new ArrayList<>();
+        List<String> odds = new ArrayList<>();
+        for (int i = 0; i < identifiers.length; i++) {
+            (i % 2 == 0 ? evens : odds).add(identifiers[i]);
+        }
+        BenchmarkHarness.measure("AVLTree merge batch by add (" + odds.size() + ")", 3, 5, odds.size(), () -> {
+            AVLTree<String> tree = new AVLTree<>();
+            tree.addAll(evens);
+            for (String identifier : odds) {
+                tree.add(identifier);
+            }
+            return tree;
+        });
+        BenchmarkHarness.measure("AVLTree merge batch by addAll (" + odds.size() + ")", 3, 5, odds.size(), () -> {
+            AVLTree<String> tree = new AVLTree<>();
+            tree.addAll(evens);
+            tree.addAll(odds);
+            return tree;
+        });
+        BenchmarkHarness.measure("BinarySearchTree.fromSorted (" + tokens + ")", 3, 5, tokens,
+                () -> BinarySearchTree.fromSorted(Arrays.asList(identifiers)));
+
+        reduce(256, 2_000, 20_000);
+
+        System.out.println("AVLTree height for " + tokens + " sorted tokens: " + avl.getHeight());
+    }
+
+    /**
+     * Measures reducing per-file identifier trees into one tree.
+     *
+     * @param files       The number of per-file trees.
+     * @param perFile     The number of identifier occurrences per file.
+     * @param vocabulary  The number of distinct identifiers the files draw from.
+     */
+    private static void reduce(int files, int perFile, int vocabulary) {
+        String[] identifiers = sortedIdentifiers(vocabulary);
+        Random random = new Random(42);
+        List<BinarySearchTree<String>> trees = new ArrayList<>();
+        long entries = 0;
+        for (int f = 0; f < files; f++) {
+            AVLTree<String> tree = new AVLTree<>();
+            for (int i = 0; i < perFile; i++) {
+                tree.addOccurrence(identifiers[random.nextInt(vocabulary)]);
+            }
+            trees.add(tree);
+            for (Iterator<String> iterator = tree.getInorderIterator(); iterator.hasNext(); iterator.next()) {
+                entries++;
+            }
+        }
+
+        BenchmarkHarness.measure("reduce " + files + " trees by add (" + entries + " entries)", 2, 5, entries, () -> {
+            AVLTree<String> result = new AVLTree<>();
+            for (BinarySearchTree<String> tree : trees) {
+                Iterator<String> iterator = tree.getInorderIterator();
+                while (iterator.hasNext()) {
+                    String identifier = iterator.next();
+                    result.addOccurrences(identifier, tree.getOccurrenceCount(identifier));
+                }
+            }
+            return result;
+        });
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        BenchmarkHarness.measure("reduce " + files + " trees by unionWithAll (" + entries + " entries)", 2, 5, entries, () -> {
+            AVLTree<String> result = new AVLTree<>();
+            result.unionWithAll(trees, pool);
+            return result;
+        });
+    }
+
+    /**
+     * Generates identifiers such as {@code field0000042} whose natural order matches
+     * their generation order, mimicking generated code.
+     *
+     * @param count The number of identifiers to generate.
+     * @return The identifiers in sorted order.
+     */
+    static String[] sortedIdentifiers(int count) {
+        String[] identifiers = new String[count];
+        for (int i = 0; i < count; i++) {
+            identifiers[i] = String.format("field%07d", i);
+        }
+        return identifiers;
+    }
+}
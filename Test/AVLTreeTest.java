@@ -0,0 +1,215 @@
+package TreePackage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the AVLTree class, verifying search tree behavior and the AVL height bound.
+ */
+class AVLTreeTest {
+
+    private AVLTree<Integer> avl;
+
+    /**
+     * Sets up a new AVLTree instance before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        avl = new AVLTree<>();
+    }
+
+    /**
+     * Returns the maximum height an AVL tree with the given number of nodes may have.
+     *
+     * @param size The number of nodes in the tree.
+     * @return The AVL height bound, 1.4405 * log2(n + 2) - 0.3277.
+     */
+    private static int maxAVLHeight(int size) {
+        return (int) Math.floor(1.4405 * (Math.log(size + 2) / Math.log(2)) - 0.3277);
+    }
+
+    /**
+     * Tests the add and contains methods to ensure elements are stored and found.
+     */
+    @Test
+    void addAndContains() {
+        avl.add(40);
+        avl.add(20);
+        avl.add(60);
+
+        assertTrue(avl.contains(40), "add() should add elements to the AVL tree.");
+        assertTrue(avl.contains(20), "add() should add elements to the AVL tree.");
+        assertTrue(avl.contains(60), "add() should add elements to the AVL tree.");
+        assertFalse(avl.contains(50), "contains() should return false for non-existent elements.");
+        assertEquals(20, avl.getEntry(20), "getEntry() should return the correct element.");
+    }
+
+    /**
+     * Tests the addIfAbsent method to ensure it reports whether the entry was added.
+     */
+    @Test
+    void addIfAbsent() {
+        assertTrue(avl.addIfAbsent(1), "addIfAbsent() should return true for a new entry.");
+        assertTrue(avl.addIfAbsent(2), "addIfAbsent() should return true for a new entry.");
+        assertTrue(avl.addIfAbsent(3), "addIfAbsent() should return true when the insert triggers a rotation.");
+        assertFalse(avl.addIfAbsent(1), "addIfAbsent() should return false for an existing entry.");
+        assertEquals(2, avl.getRootData(), "Sorted inserts should rotate the middle entry to the root.");
+    }
+
+    /**
+     * Tests that adding a duplicate entry leaves the tree unchanged.
+     */
+    @Test
+    void addDuplicate() {
+        avl.add(1);
+        avl.add(2);
+        avl.add(2);
+        avl.add(1);
+
+        List<Integer> entries = new ArrayList<>();
+        Iterator<Integer> iterator = avl.getInorderIterator();
+        while (iterator.hasNext()) {
+            entries.add(iterator.next());
+        }
+        assertEquals(List.of(1, 2), entries, "Duplicates should not be stored twice.");
+    }
+
+    /**
+     * Tests that sorted input, the worst case for an unbalanced tree, keeps the height logarithmic.
+     */
+    @Test
+    void sortedInsertStaysBalanced() {
+        int size = 100_000;
+        for (int i = 0; i < size; i++) {
+            avl.add(i);
+        }
+
+        assertTrue(avl.getHeight() <= maxAVLHeight(size), "Height " + avl.getHeight() + " exceeds the AVL bound.");
+        assertEquals(17, avl.getHeight(), "A tree built from 100000 sorted entries should have height 17.");
+    }
+
+    /**
+     * Tests that descending and random input keep the height within the AVL bound
+     * and that in-order traversal still yields sorted entries.
+     */
+    @Test
+    void randomInsertStaysBalancedAndOrdered() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            values.add(i);
+        }
+        Collections.shuffle(values, new Random(42));
+        for (int value : values) {
+            avl.add(value);
+        }
+        for (int i = -1; i > -10_000; i--) {
+            avl.add(i);
+        }
+
+        int size = 50_000 + 9_999;
+        assertTrue(avl.getHeight() <= maxAVLHeight(size), "Height " + avl.getHeight() + " exceeds the AVL bound.");
+
+        Iterator<Integer> iterator = avl.getInorderIterator();
+        int expected = -9_999;
+        while (iterator.hasNext()) {
+            assertEquals(expected++, iterator.next(), "In-order traversal should yield sorted entries.");
+        }
+        assertEquals(50_000, expected, "In-order traversal should visit every entry.");
+    }
+
+    /**
+     * Tests that the cached height matches the height computed by walking the tree.
+     */
+    @Test
+    void getHeight() {
+        assertEquals(0, avl.getHeight(), "An empty tree should have height 0.");
+        for (int i = 0; i < 1_000; i++) {
+            avl.add(i);
+        }
+
+        BinaryTree<Integer> walked = new BinaryTree<>();
+        walked.setRootNode(avl.getRootNode());
+        assertEquals(walked.getHeight(), avl.getHeight(), "Cached height should match the walked height.");
+    }
+
+    /**
+     * Tests that a structure of plain nodes given to initializeRoot or setRootNode is
+     * rebuilt as a balanced AVL tree with the same entries and counts, which later
+     * insertions keep balanced.
+     */
+    @Test
+    void initializeRoot() {
+        BinaryNode<Integer> chain = null;
+        for (int i = 7; i >= 1; i--) {
+            chain = new BinaryNode<>(i, null, chain); // A degenerate chain 1 -> 2 -> ... -> 7
+            chain.addToCount(i);
+        }
+        avl.initializeRoot(chain);
+        assertEquals(3, avl.getHeight(), "Seven entries should be rebuilt into a tree of height 3.");
+        for (int i = 1; i <= 7; i++) {
+            assertEquals(i, avl.getOccurrenceCount(i), "The count of " + i + " should be kept.");
+        }
+        assertNull(chain.getLeftChild(), "The given nodes should not be modified.");
+        assertEquals(2, chain.getRightChild().getData(), "The given nodes should not be modified.");
+
+        for (int i = 8; i <= 100; i++) {
+            avl.add(i);
+        }
+        BinaryTree<Integer> walked = new BinaryTree<>();
+        walked.setRootNode(avl.getRootNode());
+        assertEquals(walked.getHeight(), avl.getHeight(), "Cached heights should stay valid after insertions.");
+        assertTrue(avl.getHeight() <= 8, "The tree should stay balanced after insertions.");
+
+        avl.setRootNode(new BinaryNode<>(42));
+        assertEquals(1, avl.getHeight(), "setRootNode should rebuild plain nodes the same way.");
+        assertTrue(avl.contains(42), "The new root's entry should be present.");
+        avl.setRootNode(null);
+        assertTrue(avl.isEmpty(), "A null root should empty the tree.");
+    }
+
+    /**
+     * Tests that occurrence counts stay with their entries while rotations restructure the tree.
+     */
+    @Test
+    void addOccurrences() {
+        for (int round = 1; round <= 3; round++) {
+            for (int i = 0; i < 100; i++) {
+                assertEquals(round, avl.addOccurrence(i), "Each round should add one occurrence per entry.");
+            }
+        }
+        avl.addOccurrences(42, 10);
+
+        assertEquals(13, avl.getOccurrenceCount(42), "Counts should survive rebalancing.");
+        assertEquals(3, avl.getOccurrenceCount(0), "Counts should survive rebalancing.");
+        assertEquals(42, avl.getMostFrequent(1).get(0).getEntry(), "The most frequent entry should rank first.");
+    }
+
+    /**
+     * Tests that a bulk load produces valid AVL nodes: the cached height is correct and
+     * later insertions keep rebalancing.
+     */
+    @Test
+    void addAllStaysAVL() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 1_000; i += 2) {
+            values.add(i);
+        }
+        avl.add(1);
+        avl.addAll(values);
+        assertEquals(9, avl.getHeight(), "501 entries should be relinked into a tree of height 9.");
+
+        for (int i = 1_000; i < 3_000; i++) {
+            avl.add(i);
+        }
+        assertTrue(avl.getHeight() <= maxAVLHeight(2_501), "Height " + avl.getHeight() + " exceeds the AVL bound.");
+        assertTrue(avl.contains(1) && avl.contains(998) && avl.contains(2_999), "Every entry should be found.");
+    }
+}
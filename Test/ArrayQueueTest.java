@@ -0,0 +1,104 @@
+package StackAndQueuePackage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ArrayQueue class, including growth while the entries wrap around
+ * the end of the array.
+ */
+class ArrayQueueTest {
+
+    private ArrayQueue<String> queue;
+
+    /**
+     * Initializes a new queue with a small capacity before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        queue = new ArrayQueue<>(4);
+    }
+
+    /**
+     * Tests that entries leave the queue in the order they entered.
+     */
+    @Test
+    void enqueueAndDequeue() {
+        queue.enqueue("A");
+        queue.enqueue("B");
+        queue.enqueue("C");
+        assertEquals(3, queue.size(), "The queue should hold three entries.");
+        assertEquals("A", queue.peek(), "Peek should return the front entry.");
+        assertEquals("A", queue.dequeue(), "The first entry should leave first.");
+        assertEquals("B", queue.dequeue(), "The second entry should leave second.");
+        assertEquals("C", queue.dequeue(), "The third entry should leave third.");
+        assertTrue(queue.isEmpty(), "The queue should be empty after removing every entry.");
+    }
+
+    /**
+     * Tests that an empty queue throws on dequeue and peek.
+     */
+    @Test
+    void emptyQueueThrows() {
+        assertThrows(NoSuchElementException.class, queue::dequeue, "Dequeue on an empty queue should throw.");
+        assertThrows(NoSuchElementException.class, queue::peek, "Peek on an empty queue should throw.");
+    }
+
+    /**
+     * Tests that growing the array keeps the order when the entries wrap around its end.
+     */
+    @Test
+    void growsWhileWrapped() {
+        queue.enqueue("A");
+        queue.enqueue("B");
+        queue.enqueue("C");
+        queue.dequeue();
+        queue.dequeue();
+        for (String entry : new String[] {"D", "E", "F", "G", "H"}) {
+            queue.enqueue(entry); // Wraps around, then grows with the front in the middle
+        }
+        StringBuilder order = new StringBuilder();
+        while (!queue.isEmpty()) {
+            order.append(queue.dequeue());
+        }
+        assertEquals("CDEFGH", order.toString(), "Growing should keep the entries in order.");
+    }
+
+    /**
+     * Tests that random operations agree with ArrayDeque.
+     */
+    @Test
+    void agreesWithArrayDeque() {
+        ArrayQueue<Integer> integers = new ArrayQueue<>(0);
+        ArrayDeque<Integer> expected = new ArrayDeque<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            if (random.nextInt(3) > 0 || expected.isEmpty()) {
+                integers.enqueue(i);
+                expected.addLast(i);
+            } else {
+                assertEquals(expected.pollFirst(), integers.dequeue(), "Entries should leave in order.");
+            }
+            assertEquals(expected.size(), integers.size(), "The sizes should agree.");
+        }
+    }
+
+    /**
+     * Tests that clear empties the queue and that it is usable afterwards.
+     */
+    @Test
+    void clear() {
+        queue.enqueue("A");
+        queue.enqueue("B");
+        queue.clear();
+        assertTrue(queue.isEmpty(), "The queue should be empty after clearing.");
+        queue.enqueue("C");
+        assertEquals("C", queue.dequeue(), "The queue should work after clearing.");
+    }
+}
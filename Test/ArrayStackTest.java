@@ -0,0 +1,60 @@
+package StackAndQueuePackage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EmptyStackException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ArrayStack class.
+ */
+class ArrayStackTest {
+
+    private ArrayStack<String> stack;
+
+    /**
+     * Initializes a new stack with a small capacity before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        stack = new ArrayStack<>(2);
+    }
+
+    /**
+     * Tests that entries leave the stack in the reverse order they entered, past the initial capacity.
+     */
+    @Test
+    void pushAndPop() {
+        stack.push("A");
+        stack.push("B");
+        stack.push("C");
+        assertEquals(3, stack.size(), "The stack should grow to hold three entries.");
+        assertEquals("C", stack.peek(), "Peek should return the top entry.");
+        assertEquals("C", stack.pop(), "The last entry should leave first.");
+        assertEquals("B", stack.pop(), "The second entry should leave second.");
+        assertEquals("A", stack.pop(), "The first entry should leave last.");
+        assertTrue(stack.isEmpty(), "The stack should be empty after removing every entry.");
+    }
+
+    /**
+     * Tests that an empty stack throws on pop and peek.
+     */
+    @Test
+    void emptyStackThrows() {
+        assertThrows(EmptyStackException.class, stack::pop, "Pop on an empty stack should throw.");
+        assertThrows(EmptyStackException.class, stack::peek, "Peek on an empty stack should throw.");
+    }
+
+    /**
+     * Tests that clear empties the stack.
+     */
+    @Test
+    void clear() {
+        stack.push("A");
+        stack.clear();
+        assertTrue(stack.isEmpty(), "The stack should be empty after clearing.");
+        assertEquals(0, stack.size(), "The size should be 0 after clearing.");
+    }
+}
@@ -4,6 +4,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -65,6 +72,40 @@ class BinarySearchTreeTest {
         assertTrue(bst.contains(60), "add() should add elements to the BST.");
     }
 
+    /**
+     * Tests the addIfAbsent method to ensure it reports whether the entry was added.
+     */
+    @Test
+    void addIfAbsent() {
+        assertTrue(bst.addIfAbsent(40), "addIfAbsent() should return true for a new entry.");
+        assertTrue(bst.addIfAbsent(20), "addIfAbsent() should return true for a new entry.");
+        assertFalse(bst.addIfAbsent(40), "addIfAbsent() should return false for an existing entry.");
+        assertFalse(bst.addIfAbsent(20), "addIfAbsent() should return false for an existing entry.");
+        assertTrue(bst.contains(20), "addIfAbsent() should add elements to the BST.");
+    }
+
+    /**
+     * Tests that lookups and inserts on a degenerate tree with millions of levels
+     * do not overflow the call stack.
+     */
+    @Test
+    void degenerateTreeIsStackSafe() {
+        int size = 2_000_000;
+        BinaryNode<Integer> rootNode = new BinaryNode<>(0);
+        BinaryNode<Integer> currentNode = rootNode;
+        for (int i = 1; i < size; i++) {
+            BinaryNode<Integer> nextNode = new BinaryNode<>(i);
+            currentNode.setRightChild(nextNode);
+            currentNode = nextNode;
+        }
+        bst.initializeRoot(rootNode);
+
+        assertTrue(bst.contains(size - 1), "contains() should find the deepest entry.");
+        assertFalse(bst.contains(size), "contains() should return false past the deepest entry.");
+        assertTrue(bst.addIfAbsent(size), "addIfAbsent() should add below the deepest entry.");
+        assertFalse(bst.addIfAbsent(size), "addIfAbsent() should find the entry it just added.");
+    }
+
     /**
      * Tests the initializeRoot method to ensure the root node is set correctly.
      */
@@ -102,4 +143,229 @@ class BinarySearchTreeTest {
         String expectedOutput = "50 30 70 20 40 60 80";
         assertEquals(expectedOutput, outContent.toString().trim(), "breadthFirstTraversal() should print nodes in level order.");
     }
+
+    /**
+     * Tests that addOccurrences counts repeated entries in the node holding each entry.
+     */
+    @Test
+    void addOccurrences() {
+        assertEquals(1, bst.addOccurrence(10), "The first occurrence should be counted.");
+        assertEquals(1, bst.addOccurrence(5), "The first occurrence should be counted.");
+        assertEquals(2, bst.addOccurrence(10), "A repeated occurrence should be counted.");
+        assertEquals(7, bst.addOccurrences(10, 5), "Several occurrences can be recorded at once.");
+
+        assertEquals(7, bst.getOccurrenceCount(10), "getOccurrenceCount() should return the recorded count.");
+        assertEquals(1, bst.getOccurrenceCount(5), "getOccurrenceCount() should return the recorded count.");
+        assertEquals(0, bst.getOccurrenceCount(99), "An absent entry should have no occurrences.");
+
+        bst.add(20);
+        assertEquals(0, bst.getOccurrenceCount(20), "add() should not record an occurrence.");
+    }
+
+    /**
+     * Tests that getMostFrequent returns the k most frequent entries, most frequent first,
+     * with ties in ascending order.
+     */
+    @Test
+    void getMostFrequent() {
+        int[] entries = {50, 30, 70, 20, 40, 60, 80};
+        int[] counts = {3, 9, 1, 9, 4, 2, 7};
+        for (int i = 0; i < entries.length; i++) {
+            bst.addOccurrences(entries[i], counts[i]);
+        }
+
+        List<EntryCount<Integer>> top = bst.getMostFrequent(3);
+        assertEquals(List.of(new EntryCount<>(20, 9), new EntryCount<>(30, 9), new EntryCount<>(80, 7)), top,
+                "The three most frequent entries should be returned in rank order.");
+        assertEquals(entries.length, bst.getMostFrequent(100).size(), "k larger than the tree should return every entry.");
+        assertEquals(entries.length, bst.getMostFrequent(Integer.MAX_VALUE).size(), "A huge k should not be preallocated.");
+        assertTrue(bst.getMostFrequent(0).isEmpty(), "k of 0 should return nothing.");
+        assertThrows(IllegalArgumentException.class, () -> bst.getMostFrequent(-1), "A negative k should be rejected.");
+    }
+
+    /**
+     * Tests that fromSorted builds a perfectly balanced tree and rejects unsorted input.
+     */
+    @Test
+    void fromSorted() {
+        BinarySearchTree<Integer> tree = BinarySearchTree.fromSorted(List.of(1, 2, 3, 4, 5, 6, 7));
+        assertEquals(4, tree.getRootData(), "The middle entry should be the root.");
+        assertEquals(3, tree.getHeight(), "Seven entries should form a complete tree of height 3.");
+        assertTrue(tree.contains(7), "Every entry should be found.");
+        assertThrows(IllegalArgumentException.class, () -> BinarySearchTree.fromSorted(List.of(2, 1)));
+        assertThrows(IllegalArgumentException.class, () -> BinarySearchTree.fromSorted(List.of(1, 1)));
+    }
+
+    /**
+     * Tests that addAll merges an unsorted batch into a tree, ignoring duplicates, keeping
+     * existing counts and leaving the tree balanced.
+     */
+    @Test
+    void addAll() {
+        for (int i = 1; i <= 5; i++) {
+            bst.add(i); // A degenerate chain of height 5
+        }
+        bst.addOccurrences(3, 4);
+        bst.addAll(List.of(10, 0, 3, 7, 10, 6, 9, 8));
+
+        List<Integer> entries = new ArrayList<>();
+        Iterator<Integer> iterator = bst.getInorderIterator();
+        while (iterator.hasNext()) {
+            entries.add(iterator.next());
+        }
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10), entries, "Every entry should be stored once, in order.");
+        assertEquals(4, bst.getHeight(), "Eleven entries should be relinked into a tree of height 4.");
+        assertEquals(4, bst.getOccurrenceCount(3), "Existing counts should be kept.");
+    }
+
+    /**
+     * Tests that a batch much smaller than the tree is added one entry at a time, so the
+     * tree is not relinked, and that counts are still recorded.
+     */
+    @Test
+    void addSmallBatchToLargeTree() {
+        for (int i = 0; i < 200; i++) {
+            bst.add(i); // A degenerate chain of height 200
+        }
+        bst.addAll(List.of(500, 100, -1));
+        bst.addAllOccurrences(List.of(new EntryCount<>(100, 2), new EntryCount<>(600, 3), new EntryCount<>(100, 1)));
+
+        assertEquals(202, bst.getHeight(), "The chain should only grow by the new leaves, not be relinked.");
+        assertEquals(0, bst.getRootData(), "The root should not change.");
+        assertTrue(bst.contains(-1) && bst.contains(500) && bst.contains(600), "The new entries should be added.");
+        assertEquals(3, bst.getOccurrenceCount(100), "Equal batch entries should be summed onto the existing entry.");
+        assertEquals(3, bst.getOccurrenceCount(600), "A new entry should get its count.");
+    }
+
+    /**
+     * Tests that addAllOccurrences sums the counts of equal entries and of entries already present.
+     */
+    @Test
+    void addAllOccurrences() {
+        bst.addOccurrences(20, 2);
+        bst.addAllOccurrences(List.of(new EntryCount<>(30, 1), new EntryCount<>(10, 5),
+                new EntryCount<>(20, 3), new EntryCount<>(30, 4)));
+
+        assertEquals(5, bst.getOccurrenceCount(10), "A new entry should get its count.");
+        assertEquals(5, bst.getOccurrenceCount(20), "An existing entry should add the batch count.");
+        assertEquals(5, bst.getOccurrenceCount(30), "Equal batch entries should be summed.");
+        assertEquals(20, bst.getRootData(), "The tree should be rebalanced around the middle entry.");
+    }
+
+    /**
+     * Tests that unionWith adds every entry of another tree, sums the counts of shared
+     * entries and leaves the other tree unchanged.
+     */
+    @Test
+    void unionWith() {
+        bst.addOccurrences(1, 1);
+        bst.addOccurrences(3, 2);
+        AVLTree<Integer> other = new AVLTree<>();
+        other.addOccurrences(3, 5);
+        other.addOccurrences(2, 1);
+        other.addOccurrences(4, 1);
+
+        bst.unionWith(other);
+        assertEquals(7, bst.getOccurrenceCount(3), "Counts of shared entries should be summed.");
+        assertEquals(1, bst.getOccurrenceCount(2), "Entries only in the other tree should be added.");
+        assertEquals(3, bst.getHeight(), "Four entries should be relinked into a tree of height 3.");
+        assertEquals(5, other.getOccurrenceCount(3), "The other tree should not be modified.");
+        assertFalse(other.contains(1), "The other tree should not be modified.");
+    }
+
+    /**
+     * Tests that the parallel union of many trees matches adding their entries one at a time.
+     */
+    @Test
+    void unionWithAll() {
+        List<BinarySearchTree<Integer>> trees = new ArrayList<>();
+        BinarySearchTree<Integer> expected = new BinarySearchTree<>();
+        for (int t = 0; t < 37; t++) {
+            BinarySearchTree<Integer> tree = new AVLTree<>();
+            for (int i = t; i < 200; i += 1 + t % 5) {
+                tree.addOccurrences(i, t + 1);
+                expected.addOccurrences(i, t + 1);
+            }
+            trees.add(tree);
+        }
+        bst.addOccurrences(500, 1);
+
+        bst.unionWithAll(trees, new ForkJoinPool(4));
+        for (int i = 0; i < 200; i++) {
+            assertEquals(expected.getOccurrenceCount(i), bst.getOccurrenceCount(i), "Counts of " + i + " should be summed.");
+        }
+        assertEquals(1, bst.getOccurrenceCount(500), "Entries already in the tree should be kept.");
+        assertEquals(8, bst.getHeight(), "The 201 entries should form a balanced tree.");
+    }
+
+    /**
+     * Tests that the in-order traversals fail fast when an entry is added, but not when
+     * only an occurrence count changes.
+     */
+    @Test
+    void traversalsFailFast() {
+        bst.add(2);
+        bst.add(1);
+        bst.add(3);
+
+        Iterator<Integer> iterator = bst.getInorderIterator();
+        iterator.next();
+        bst.addOccurrences(2, 1);
+        assertEquals(2, iterator.next(), "Counting an existing entry should not disturb the iterator.");
+        bst.add(4);
+        assertThrows(ConcurrentModificationException.class, iterator::next, "Adding an entry should invalidate the iterator.");
+
+        assertThrows(ConcurrentModificationException.class, () -> bst.forEachInOrder(entry -> bst.add(entry + 10)),
+                "Adding an entry during forEachInOrder should fail fast.");
+        Spliterator<Integer> spliterator = bst.spliterator();
+        bst.addAll(List.of(20, 21));
+        assertThrows(ConcurrentModificationException.class, () -> spliterator.tryAdvance(entry -> { }),
+                "A bulk add should invalidate the spliterator.");
+    }
+
+    /**
+     * Tests that a parallel stream over the tree sees every entry once, in ascending order.
+     */
+    @Test
+    void parallelStream() {
+        List<Integer> entries = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            entries.add(i);
+        }
+        BinarySearchTree<Integer> tree = BinarySearchTree.fromSorted(entries);
+
+        assertEquals(49995000L, tree.parallelStream().mapToLong(Integer::longValue).sum(),
+                "The parallel sum should include every entry once.");
+        assertEquals(entries, tree.parallelStream().collect(Collectors.toList()),
+                "An ordered parallel stream should keep the entries in ascending order.");
+        assertTrue(tree.spliterator().hasCharacteristics(Spliterator.SORTED | Spliterator.DISTINCT),
+                "The entries of a search tree are sorted and distinct.");
+        assertNull(tree.spliterator().getComparator(), "The entries should be in their natural order.");
+    }
+
+    /**
+     * Tests that a read-only view answers lookups like the tree it views and rejects
+     * every change.
+     */
+    @Test
+    void unmodifiable() {
+        for (int i : new int[] {4, 2, 6, 1, 3}) {
+            bst.add(i);
+        }
+        bst.addOccurrences(3, 2);
+        BinarySearchTree<Integer> view = BinarySearchTree.unmodifiable(bst);
+        assertTrue(view.contains(6), "The view should hold the tree's entries.");
+        assertEquals(2, view.getOccurrenceCount(3), "The view should report the tree's counts.");
+        assertEquals(bst.getHeight(), view.getHeight(), "The view should have the tree's height.");
+        assertEquals(List.of(1, 2, 3, 4, 6), view.stream().collect(Collectors.toList()), "The view should traverse in order.");
+        assertSame(view, BinarySearchTree.unmodifiable(view), "A view should not be wrapped again.");
+
+        assertThrows(UnsupportedOperationException.class, () -> view.add(5), "add should be rejected.");
+        assertThrows(UnsupportedOperationException.class, () -> view.addOccurrence(1), "addOccurrence should be rejected.");
+        assertThrows(UnsupportedOperationException.class, () -> view.addAll(List.of(7)), "addAll should be rejected.");
+        assertThrows(UnsupportedOperationException.class, () -> view.unionWith(new BinarySearchTree<>()), "unionWith should be rejected.");
+        assertThrows(UnsupportedOperationException.class, () -> view.initializeRoot(new BinaryNode<>(9)), "initializeRoot should be rejected.");
+        assertThrows(UnsupportedOperationException.class, view::clear, "clear should be rejected.");
+        assertEquals(5, bst.stream().count(), "The viewed tree should be unchanged.");
+    }
 }
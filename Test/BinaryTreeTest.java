@@ -5,7 +5,12 @@ import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -76,6 +81,20 @@ class BinaryTreeTest {
         assertEquals(rootNode, binaryTree.getRootNode(), "Root node should match the one set.");
     }
 
+    /**
+     * Tests the getHeight method to ensure it counts the nodes on the longest root-to-leaf path.
+     */
+    @Test
+    void getHeight() {
+        assertEquals(0, binaryTree.getHeight(), "Height should be 0 for an empty tree.");
+        binaryTree.setRootNode(new BinaryNode<>("Root"));
+        assertEquals(1, binaryTree.getHeight(), "Height should be 1 for a single node.");
+        binaryTree.getRootNode().setLeftChild(new BinaryNode<>("Left"));
+        binaryTree.getRootNode().getLeftChild().setRightChild(new BinaryNode<>("LeftRight"));
+        binaryTree.getRootNode().setRightChild(new BinaryNode<>("Right"));
+        assertEquals(3, binaryTree.getHeight(), "Height should count the nodes on the longest path.");
+    }
+
     /**
      * Tests the getInorderIterator method to ensure it performs in-order traversal correctly.
      */
@@ -93,6 +112,122 @@ class BinaryTreeTest {
         assertFalse(iterator.hasNext(), "Iterator should have no more elements.");
     }
 
+    /**
+     * Tests that the in-order iterator throws once every node has been visited.
+     */
+    @Test
+    void getInorderIteratorThrowsWhenExhausted() {
+        binaryTree.setRootNode(new BinaryNode<>("Root"));
+        Iterator<String> iterator = binaryTree.getInorderIterator();
+        assertEquals("Root", iterator.next(), "The only element should be the root.");
+        assertThrows(NoSuchElementException.class, iterator::next, "An exhausted iterator should throw.");
+        assertThrows(NoSuchElementException.class, () -> new BinaryTree<String>().getInorderIterator().next(),
+                "An iterator over an empty tree should throw.");
+    }
+
+    /**
+     * Tests that the in-order traversals handle a degenerate tree deeper than the initial stack.
+     */
+    @Test
+    void traversalsOfDeepTree() {
+        int depth = 1000;
+        BinaryTree<Integer> chain = new BinaryTree<>();
+        chain.setRootNode(new BinaryNode<>(depth - 1));
+        BinaryNode<Integer> node = chain.getRootNode();
+        for (int i = depth - 2; i >= 0; i--) {
+            node.setLeftChild(new BinaryNode<>(i));
+            node = node.getLeftChild();
+        }
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < depth; i++) {
+            expected.add(i);
+        }
+        List<Integer> iterated = new ArrayList<>();
+        Iterator<Integer> iterator = chain.getInorderIterator();
+        while (iterator.hasNext()) {
+            iterated.add(iterator.next());
+        }
+        List<Integer> visited = new ArrayList<>();
+        chain.forEachInOrder(visited::add);
+
+        assertEquals(expected, iterated, "The iterator should visit every node of a deep tree in order.");
+        assertEquals(expected, visited, "forEachInOrder should visit every node of a deep tree in order.");
+        assertEquals(expected, chain.stream().collect(Collectors.toList()), "The stream should visit every node in order.");
+    }
+
+    /**
+     * Tests that forEachInOrder visits the nodes in in-order sequence.
+     */
+    @Test
+    void forEachInOrder() {
+        binaryTree.setRootNode(new BinaryNode<>("D"));
+        binaryTree.getRootNode().setLeftChild(new BinaryNode<>("B"));
+        binaryTree.getRootNode().getLeftChild().setLeftChild(new BinaryNode<>("A"));
+        binaryTree.getRootNode().getLeftChild().setRightChild(new BinaryNode<>("C"));
+        binaryTree.getRootNode().setRightChild(new BinaryNode<>("E"));
+
+        StringBuilder visited = new StringBuilder();
+        binaryTree.forEachInOrder(visited::append);
+        assertEquals("ABCDE", visited.toString(), "forEachInOrder should visit the nodes in order.");
+
+        new BinaryTree<String>().forEachInOrder(visited::append);
+        assertEquals("ABCDE", visited.toString(), "forEachInOrder should visit nothing in an empty tree.");
+    }
+
+    /**
+     * Tests that splitting the spliterator repeatedly keeps every element exactly once and in order.
+     */
+    @Test
+    void spliteratorSplitsInOrder() {
+        BinaryTree<Integer> tree = new BinaryTree<>();
+        tree.setRootNode(buildBalanced(0, 99));
+
+        List<Spliterator<Integer>> parts = new ArrayList<>();
+        parts.add(tree.spliterator());
+        for (int round = 0; round < 5; round++) {
+            List<Spliterator<Integer>> next = new ArrayList<>();
+            for (Spliterator<Integer> part : parts) {
+                Spliterator<Integer> prefix = part.trySplit();
+                if (prefix != null) {
+                    next.add(prefix);
+                }
+                next.add(part);
+            }
+            parts = next;
+        }
+        assertTrue(parts.size() > 16, "The spliterator should split repeatedly.");
+
+        List<Integer> visited = new ArrayList<>();
+        for (Spliterator<Integer> part : parts) {
+            part.forEachRemaining(visited::add);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, visited.get(i), "The parts should cover the elements in order.");
+        }
+        assertEquals(100, visited.size(), "Every element should be visited exactly once.");
+        assertTrue(tree.spliterator().hasCharacteristics(Spliterator.ORDERED), "The spliterator should be ordered.");
+        assertFalse(tree.spliterator().hasCharacteristics(Spliterator.SORTED), "A plain binary tree is not sorted.");
+    }
+
+    /**
+     * Builds a balanced subtree holding a range of integers.
+     *
+     * @param first The smallest integer.
+     * @param last  The largest integer.
+     * @return The root of the subtree, or {@code null} if the range is empty.
+     */
+    private static BinaryNode<Integer> buildBalanced(int first, int last) {
+        if (first > last) {
+            return null;
+        }
+        int mid = (first + last) >>> 1;
+        BinaryNode<Integer> node = new BinaryNode<>(mid);
+        node.setLeftChild(buildBalanced(first, mid - 1));
+        node.setRightChild(buildBalanced(mid + 1, last));
+        return node;
+    }
+
     /**
      * Tests the breadthFirstTraversal method to ensure nodes are traversed in level order.
      */
@@ -0,0 +1,177 @@
+package StackAndQueuePackage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit and stress tests for the ConcurrentArrayQueue class.
+ */
+class ConcurrentArrayQueueTest {
+
+    /**
+     * Tests that the queue is first-in, first-out and refuses entries once full.
+     */
+    @Test
+    void offerAndPoll() {
+        ConcurrentArrayQueue<String> queue = new ConcurrentArrayQueue<>(3);
+        assertEquals(4, queue.capacity(), "The capacity should be rounded up to a power of two.");
+        for (String entry : new String[] {"A", "B", "C", "D"}) {
+            assertTrue(queue.offer(entry), "Entries should be accepted while there is room.");
+        }
+        assertFalse(queue.offer("E"), "A full queue should refuse entries.");
+        assertThrows(IllegalStateException.class, () -> queue.enqueue("E"), "Enqueue on a full queue should throw.");
+        assertEquals(4, queue.size(), "The queue should hold four entries.");
+        assertEquals("A", queue.peek(), "Peek should return the front entry.");
+        assertEquals("A", queue.poll(), "The first entry should leave first.");
+        assertTrue(queue.offer("E"), "A freed slot should be reused on the next lap.");
+        assertEquals("B", queue.dequeue(), "The second entry should leave second.");
+        assertEquals("C", queue.poll(), "The third entry should leave third.");
+        assertEquals("D", queue.poll(), "The fourth entry should leave fourth.");
+        assertEquals("E", queue.poll(), "The fifth entry should leave last.");
+        assertNull(queue.poll(), "Poll on an empty queue should return null.");
+        assertTrue(queue.isEmpty(), "The queue should be empty.");
+        assertThrows(NoSuchElementException.class, queue::dequeue, "Dequeue on an empty queue should throw.");
+        assertThrows(NoSuchElementException.class, queue::peek, "Peek on an empty queue should throw.");
+        assertThrows(NullPointerException.class, () -> queue.offer(null), "Null entries should be refused.");
+    }
+
+    /**
+     * Tests that the timed operations give up once the timeout expires.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    void timedOperationsTimeOut() throws InterruptedException {
+        ConcurrentArrayQueue<Integer> queue = new ConcurrentArrayQueue<>(1);
+        assertEquals(2, queue.capacity(), "The capacity should be at least 2.");
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS), "A timed poll on an empty queue should time out.");
+        queue.put(1);
+        queue.put(2);
+        assertFalse(queue.offer(3, 10, TimeUnit.MILLISECONDS), "A timed offer on a full queue should time out.");
+        assertEquals(1, queue.take(), "Take should return the front entry.");
+    }
+
+    /**
+     * Tests that a producer blocked on a full queue resumes once a consumer makes room,
+     * and that a waiting thread can be interrupted.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    void putWaitsForRoom() throws InterruptedException {
+        ConcurrentArrayQueue<Integer> queue = new ConcurrentArrayQueue<>(2);
+        queue.put(1);
+        queue.put(2);
+        Thread producer = new Thread(() -> {
+            try {
+                queue.put(3);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        Thread.sleep(20);
+        assertEquals(1, queue.take(), "The first entry should leave first.");
+        producer.join(5000);
+        assertFalse(producer.isAlive(), "The producer should finish once there is room.");
+        assertEquals(2, queue.take(), "The second entry should leave second.");
+        assertEquals(3, queue.take(), "The waiting producer's entry should arrive.");
+
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        Thread consumer = new Thread(() -> {
+            try {
+                queue.take();
+            } catch (InterruptedException e) {
+                thrown.set(e);
+            }
+        });
+        consumer.start();
+        consumer.interrupt();
+        consumer.join(5000);
+        assertTrue(thrown.get() instanceof InterruptedException, "A waiting consumer should be interruptible.");
+    }
+
+    /**
+     * Stress test: several producers and consumers share a small queue. Every entry must
+     * arrive exactly once, and the entries of each producer must arrive at each consumer
+     * in the order they were produced.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    void manyProducersAndConsumers() throws InterruptedException {
+        int producers = 4;
+        int consumers = 4;
+        int perProducer = 50_000;
+        ConcurrentArrayQueue<Long> queue = new ConcurrentArrayQueue<>(64);
+        boolean[] seen = new boolean[producers * perProducer];
+        AtomicReference<String> failure = new AtomicReference<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        queue.put(producer << 32 | i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads.add(new Thread(() -> {
+                long[] lastSeen = new long[producers];
+                Arrays.fill(lastSeen, -1);
+                try {
+                    start.await();
+                    for (int i = 0; i < producers * perProducer / consumers; i++) {
+                        long entry = queue.take();
+                        int producer = (int) (entry >>> 32);
+                        int sequence = (int) entry;
+                        if (sequence <= lastSeen[producer]) {
+                            failure.compareAndSet(null, "Producer " + producer + " arrived out of order.");
+                        }
+                        lastSeen[producer] = sequence;
+                        synchronized (seen) {
+                            int index = producer * perProducer + sequence;
+                            if (seen[index]) {
+                                failure.compareAndSet(null, "Entry " + index + " arrived twice.");
+                            }
+                            seen[index] = true;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join(60_000);
+            assertFalse(thread.isAlive(), "Every thread should finish.");
+        }
+
+        assertNull(failure.get(), "Entries should arrive once and in order per producer.");
+        for (int i = 0; i < seen.length; i++) {
+            assertTrue(seen[i], "Entry " + i + " should have arrived.");
+        }
+        assertTrue(queue.isEmpty(), "The queue should be empty once every entry has arrived.");
+    }
+}
@@ -0,0 +1,132 @@
+package TreePackage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ConcurrentSearchTree class, verifying the search tree operations and
+ * that concurrent addIfAbsent calls add each entry exactly once.
+ */
+class ConcurrentSearchTreeTest {
+
+    private ConcurrentSearchTree<String> tree;
+
+    /**
+     * Initializes an empty tree before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        tree = new ConcurrentSearchTree<>();
+    }
+
+    /**
+     * Tests adding, finding and iterating over entries from a single thread.
+     */
+    @Test
+    void addAndIterate() {
+        assertTrue(tree.isEmpty(), "A new tree should be empty.");
+        assertNull(tree.getRootData(), "An empty tree should have no root data.");
+
+        assertTrue(tree.addIfAbsent("m"), "A new entry should be added.");
+        assertFalse(tree.addIfAbsent("m"), "A duplicate entry should not be added.");
+        tree.add("c");
+        tree.add("x");
+
+        assertTrue(tree.contains("c"), "An added entry should be found.");
+        assertEquals("x", tree.getEntry("x"), "getEntry should return the stored entry.");
+        assertNull(tree.getEntry("q"), "getEntry should return null for a missing entry.");
+        assertEquals("c", tree.getRootData(), "The smallest entry should stand in for the root.");
+
+        Iterator<String> iterator = tree.getInorderIterator();
+        assertEquals("c", iterator.next(), "Iteration should be in order.");
+        assertEquals("m", iterator.next(), "Iteration should be in order.");
+        assertEquals("x", iterator.next(), "Iteration should be in order.");
+        assertFalse(iterator.hasNext(), "Iteration should end after the last entry.");
+
+        tree.clear();
+        assertTrue(tree.isEmpty(), "The tree should be empty after clear.");
+    }
+
+    /**
+     * Tests that when many threads add overlapping entries at once, each entry is reported
+     * as added exactly once and the tree iterates in sorted order afterwards.
+     *
+     * @throws InterruptedException if the test thread is interrupted.
+     */
+    @Test
+    void concurrentAddIfAbsent() throws InterruptedException {
+        int threads = 8;
+        int distinct = 5_000;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger added = new AtomicInteger();
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < distinct; i++) {
+                    if (tree.addIfAbsent("id" + ((i + offset * 997) % distinct))) {
+                        added.incrementAndGet();
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(distinct, added.get(), "Each distinct entry should be added by exactly one thread.");
+        assertEquals(distinct, tree.size(), "The tree should hold each distinct entry once.");
+
+        Iterator<String> iterator = tree.getInorderIterator();
+        String previous = iterator.next();
+        while (iterator.hasNext()) {
+            String current = iterator.next();
+            assertTrue(previous.compareTo(current) < 0, "Iteration should be strictly ascending.");
+            previous = current;
+        }
+    }
+
+    /**
+     * Tests that occurrences recorded by several threads at once are all counted.
+     *
+     * @throws InterruptedException if the test thread is interrupted.
+     */
+    @Test
+    void concurrentAddOccurrence() throws InterruptedException {
+        int threads = 8;
+        int perThread = 10_000;
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    tree.addOccurrence((i % 2 == 0) ? "even" : "odd");
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(threads * perThread / 2, tree.getOccurrenceCount("even"), "No occurrence should be lost.");
+        assertEquals(threads * perThread / 2, tree.getOccurrenceCount("odd"), "No occurrence should be lost.");
+        assertEquals("even", tree.getMostFrequent(1).get(0).getEntry(), "Ties should rank in ascending order.");
+    }
+}
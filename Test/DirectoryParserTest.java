@@ -0,0 +1,127 @@
+import Main.DirectoryParser;
+import Main.Parser;
+import TreePackage.BinarySearchTree;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the DirectoryParser class, verifying that parallel parsing of a directory
+ * tree finds the same identifiers as parsing its files one after another.
+ */
+class DirectoryParserTest {
+
+    @TempDir
+    Path root;
+    private Path reservedWordsFile;
+
+    /**
+     * Creates a small directory tree of source files and a reserved words file before each test.
+     *
+     * @throws IOException if the files cannot be written.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.createDirectories(root.resolve("a/b"));
+        Files.write(root.resolve("First.java"), "public class First { int alpha; }".getBytes());
+        Files.write(root.resolve("a/Second.java"), "class Second { int beta = alpha; }".getBytes());
+        Files.write(root.resolve("a/b/Third.java"), "class Third { static int gamma; }".getBytes());
+        Files.write(root.resolve("a/notes.txt"), "ignored words".getBytes());
+
+        reservedWordsFile = root.resolve("reservedWords.txt");
+        Files.write(reservedWordsFile, String.join("\n", "public", "class", "static", "int").getBytes());
+    }
+
+    /**
+     * Collects the entries of a tree in order.
+     *
+     * @param tree The tree to traverse.
+     * @return The entries in in-order sequence.
+     */
+    private static List<String> entries(BinarySearchTree<String> tree) {
+        List<String> entries = new ArrayList<>();
+        Iterator<String> iterator = tree.getInorderIterator();
+        while (iterator.hasNext()) {
+            entries.add(iterator.next());
+        }
+        return entries;
+    }
+
+    /**
+     * Tests that findSourceFiles walks directories for Java files only.
+     *
+     * @throws IOException if the directory cannot be walked.
+     */
+    @Test
+    void findSourceFiles() throws IOException {
+        List<Path> files = DirectoryParser.findSourceFiles(List.of(root));
+        assertEquals(3, files.size(), "Only the .java files should be found.");
+        assertTrue(files.contains(root.resolve("a/b/Third.java")), "Nested directories should be walked.");
+    }
+
+    /**
+     * Tests that parsing in parallel merges the identifiers of every file into the parser.
+     *
+     * @throws IOException if a file cannot be read.
+     */
+    @Test
+    void parse() throws IOException {
+        Parser parser = new Parser();
+        parser.initializeReservedWords(reservedWordsFile.toString());
+        new DirectoryParser(parser, new ForkJoinPool(4)).parse(DirectoryParser.findSourceFiles(List.of(root)));
+
+        Parser sequential = new Parser();
+        sequential.initializeReservedWords(reservedWordsFile.toString());
+        for (Path file : DirectoryParser.findSourceFiles(List.of(root))) {
+            sequential.parseFile(file.toString());
+        }
+
+        assertEquals(List.of("First", "Second", "Third", "alpha", "beta", "gamma"), entries(parser.getIdentifiersBST()),
+                "Identifiers from every file should be merged.");
+        assertEquals(entries(sequential.getIdentifiersBST()), entries(parser.getIdentifiersBST()),
+                "Parallel parsing should find the same identifiers as sequential parsing.");
+        assertEquals(List.of("class", "int", "public", "static"), parser.getReservedWordsFound(),
+                "Reserved words found by every worker should be merged.");
+        assertEquals(2, parser.getIdentifiersBST().getOccurrenceCount("alpha"),
+                "Occurrence counts from different files should be summed.");
+    }
+
+    /**
+     * Tests that workers sharing one concurrent set find the same identifiers.
+     *
+     * @throws IOException if a file cannot be read.
+     */
+    @Test
+    void parseSharedSet() throws IOException {
+        Parser parser = new Parser();
+        parser.initializeReservedWords(reservedWordsFile.toString());
+        new DirectoryParser(parser, new ForkJoinPool(4), DirectoryParser.Strategy.SHARED_SET)
+                .parse(DirectoryParser.findSourceFiles(List.of(root)));
+
+        assertEquals(List.of("First", "Second", "Third", "alpha", "beta", "gamma"), entries(parser.getIdentifiersBST()),
+                "Identifiers from every file should be collected in the shared set and merged.");
+        assertEquals(2, parser.getIdentifiersBST().getOccurrenceCount("alpha"),
+                "Occurrence counts from different files should be summed.");
+    }
+
+    /**
+     * Tests that a missing file is reported as an IOException.
+     */
+    @Test
+    void parseMissingFile() {
+        Parser parser = new Parser();
+        DirectoryParser directoryParser = new DirectoryParser(parser);
+        assertThrows(IOException.class, () -> directoryParser.parse(List.of(Paths.get("Missing.java"), root.resolve("First.java"))));
+    }
+}
@@ -0,0 +1,55 @@
+package StackAndQueuePackage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the primitive IntQueue and IntStack classes.
+ */
+class IntQueueTest {
+
+    /**
+     * Tests that random queue operations agree with ArrayDeque, through many wrap-arounds and growths.
+     */
+    @Test
+    void queueAgreesWithArrayDeque() {
+        IntQueue queue = new IntQueue(1);
+        ArrayDeque<Integer> expected = new ArrayDeque<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 10000; i++) {
+            if (random.nextInt(3) > 0 || expected.isEmpty()) {
+                queue.enqueue(i);
+                expected.addLast(i);
+            } else {
+                assertEquals(expected.peekFirst(), queue.peek(), "Peek should return the front value.");
+                assertEquals(expected.pollFirst(), queue.dequeue(), "Values should leave in order.");
+            }
+            assertEquals(expected.size(), queue.size(), "The sizes should agree.");
+        }
+        queue.clear();
+        assertThrows(NoSuchElementException.class, queue::dequeue, "Dequeue on an empty queue should throw.");
+    }
+
+    /**
+     * Tests that stack operations return values in last-in, first-out order.
+     */
+    @Test
+    void stackIsLastInFirstOut() {
+        IntStack stack = new IntStack(0);
+        for (int i = 0; i < 100; i++) {
+            stack.push(i);
+        }
+        assertEquals(99, stack.peek(), "Peek should return the top value.");
+        for (int i = 99; i >= 0; i--) {
+            assertEquals(i, stack.pop(), "Values should leave in reverse order.");
+        }
+        assertTrue(stack.isEmpty(), "The stack should be empty after removing every value.");
+        assertThrows(EmptyStackException.class, stack::pop, "Pop on an empty stack should throw.");
+    }
+}
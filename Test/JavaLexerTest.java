@@ -0,0 +1,142 @@
+package LexerPackage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the JavaLexer class, verifying that comments and literals are skipped and
+ * that the result does not depend on how the input is split into windows.
+ */
+class JavaLexerTest {
+
+    private static final String SOURCE = String.join("\n",
+            "/**",
+            " * Javadoc prose with class and words.",
+            " */",
+            "public class Sample { // trailing comment words",
+            "    String s = \"string \\\" words\";",
+            "    char c = '\\'', d = '\"';",
+            "    String t = \"\"\"",
+            "        text \"block\" words \\\"\"\"",
+            "        \"\"\";",
+            "    double x = 1.5e-10 + .25 + 0x1F + 0x1.8p+3 + 1_000L;",
+            "    int y = x/2; /* block * words ** */ int z;",
+            "}");
+
+    private static final List<String> EXPECTED = List.of(
+            "public", "class", "Sample",
+            "String", "s",
+            "char", "c", "d",
+            "String", "t",
+            "double", "x",
+            "int", "y", "x", "int", "z");
+
+    private List<String> tokens;
+    private TokenHandler collector;
+
+    /**
+     * Sets up a handler that collects the reported tokens before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        tokens = new ArrayList<>();
+        collector = (chars, start, end) -> tokens.add(new String(chars, start, end - start));
+    }
+
+    /**
+     * Tokenizes text in a single window.
+     *
+     * @param text The text to tokenize.
+     * @return The tokens reported.
+     */
+    private List<String> tokenize(String text) {
+        char[] chars = text.toCharArray();
+        new JavaLexer().tokenize(chars, 0, chars.length, true, collector);
+        return tokens;
+    }
+
+    /**
+     * Tests that comments, string, character and text block literals and numbers are skipped.
+     */
+    @Test
+    void skipsCommentsAndLiterals() {
+        assertEquals(EXPECTED, tokenize(SOURCE), "Only the words of the code should be reported.");
+    }
+
+    /**
+     * Tests that an unterminated string ends at the line break and an unterminated comment at the end of input.
+     */
+    @Test
+    void unterminated() {
+        assertEquals(List.of("int", "a"), tokenize("\"open string\nint a; /* open comment int b;"),
+                "Unterminated literals and comments should not swallow the rest of the input.");
+    }
+
+    /**
+     * Tests that scanning in windows of every small size, which splits comment delimiters,
+     * escapes and text block quotes across windows, reports the same tokens.
+     *
+     * @throws IOException if the stream cannot be read.
+     */
+    @Test
+    void scanSmallWindows() throws IOException {
+        JavaLexer lexer = new JavaLexer();
+        for (int windowSize = 1; windowSize <= 32; windowSize++) {
+            tokens.clear();
+            new SourceScanner(windowSize).scan(new StringReader(SOURCE), lexer, collector);
+            assertEquals(EXPECTED, tokens, "Window size " + windowSize + " should produce the same tokens.");
+        }
+    }
+
+    /**
+     * Tests that reset forgets a comment left open by an earlier input.
+     */
+    @Test
+    void reset() {
+        JavaLexer lexer = new JavaLexer();
+        char[] open = "/* open".toCharArray();
+        lexer.tokenize(open, 0, open.length, false, collector);
+        lexer.reset();
+        char[] code = "int a;".toCharArray();
+        lexer.tokenize(code, 0, code.length, true, collector);
+        assertEquals(List.of("int", "a"), tokens, "After reset the lexer should start in code.");
+    }
+
+    /**
+     * Tests that identifiers follow the Java rules: underscores, dollar signs and non-ASCII
+     * letters are part of identifiers, while other symbols separate them.
+     */
+    @Test
+    void javaIdentifiers() {
+        assertEquals(List.of("my_var", "$proxy", "na\u00efve", "\u03c0", "_", "MAX_VALUE2"),
+                tokenize("my_var+$proxy*na\u00efve \u00ab\u03c0\u00bb _ MAX_VALUE2"),
+                "Identifiers should be scanned by the Java identifier rules.");
+    }
+
+    /**
+     * Tests that a supplementary letter, written as a surrogate pair, is part of an
+     * identifier even when the pair is split across windows.
+     *
+     * @throws IOException if the stream cannot be read.
+     */
+    @Test
+    void surrogatePairs() throws IOException {
+        String mathItalicX = new String(Character.toChars(0x1D465)); // A letter outside the BMP
+        String source = "int a" + mathItalicX + "b = " + mathItalicX + ";";
+        List<String> expected = List.of("int", "a" + mathItalicX + "b", mathItalicX);
+        assertEquals(expected, tokenize(source), "A supplementary letter should be an identifier character.");
+
+        for (int windowSize = 1; windowSize <= 8; windowSize++) {
+            tokens.clear();
+            new SourceScanner(windowSize).scan(new StringReader(source), new JavaLexer(), collector);
+            assertEquals(expected, tokens, "Window size " + windowSize + " should not split a surrogate pair.");
+        }
+    }
+}
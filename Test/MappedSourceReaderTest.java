@@ -0,0 +1,116 @@
+package LexerPackage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the MappedSourceReader class, checking its decoding against the JDK UTF-8 decoder.
+ */
+class MappedSourceReaderTest {
+
+    private static final String TEXT = "class Café { String s = \"中文 😀\"; int naïve = 1; }\n";
+
+    private Path file;
+
+    /**
+     * Creates a temporary file before each test.
+     *
+     * @throws IOException if the file cannot be created.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempFile("mapped", ".java");
+    }
+
+    /**
+     * Deletes the temporary file after each test.
+     *
+     * @throws IOException if the file cannot be deleted.
+     */
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Reads a file to its end through a MappedSourceReader.
+     *
+     * @param segmentSize The number of bytes to map at a time.
+     * @param bufferSize  The number of characters to request per read.
+     * @return The decoded contents of the file.
+     * @throws IOException if the file cannot be read.
+     */
+    private String readAll(int segmentSize, int bufferSize) throws IOException {
+        StringBuilder text = new StringBuilder();
+        char[] buffer = new char[bufferSize];
+        try (Reader reader = new MappedSourceReader(file, segmentSize)) {
+            int read;
+            while ((read = reader.read(buffer, 0, buffer.length)) >= 0) {
+                text.append(buffer, 0, read);
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Tests that ASCII and multi-byte text is decoded like the JDK decoder, including
+     * sequences and surrogate pairs that cross segment and buffer boundaries.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    @Test
+    void readDecodesUtf8() throws IOException {
+        Files.write(file, TEXT.repeat(20).getBytes(StandardCharsets.UTF_8));
+        String expected = TEXT.repeat(20);
+
+        assertEquals(expected, readAll(MappedSourceReader.DEFAULT_SEGMENT_SIZE, 8192), "A single mapping should decode the file.");
+        for (int segmentSize = 4; segmentSize <= 9; segmentSize++) {
+            for (int bufferSize = 1; bufferSize <= 3; bufferSize++) {
+                assertEquals(expected, readAll(segmentSize, bufferSize),
+                        "Segment size " + segmentSize + " and buffer size " + bufferSize + " should decode the file.");
+            }
+        }
+    }
+
+    /**
+     * Tests that an empty file is at its end immediately.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    @Test
+    void readEmptyFile() throws IOException {
+        assertEquals("", readAll(16, 16), "An empty file should read as empty text.");
+    }
+
+    /**
+     * Tests that malformed bytes are replaced with U+FFFD without losing the text around them.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    @Test
+    void readMalformed() throws IOException {
+        Files.write(file, new byte[] {'a', (byte) 0xFF, 'b', (byte) 0x80, 'c', (byte) 0xE4, 'd', (byte) 0xC3});
+        assertEquals("a\uFFFDb\uFFFDc\uFFFDd\uFFFD", readAll(16, 16), "Malformed bytes should be replaced.");
+    }
+
+    /**
+     * Tests that reading a closed reader fails.
+     *
+     * @throws IOException if the file cannot be opened.
+     */
+    @Test
+    void readAfterClose() throws IOException {
+        Reader reader = new MappedSourceReader(file);
+        reader.close();
+        assertThrows(IOException.class, () -> reader.read(new char[4], 0, 4));
+    }
+}
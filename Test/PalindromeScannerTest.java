@@ -0,0 +1,168 @@
+import Main.Palindrome;
+import Main.PalindromeScanner;
+import Main.Parser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PalindromeScanner class, verifying that scanning the lines of a file
+ * in parallel segments finds the same palindromes as checking the lines one by one.
+ */
+class PalindromeScannerTest {
+
+    @TempDir
+    Path root;
+    private Path file;
+
+    /**
+     * Writes a file of palindromic and other lines, with mixed line breaks, non-ASCII
+     * text and no line break after the last line, before each test.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        file = root.resolve("lines.txt");
+        String text = "racecar\n"
+                + "hello\r\n"
+                + "\n"
+                + "A man, a plan, a canal: Panama\r\n"
+                + "Ésé\n"
+                + "not a palindrome\n"
+                + "x\r"
+                + "level\r\r\n"
+                + "Was it a car or a cat I saw?\n"
+                + "noon";
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Checks the lines of a file one by one.
+     *
+     * @param path The file.
+     * @param mode How characters are compared.
+     * @return The palindromic lines, sorted.
+     * @throws IOException if the file cannot be read.
+     */
+    private static List<String> expectedPalindromes(Path path, Palindrome.Mode mode) throws IOException {
+        List<String> palindromes = new ArrayList<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (Palindrome.isPalindrome(line, mode)) {
+                palindromes.add(line);
+            }
+        }
+        Collections.sort(palindromes);
+        return palindromes;
+    }
+
+    /**
+     * Tests that scanning a file agrees with checking its lines one by one, for segments
+     * from one byte, which split every line, to larger than the file.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    @Test
+    void scanLinesAgreesWithReadingLines() throws IOException {
+        int lines = Files.readAllLines(file, StandardCharsets.UTF_8).size();
+        for (Palindrome.Mode mode : Palindrome.Mode.values()) {
+            List<String> expected = expectedPalindromes(file, mode);
+            for (int segmentSize : new int[] {1, 5, 16, 4096}) {
+                PalindromeScanner scanner = new PalindromeScanner(mode, ForkJoinPool.commonPool(), segmentSize);
+                List<String> found = Collections.synchronizedList(new ArrayList<>());
+                PalindromeScanner.Result result = scanner.scanLines(file, found::add);
+
+                String label = mode + " with segments of " + segmentSize;
+                assertEquals(lines, result.getRecords(), "Every line should be checked, " + label + ".");
+                assertEquals(expected.size(), result.getPalindromes(), "The palindromes should be counted, " + label + ".");
+                Collections.sort(found);
+                assertEquals(expected, found, "The palindromic lines should be reported, " + label + ".");
+            }
+        }
+        assertEquals(List.of("", "", "level", "noon", "racecar", "x"), expectedPalindromes(file, Palindrome.Mode.EXACT),
+                "Line breaks, including \\r\\n and a lone \\r, should not be part of a line.");
+    }
+
+    /**
+     * Tests that an empty file has no lines, that a trailing line break does not add a
+     * line, and that a missing file is reported.
+     *
+     * @throws IOException if a file cannot be written or read.
+     */
+    @Test
+    void scanLinesEdgeCases() throws IOException {
+        PalindromeScanner scanner = new PalindromeScanner(Palindrome.Mode.EXACT);
+        Path empty = Files.createFile(root.resolve("empty.txt"));
+        assertEquals(0, scanner.scanLines(empty).getRecords(), "An empty file should have no lines.");
+
+        Path terminated = Files.write(root.resolve("terminated.txt"), "abba\nabc\n".getBytes(StandardCharsets.UTF_8));
+        PalindromeScanner.Result result = scanner.scanLines(terminated);
+        assertEquals(2, result.getRecords(), "A trailing line break should not add a line.");
+        assertEquals(1, result.getPalindromes(), "One line should be a palindrome.");
+        assertEquals("1 of 2 records are palindromes", result.toString(), "The result should format its counts.");
+
+        assertThrows(IOException.class, () -> scanner.scanLines(root.resolve("missing.txt")), "A missing file should be reported.");
+        assertThrows(IllegalArgumentException.class,
+                () -> new PalindromeScanner(Palindrome.Mode.EXACT, ForkJoinPool.commonPool(), 0),
+                "Segments must hold at least one byte.");
+    }
+
+    /**
+     * Tests that the records of a stream are checked and counted.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    @Test
+    void scanStream() throws IOException {
+        PalindromeScanner scanner = new PalindromeScanner(Palindrome.Mode.LETTERS_AND_DIGITS);
+        List<String> found = Collections.synchronizedList(new ArrayList<>());
+        PalindromeScanner.Result result;
+        try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            result = scanner.scan(lines, found::add);
+        }
+        assertEquals(scanner.scanLines(file).getRecords(), result.getRecords(), "Every line should be checked.");
+        Collections.sort(found);
+        assertEquals(expectedPalindromes(file, Palindrome.Mode.LETTERS_AND_DIGITS), found,
+                "The palindromic lines should be reported.");
+
+        PalindromeScanner.Result numbers = scanner.scan(Stream.of("12321", "123", "4", new StringBuilder("55")));
+        assertEquals(4, numbers.getRecords(), "Every record should be checked.");
+        assertEquals(3, numbers.getPalindromes(), "Three records should be palindromes.");
+    }
+
+    /**
+     * Tests that the identifiers a parser reports are checked as they are found.
+     *
+     * @throws IOException if a file cannot be written or read.
+     */
+    @Test
+    void identifierListener() throws IOException {
+        Path reservedWords = Files.write(root.resolve("reservedWords.txt"), "class\nint".getBytes(StandardCharsets.UTF_8));
+        Path source = Files.write(root.resolve("Source.java"),
+                "class Level { int level; int radar = level + rotor; int other; }".getBytes(StandardCharsets.UTF_8));
+        PalindromeScanner scanner = new PalindromeScanner(Palindrome.Mode.EXACT);
+        List<String> found = Collections.synchronizedList(new ArrayList<>());
+        PalindromeScanner.IdentifierListener listener = scanner.identifierListener(found::add);
+
+        Parser parser = new Parser();
+        parser.setParseListener(listener);
+        parser.initializeAndParse(reservedWords.toString(), source.toString());
+
+        assertEquals(5, listener.getResult().getRecords(), "Each distinct identifier should be checked once.");
+        assertEquals(3, listener.getResult().getPalindromes(), "Three identifiers should be palindromes.");
+        Collections.sort(found);
+        assertEquals(List.of("level", "radar", "rotor"), found, "The palindromic identifiers should be reported.");
+    }
+}
@@ -1,6 +1,9 @@
 import Main.Palindrome;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -28,6 +31,67 @@ class PalindromeTest {
         assertTrue(Palindrome.isPalindrome("12321"), "Should return true for numeric palindromes.");
     }
 
+    /**
+     * Tests that character sequences other than strings are checked in place, and that
+     * the letters and digits mode skips punctuation and ignores case.
+     */
+    @Test
+    void isPalindromeCharSequence() {
+        StringBuilder builder = new StringBuilder("racecar");
+        assertTrue(Palindrome.isPalindrome(builder, Palindrome.Mode.EXACT), "Should accept any character sequence.");
+        builder.setCharAt(0, 'R');
+        assertFalse(Palindrome.isPalindrome(builder, Palindrome.Mode.EXACT), "Exact comparison should respect case.");
+        assertTrue(Palindrome.isPalindrome(builder, Palindrome.Mode.LETTERS_AND_DIGITS), "Should ignore case.");
+        assertTrue(Palindrome.isPalindrome("A man, a plan, a canal: Panama!", Palindrome.Mode.LETTERS_AND_DIGITS),
+                "Should skip spaces and punctuation.");
+        assertTrue(Palindrome.isPalindrome("No 'x' in Nixon", Palindrome.Mode.LETTERS_AND_DIGITS),
+                "Should skip punctuation at both ends.");
+        assertFalse(Palindrome.isPalindrome("A man, a plan, a canal: Panama!", Palindrome.Mode.EXACT),
+                "Exact comparison should count punctuation.");
+        assertFalse(Palindrome.isPalindrome("1a2", Palindrome.Mode.LETTERS_AND_DIGITS), "Digits should count.");
+        assertTrue(Palindrome.isPalindrome("?!., ", Palindrome.Mode.LETTERS_AND_DIGITS),
+                "Text without letters or digits should be a palindrome.");
+    }
+
+    /**
+     * Tests checking a slice of a character array, leaving the rest of the array alone.
+     */
+    @Test
+    void isPalindromeCharArraySlice() {
+        char[] chars = "xxlevelyy".toCharArray();
+        assertTrue(Palindrome.isPalindrome(chars, 2, 7, Palindrome.Mode.EXACT), "The slice should be a palindrome.");
+        assertFalse(Palindrome.isPalindrome(chars, 0, 7, Palindrome.Mode.EXACT), "A wider slice should not be.");
+        assertTrue(Palindrome.isPalindrome(chars, 4, 4, Palindrome.Mode.EXACT), "An empty slice should be a palindrome.");
+        char[] sentence = "Step on no pets.".toCharArray();
+        assertTrue(Palindrome.isPalindrome(sentence, 0, sentence.length, Palindrome.Mode.LETTERS_AND_DIGITS),
+                "Should ignore case and punctuation in a slice.");
+        assertThrows(IndexOutOfBoundsException.class, () -> Palindrome.isPalindrome(chars, 5, 10, Palindrome.Mode.EXACT),
+                "A slice past the end should be refused.");
+        assertThrows(IndexOutOfBoundsException.class, () -> Palindrome.isPalindrome(chars, 5, 4, Palindrome.Mode.EXACT),
+                "A slice that ends before it starts should be refused.");
+    }
+
+    /**
+     * Tests checking the bytes between the position and the limit of a buffer, without
+     * moving the position.
+     */
+    @Test
+    void isPalindromeByteBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap("--Was it a car or a cat I saw?--".getBytes(StandardCharsets.ISO_8859_1));
+        assertTrue(Palindrome.isPalindrome(buffer, Palindrome.Mode.LETTERS_AND_DIGITS), "Should ignore case and punctuation.");
+        assertFalse(Palindrome.isPalindrome(buffer, Palindrome.Mode.EXACT), "Exact comparison should count every byte.");
+        assertEquals(0, buffer.position(), "The position should not move.");
+
+        ByteBuffer slice = ByteBuffer.wrap("abcdeedcba!".getBytes(StandardCharsets.ISO_8859_1));
+        slice.position(1).limit(9);
+        assertTrue(Palindrome.isPalindrome(slice, Palindrome.Mode.EXACT), "Only the bytes up to the limit should count.");
+        ByteBuffer latin1 = ByteBuffer.wrap(new byte[] {(byte) 0xC9, 'x', (byte) 0xE9});
+        assertTrue(Palindrome.isPalindrome(latin1, Palindrome.Mode.LETTERS_AND_DIGITS),
+                "Bytes should be read as ISO-8859-1 letters and folded.");
+        assertTrue(Palindrome.isPalindrome(ByteBuffer.allocateDirect(0), Palindrome.Mode.EXACT),
+                "An empty buffer should be a palindrome.");
+    }
+
     /**
      * Tests the main method of the Palindrome class.
      * Ensures that the main method executes without throwing exceptions.
@@ -0,0 +1,180 @@
+import Main.AsyncParseListener;
+import Main.BufferedParseListener;
+import Main.ParseListener;
+import Main.Parser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ParseListener implementations and for how the Parser reports events to them.
+ */
+class ParseListenerTest {
+
+    private static final String SOURCE_FILE = "ListenerTest.java";
+    private static final String RESERVED_WORDS_FILE = "reservedWordsListenerTest.txt";
+
+    /**
+     * Writes a small source file and a reserved words file before each test.
+     *
+     * @throws IOException if the files cannot be written.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.write(Paths.get(SOURCE_FILE), "public class Test { int x = x; }".getBytes());
+        Files.write(Paths.get(RESERVED_WORDS_FILE), String.join("\n", "public", "class", "int").getBytes());
+    }
+
+    /**
+     * Deletes the files after each test.
+     *
+     * @throws IOException if the files cannot be deleted.
+     */
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.delete(Paths.get(SOURCE_FILE));
+        Files.delete(Paths.get(RESERVED_WORDS_FILE));
+    }
+
+    /**
+     * A listener that records every event as a line.
+     */
+    private static class RecordingListener implements ParseListener {
+        private final List<String> events = new ArrayList<>(); // Events in the order received
+        private boolean closed;                                 // Set by close()
+
+        /**
+         * Records a reserved word event.
+         *
+         * @param word The reserved word.
+         */
+        @Override
+        public void reservedWord(String word) {
+            events.add("reserved " + word);
+        }
+
+        /**
+         * Records an identifier event.
+         *
+         * @param identifier The identifier.
+         */
+        @Override
+        public void identifierAdded(String identifier) {
+            events.add("identifier " + identifier);
+        }
+
+        /**
+         * Records that the listener was closed.
+         */
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    /**
+     * Tests that the parser prints nothing while parsing unless a listener is set.
+     *
+     * @throws IOException if a file cannot be read.
+     */
+    @Test
+    void silentByDefault() throws IOException {
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        try {
+            new Parser().initializeAndParse(RESERVED_WORDS_FILE, SOURCE_FILE);
+        } finally {
+            System.setOut(originalOut);
+        }
+        assertEquals("", outContent.toString(), "Parsing should be silent without a listener.");
+    }
+
+    /**
+     * Tests that the parser reports every reserved word and each identifier's first occurrence, in order.
+     *
+     * @throws IOException if a file cannot be read.
+     */
+    @Test
+    void parserReportsEvents() throws IOException {
+        RecordingListener listener = new RecordingListener();
+        Parser parser = new Parser();
+        parser.setParseListener(listener);
+        parser.initializeAndParse(RESERVED_WORDS_FILE, SOURCE_FILE);
+
+        assertEquals(List.of("reserved public", "reserved class", "identifier Test", "reserved int", "identifier x"),
+                listener.events, "Each reserved word and each new identifier should be reported once, in order.");
+        assertFalse(listener.closed, "The parser should leave closing the listener to its owner.");
+    }
+
+    /**
+     * Tests that the buffered listener writes lines in the traditional format, across several batches.
+     */
+    @Test
+    void bufferedListener() {
+        StringWriter out = new StringWriter();
+        BufferedParseListener listener = new BufferedParseListener(out, 16);
+        listener.reservedWord("public");
+        listener.identifierAdded("aVeryLongIdentifierThatExceedsTheBuffer");
+        listener.identifierAdded("x");
+        listener.close();
+
+        String n = System.lineSeparator();
+        assertEquals("Reserved Word: public" + n + "Identifier Added: aVeryLongIdentifierThatExceedsTheBuffer" + n
+                + "Identifier Added: x" + n, out.toString(), "Every line should be written once, in order.");
+        assertThrows(IllegalArgumentException.class, () -> new BufferedParseListener(out, 0),
+                "A buffer size of 0 should be rejected.");
+    }
+
+    /**
+     * Tests that the asynchronous listener delivers every event in order by the time it is closed.
+     */
+    @Test
+    void asyncListener() {
+        RecordingListener delegate = new RecordingListener();
+        AsyncParseListener listener = new AsyncParseListener(delegate, 7, 2);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            listener.identifierAdded("id" + i);
+            listener.reservedWord("int");
+            expected.add("identifier id" + i);
+            expected.add("reserved int");
+        }
+        listener.close();
+
+        assertEquals(expected, delegate.events, "Every event should be delivered in order.");
+        assertTrue(delegate.closed, "Closing should close the delegate.");
+        assertThrows(IllegalStateException.class, () -> listener.reservedWord("int"),
+                "Events after close should be rejected.");
+    }
+
+    /**
+     * Tests that an exception thrown by the delegate surfaces when the asynchronous listener is closed.
+     */
+    @Test
+    void asyncListenerFailure() {
+        AsyncParseListener listener = new AsyncParseListener(new ParseListener() {
+            @Override
+            public void reservedWord(String word) {
+                throw new IllegalStateException("disk full");
+            }
+        }, 4, 1);
+        for (int i = 0; i < 100; i++) {
+            listener.reservedWord("int");
+        }
+        IllegalStateException e = assertThrows(IllegalStateException.class, listener::close,
+                "The delegate's exception should be rethrown.");
+        assertEquals("disk full", e.getMessage(), "The delegate's exception should be rethrown.");
+    }
+}
@@ -0,0 +1,133 @@
+import Main.DirectoryParser;
+import Main.MetricsSnapshot;
+import Main.ParseMetrics;
+import Main.Parser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ParseMetrics registry and for the values a Parser records in it.
+ */
+class ParseMetricsTest {
+
+    private static final String SOURCE = "public class Test { int x = x; } // class words";
+    private static final String SOURCE_FILE = "MetricsTest.java";
+    private static final String RESERVED_WORDS_FILE = "reservedWordsMetricsTest.txt";
+
+    /**
+     * Writes a small source file and a reserved words file before each test.
+     *
+     * @throws IOException if the files cannot be written.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.write(Paths.get(SOURCE_FILE), SOURCE.getBytes());
+        Files.write(Paths.get(RESERVED_WORDS_FILE), String.join("\n", "public", "class", "int").getBytes());
+    }
+
+    /**
+     * Deletes the files after each test.
+     *
+     * @throws IOException if the files cannot be deleted.
+     */
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(Paths.get(SOURCE_FILE));
+        Files.deleteIfExists(Paths.get(RESERVED_WORDS_FILE));
+    }
+
+    /**
+     * Tests that parsing a file records its counters and a latency for every phase.
+     *
+     * @throws IOException if a file cannot be read.
+     */
+    @Test
+    void parseFileRecordsMetrics() throws IOException {
+        Parser parser = new Parser();
+        ParseMetrics metrics = new ParseMetrics();
+        parser.setMetrics(metrics);
+        parser.initializeAndParse(RESERVED_WORDS_FILE, SOURCE_FILE);
+        parser.printReservedWords();
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.getCount(ParseMetrics.Counter.FILES_READ), "One file should be read.");
+        assertEquals(SOURCE.length(), snapshot.getCount(ParseMetrics.Counter.CHARACTERS_SCANNED),
+                "Every character should be counted.");
+        assertEquals(6, snapshot.getCount(ParseMetrics.Counter.TOKENS), "Comments should not produce tokens.");
+        assertEquals(3, snapshot.getCount(ParseMetrics.Counter.RESERVED_WORD_HITS), "public, class and int are reserved.");
+        assertEquals(3, snapshot.getCount(ParseMetrics.Counter.IDENTIFIER_INSERTS), "Test, x and x are identifiers.");
+        assertEquals(2, snapshot.getCount(ParseMetrics.Counter.IDENTIFIERS_ADDED), "Test and x are distinct.");
+        for (ParseMetrics.Phase phase : ParseMetrics.Phase.values()) {
+            assertTrue(snapshot.getLatency(phase).getCount() > 0, phase + " should be timed.");
+        }
+
+        assertTrue(parser.getIdentifiersBST().contains("x"), "Measured parsing should still collect identifiers.");
+        assertEquals(2, metrics.snapshot().getTreeHeight(), "Building the identifier tree should record its height.");
+    }
+
+    /**
+     * Tests that a parser records nothing by default.
+     *
+     * @throws IOException if the stream cannot be read.
+     */
+    @Test
+    void disabledByDefault() throws IOException {
+        Parser parser = new Parser();
+        parser.initializeReservedWords(RESERVED_WORDS_FILE);
+        parser.parse(new StringReader(SOURCE));
+
+        assertSame(ParseMetrics.DISABLED, parser.getMetrics(), "Metrics should be disabled by default.");
+        assertEquals(0, ParseMetrics.DISABLED.snapshot().getCount(ParseMetrics.Counter.TOKENS),
+                "The disabled registry should record nothing.");
+    }
+
+    /**
+     * Tests that workers parsing in parallel record into the parser's registry.
+     *
+     * @throws IOException if a file cannot be read.
+     */
+    @Test
+    void workersShareMetrics() throws IOException {
+        Parser parser = new Parser();
+        ParseMetrics metrics = new ParseMetrics();
+        parser.setMetrics(metrics);
+        parser.initializeReservedWords(RESERVED_WORDS_FILE);
+        Path file = Paths.get(SOURCE_FILE);
+        new DirectoryParser(parser, new ForkJoinPool(4)).parse(List.of(file, file, file, file));
+
+        assertEquals(4, metrics.snapshot().getCount(ParseMetrics.Counter.FILES_READ), "Every worker should record.");
+        assertEquals(24, metrics.snapshot().getCount(ParseMetrics.Counter.TOKENS), "No token should be lost.");
+        metrics.reset();
+        assertEquals(0, metrics.snapshot().getCount(ParseMetrics.Counter.TOKENS), "reset should clear the counters.");
+    }
+
+    /**
+     * Tests that percentiles are estimated from the power-of-two buckets.
+     */
+    @Test
+    void percentiles() {
+        ParseMetrics metrics = new ParseMetrics();
+        for (int i = 0; i < 99; i++) {
+            metrics.recordLatency(ParseMetrics.Phase.READ, 100); // Bucket of 64..127 ns
+        }
+        metrics.recordLatency(ParseMetrics.Phase.READ, 5000);
+
+        MetricsSnapshot.PhaseLatency latency = metrics.snapshot().getLatency(ParseMetrics.Phase.READ);
+        assertEquals(100, latency.getCount(), "Every latency should be counted.");
+        assertEquals(127, latency.getPercentileNanos(50), "The median should be the upper bound of its bucket.");
+        assertEquals(5000, latency.getPercentileNanos(100), "The maximum should cap the estimate.");
+        assertEquals(149.0, latency.getMeanNanos(), 1e-9, "The mean should be exact.");
+        assertThrows(IllegalArgumentException.class, () -> latency.getPercentileNanos(101));
+    }
+}
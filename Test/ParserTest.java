@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 
@@ -82,35 +83,76 @@ class ParserTest {
         assertTrue(identifiersBST.contains("main"));
         assertTrue(identifiersBST.contains("args"));
         assertTrue(identifiersBST.contains("str"));
-        assertTrue(identifiersBST.contains("tacocat"));
+        assertFalse(identifiersBST.contains("tacocat"), "Words inside string literals should be skipped.");
+        assertEquals(2, identifiersBST.getOccurrenceCount("String"), "Every occurrence of an identifier should be counted.");
+        assertEquals(1, identifiersBST.getOccurrenceCount("main"), "Every occurrence of an identifier should be counted.");
+        assertEquals("String", identifiersBST.getMostFrequent(1).get(0).getEntry(), "The most frequent identifier should rank first.");
+        assertThrows(UnsupportedOperationException.class, () -> identifiersBST.add("added"),
+                "The identifiers tree should be a read-only snapshot.");
 
         Files.delete(Paths.get(testSourceFile));
         Files.delete(Paths.get(reservedWordsTestFile));
     }
 
     /**
-     * Tests the printReservedWords method to ensure it correctly outputs the
-     * reserved words in alphabetical order.
+     * Tests that parsing a memory-mapped source file finds the same identifiers as the reader path.
+     *
+     * @throws IOException if an error occurs while reading or writing files.
+     */
+    @Test
+    void parseFileMemoryMapped() throws IOException {
+        String testSourceFile = "MappedTest.java";
+        Files.write(Paths.get(testSourceFile), String.join("\n",
+                "public class Palindrome {",
+                "    static int na\u00efve = 1;",
+                "}"
+        ).getBytes(StandardCharsets.UTF_8));
+
+        String reservedWordsTestFile = "reservedWordsTest.txt";
+        Files.write(Paths.get(reservedWordsTestFile), String.join("\n", "public", "class", "static", "int").getBytes());
+
+        parser.setInputMode(Parser.InputMode.MEMORY_MAPPED);
+        parser.initializeAndParse(reservedWordsTestFile, testSourceFile);
+
+        BinarySearchTree<String> identifiersBST = parser.getIdentifiersBST();
+        assertTrue(identifiersBST.contains("Palindrome"));
+        assertTrue(identifiersBST.contains("na\u00efve"), "Non-ASCII letters should be part of identifiers.");
+        assertFalse(identifiersBST.contains("na"), "Non-ASCII letters should not split identifiers.");
+        assertFalse(identifiersBST.contains("1"), "Numeric literals should be skipped.");
+        assertFalse(identifiersBST.contains("static"));
+
+        Files.delete(Paths.get(testSourceFile));
+        Files.delete(Paths.get(reservedWordsTestFile));
+    }
+
+    /**
+     * Tests the printReservedWords method to ensure it outputs only the reserved words
+     * that appeared in the parsed source, in alphabetical order.
      *
      * @throws IOException if an error occurs while reading or writing files.
      */
     @Test
     void printReservedWords() throws IOException {
+        String testSourceFile = "ReservedTest.java";
+        Files.write(Paths.get(testSourceFile), "public class Test { public int x; }".getBytes());
+
         String reservedWordsTestFile = "reservedWordsTest.txt";
         Files.write(Paths.get(reservedWordsTestFile), String.join("\n", "public", "class", "boolean").getBytes());
 
-        parser.initializeReservedWords(reservedWordsTestFile);
+        parser.initializeAndParse(reservedWordsTestFile, testSourceFile);
 
+        PrintStream originalOut = System.out;
         ByteArrayOutputStream outContent = new ByteArrayOutputStream();
         System.setOut(new PrintStream(outContent));
 
         parser.printReservedWords();
 
-        String expectedOutput = "Reserved Words Found in the File:\nboolean\nclass\npublic\n";
-        assertEquals(expectedOutput, outContent.toString().replace("\r", ""));
+        System.setOut(originalOut);
 
-        System.setOut(System.out);
+        String expectedOutput = "Reserved Words Found in the File:\nclass\npublic\n";
+        assertEquals(expectedOutput, outContent.toString().replace("\r", ""));
 
+        Files.delete(Paths.get(testSourceFile));
         Files.delete(Paths.get(reservedWordsTestFile));
     }
 }
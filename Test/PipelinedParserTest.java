@@ -0,0 +1,186 @@
+import Main.ParseListener;
+import Main.ParseMetrics;
+import Main.Parser;
+import Main.PipelinedParser;
+import TreePackage.BinarySearchTree;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PipelinedParser class, verifying that the staged pipeline finds the
+ * same reserved words and identifiers as parsing the files one after another, even when
+ * tokens, comments and literals are split between chunks.
+ */
+class PipelinedParserTest {
+
+    @TempDir
+    Path root;
+    private Path reservedWordsFile;
+    private List<Path> files;
+
+    /**
+     * Creates a few source files and a reserved words file before each test.
+     *
+     * @throws IOException if the files cannot be written.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        files = new ArrayList<>();
+        String[] sources = {
+                "public class First { int alpha; /* class beta */ String s = \"gamma int\"; }",
+                "class Second { // public delta\n int beta = alpha + longIdentifierName; }",
+                "class Third { static int gamma; char c = 'x'; }",
+                "",
+                "class Fifth { int alpha; int alpha2; }"
+        };
+        for (int i = 0; i < sources.length; i++) {
+            Path file = root.resolve("File" + i + ".java");
+            Files.write(file, sources[i].getBytes());
+            files.add(file);
+        }
+        reservedWordsFile = root.resolve("reservedWords.txt");
+        Files.write(reservedWordsFile, String.join("\n", "public", "class", "static", "int", "char").getBytes());
+    }
+
+    /**
+     * Collects the entries of a tree with their occurrence counts, in order.
+     *
+     * @param tree The tree to traverse.
+     * @return Each entry followed by its count.
+     */
+    private static List<String> entriesWithCounts(BinarySearchTree<String> tree) {
+        List<String> entries = new ArrayList<>();
+        Iterator<String> iterator = tree.getInorderIterator();
+        while (iterator.hasNext()) {
+            String entry = iterator.next();
+            entries.add(entry + "=" + tree.getOccurrenceCount(entry));
+        }
+        return entries;
+    }
+
+    /**
+     * Parses the files one after another with a plain parser.
+     *
+     * @return The parser holding the results.
+     * @throws IOException if a file cannot be read.
+     */
+    private Parser parseSequentially() throws IOException {
+        Parser sequential = new Parser();
+        sequential.initializeReservedWords(reservedWordsFile.toString());
+        for (Path file : files) {
+            sequential.parseFile(file.toString());
+        }
+        return sequential;
+    }
+
+    /**
+     * Tests that the pipeline agrees with sequential parsing for several chunk sizes and
+     * numbers of tokenizers, including chunks much smaller than a token.
+     *
+     * @throws IOException if a file cannot be read.
+     */
+    @Test
+    void agreesWithSequentialParse() throws IOException {
+        Parser sequential = parseSequentially();
+        for (int tokenizers : new int[] {1, 2, 3}) {
+            for (int chunkSize : new int[] {1, 3, 7, 64, PipelinedParser.DEFAULT_CHUNK_SIZE}) {
+                Parser parser = new Parser();
+                parser.initializeReservedWords(reservedWordsFile.toString());
+                new PipelinedParser(parser, tokenizers, chunkSize).parse(files);
+
+                String label = tokenizers + " tokenizers, chunks of " + chunkSize;
+                assertEquals(entriesWithCounts(sequential.getIdentifiersBST()), entriesWithCounts(parser.getIdentifiersBST()),
+                        "Identifiers and counts should match sequential parsing with " + label + ".");
+                assertEquals(sequential.getReservedWordsFound(), parser.getReservedWordsFound(),
+                        "Reserved words should match sequential parsing with " + label + ".");
+            }
+        }
+    }
+
+    /**
+     * Tests that the pipeline records the same counters as sequential parsing.
+     *
+     * @throws IOException if a file cannot be read.
+     */
+    @Test
+    void recordsMetrics() throws IOException {
+        Parser sequential = new Parser();
+        sequential.setMetrics(new ParseMetrics());
+        sequential.initializeReservedWords(reservedWordsFile.toString());
+        for (Path file : files) {
+            sequential.parseFile(file.toString());
+        }
+
+        Parser parser = new Parser();
+        parser.setMetrics(new ParseMetrics());
+        parser.initializeReservedWords(reservedWordsFile.toString());
+        new PipelinedParser(parser, 2, 16).parse(files);
+
+        for (ParseMetrics.Counter counter : ParseMetrics.Counter.values()) {
+            assertEquals(sequential.getMetrics().snapshot().getCount(counter), parser.getMetrics().snapshot().getCount(counter),
+                    "The " + counter + " counter should match sequential parsing.");
+        }
+        assertTrue(parser.getMetrics().snapshot().getLatency(ParseMetrics.Phase.CLASSIFY).getCount() > 0,
+                "Classifying batches should be timed.");
+    }
+
+    /**
+     * Tests that a missing file is reported as an IOException.
+     */
+    @Test
+    void parseMissingFile() {
+        Parser parser = new Parser();
+        PipelinedParser pipelinedParser = new PipelinedParser(parser);
+        assertThrows(IOException.class, () -> pipelinedParser.parse(List.of(files.get(0), Paths.get("Missing.java"))),
+                "A missing file should be reported.");
+        assertThrows(IllegalArgumentException.class, () -> new PipelinedParser(parser, 0, 16),
+                "At least one tokenizer is needed.");
+    }
+
+    /**
+     * Tests that an exception thrown by the listener on the classifying thread stops the
+     * pipeline and reaches the caller.
+     *
+     * @throws IOException if the reserved words cannot be read.
+     */
+    @Test
+    void listenerFailureStopsPipeline() throws IOException {
+        Parser parser = new Parser();
+        parser.initializeReservedWords(reservedWordsFile.toString());
+        parser.setParseListener(new ParseListener() {
+            @Override
+            public void reservedWord(String word) {
+                throw new IllegalStateException("Listener failed.");
+            }
+        });
+        assertThrows(IllegalStateException.class, () -> new PipelinedParser(parser, 2, 4).parse(files),
+                "The listener's exception should reach the caller.");
+    }
+
+    /**
+     * Tests that an unchecked exception on the reader thread stops the pipeline and reaches
+     * the caller, instead of leaving it waiting for tokens that never come.
+     */
+    @Test
+    void stageFailureStopsPipeline() {
+        Parser parser = new Parser();
+        List<Path> withMissingPath = Arrays.asList(files.get(0), null, files.get(1));
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () ->
+                assertThrows(NullPointerException.class, () -> new PipelinedParser(parser, 2, 4).parse(withMissingPath),
+                        "The reader's exception should reach the caller."),
+                "The parse should end when a stage fails.");
+    }
+}
@@ -0,0 +1,106 @@
+package LexerPackage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SourceScanner class, verifying that windowed scanning produces the
+ * same tokens as tokenizing the whole text at once.
+ */
+class SourceScannerTest {
+
+    private static final String SOURCE = String.join("\n",
+            "public class Palindrome {",
+            "   public static void main(String[] args) {",
+            "      String str = \"tacocat\";",
+            "      boolean aVeryLongIdentifierThatDoesNotFitInASmallWindow = isPalindrome(str);",
+            "   }",
+            "}");
+
+    private List<String> tokens;
+    private TokenHandler collector;
+
+    /**
+     * Sets up a handler that collects the reported tokens before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        tokens = new ArrayList<>();
+        collector = (chars, start, end) -> tokens.add(new String(chars, start, end - start));
+    }
+
+    /**
+     * Tokenizes the whole source text in a single window.
+     *
+     * @return The expected tokens.
+     */
+    private static List<String> expectedTokens() {
+        List<String> expected = new ArrayList<>();
+        char[] chars = SOURCE.toCharArray();
+        new Tokenizer().tokenize(chars, 0, chars.length, true,
+                (buffer, start, end) -> expected.add(new String(buffer, start, end - start)));
+        return expected;
+    }
+
+    /**
+     * Tests that scanning with the default window produces the same tokens.
+     *
+     * @throws IOException if the stream cannot be read.
+     */
+    @Test
+    void scan() throws IOException {
+        new SourceScanner().scan(new StringReader(SOURCE), new Tokenizer(), collector);
+        assertEquals(expectedTokens(), tokens, "Scanning should produce the same tokens as a single window.");
+    }
+
+    /**
+     * Tests that tokens split across many small windows, including tokens longer than the
+     * window, are reassembled, and that the window grows only as far as needed.
+     *
+     * @throws IOException if the stream cannot be read.
+     */
+    @Test
+    void scanSmallWindows() throws IOException {
+        for (int windowSize = 1; windowSize <= 16; windowSize++) {
+            tokens.clear();
+            SourceScanner scanner = new SourceScanner(windowSize);
+            scanner.scan(new StringReader(SOURCE), new Tokenizer(), collector);
+            assertEquals(expectedTokens(), tokens, "Window size " + windowSize + " should produce the same tokens.");
+            assertTrue(scanner.getWindowSize() <= 2 * "aVeryLongIdentifierThatDoesNotFitInASmallWindow".length(),
+                    "The window should only grow to fit the longest token.");
+        }
+    }
+
+    /**
+     * Tests that a stream returning one character per read produces the same tokens.
+     *
+     * @throws IOException if the stream cannot be read.
+     */
+    @Test
+    void scanTrickle() throws IOException {
+        Reader trickle = new StringReader(SOURCE) {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                return super.read(buffer, offset, Math.min(length, 1));
+            }
+        };
+        new SourceScanner(8).scan(trickle, new Tokenizer(), collector);
+        assertEquals(expectedTokens(), tokens, "Single-character reads should produce the same tokens.");
+    }
+
+    /**
+     * Tests that a non-positive window size is rejected.
+     */
+    @Test
+    void invalidWindowSize() {
+        assertThrows(IllegalArgumentException.class, () -> new SourceScanner(0));
+    }
+}
@@ -0,0 +1,102 @@
+package LexerPackage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SymbolTable class, verifying that symbols receive dense IDs and are
+ * interned from slices of a buffer without depending on the surrounding characters.
+ */
+class SymbolTableTest {
+
+    private SymbolTable table;
+
+    /**
+     * Creates an empty symbol table before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        table = new SymbolTable();
+    }
+
+    /**
+     * Interns a whole String.
+     *
+     * @param symbol The symbol to intern.
+     * @return The ID of the symbol.
+     */
+    private int intern(String symbol) {
+        char[] chars = symbol.toCharArray();
+        return table.intern(chars, 0, chars.length);
+    }
+
+    /**
+     * Tests that new symbols are numbered densely and repeated symbols keep their ID.
+     */
+    @Test
+    void denseIds() {
+        assertEquals(0, intern("alpha"), "The first symbol should get ID 0.");
+        assertEquals(1, intern("beta"), "The next new symbol should get ID 1.");
+        assertEquals(0, intern("alpha"), "A repeated symbol should keep its ID.");
+        assertEquals(2, table.size(), "Only distinct symbols should be counted.");
+        assertEquals("beta", table.symbol(1), "The symbol should be retrievable by ID.");
+        assertSame(table.symbol(1), table.symbol(1), "The String should be created only once.");
+    }
+
+    /**
+     * Tests that a slice in the middle of a buffer is interned as the same symbol as the whole word.
+     */
+    @Test
+    void internSlice() {
+        char[] chars = "int count = count + 1;".toCharArray();
+        int first = table.intern(chars, 4, 9);
+        int second = table.intern(chars, 12, 17);
+        assertEquals(first, second, "Equal slices should intern to the same ID.");
+        assertEquals("count", table.symbol(first), "Only the characters of the slice should be stored.");
+        assertEquals(first, table.find("count".toCharArray(), 0, 5), "find should locate an interned symbol.");
+        assertEquals(-1, table.find("counter".toCharArray(), 0, 7), "find should not intern a missing symbol.");
+        assertEquals(1, table.size(), "find should not change the table.");
+    }
+
+    /**
+     * Tests that interning many symbols, which grows the pool and rehashes the table, keeps every ID.
+     */
+    @Test
+    void growth() {
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i, intern("symbol" + i), "Each new symbol should get the next ID.");
+        }
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i, intern("symbol" + i), "Every symbol should keep its ID after growing.");
+            assertEquals("symbol" + i, table.symbol(i), "Every symbol should be stored intact.");
+        }
+    }
+
+    /**
+     * Tests that symbols of another table are interned by content, not by ID.
+     */
+    @Test
+    void internFromOtherTable() {
+        SymbolTable other = new SymbolTable();
+        char[] chars = "gamma alpha".toCharArray();
+        int gamma = other.intern(chars, 0, 5);
+        int alpha = other.intern(chars, 6, 11);
+        intern("alpha");
+
+        assertEquals(0, table.intern(other, alpha), "A known symbol should map to its existing ID.");
+        assertEquals(1, table.intern(other, gamma), "An unknown symbol should get a new ID.");
+        assertEquals("gamma", table.symbol(1), "The symbol should be copied from the other table.");
+    }
+
+    /**
+     * Tests that an invalid ID is rejected.
+     */
+    @Test
+    void invalidId() {
+        intern("alpha");
+        assertThrows(IndexOutOfBoundsException.class, () -> table.symbol(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.symbol(-1));
+    }
+}
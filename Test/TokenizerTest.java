@@ -0,0 +1,99 @@
+package LexerPackage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Tokenizer class, checking it against the regular expression split it replaces.
+ */
+class TokenizerTest {
+
+    private Tokenizer tokenizer;
+    private List<String> tokens;
+    private TokenHandler collector;
+
+    /**
+     * Sets up a tokenizer and a handler that collects the reported tokens before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        tokenizer = new Tokenizer();
+        tokens = new ArrayList<>();
+        collector = (chars, start, end) -> tokens.add(new String(chars, start, end - start));
+    }
+
+    /**
+     * Returns the tokens produced by the regular expression split, without empty strings.
+     *
+     * @param text The text to split.
+     * @return The non-empty tokens.
+     */
+    private static List<String> splitTokens(String text) {
+        List<String> expected = new ArrayList<>();
+        for (String token : text.split("[^a-zA-Z0-9]+")) {
+            if (!token.isEmpty()) {
+                expected.add(token);
+            }
+        }
+        return expected;
+    }
+
+    /**
+     * Tests that a whole line is tokenized exactly like the regular expression split.
+     */
+    @Test
+    void tokenizeMatchesSplit() {
+        for (String line : List.of(
+                "public static void main(String[] args) {",
+                "   String str = \"tacocat\";",
+                "x",
+                "",
+                "  ;;  ",
+                "my_var = $proxy + café * 42;",
+                "end")) {
+            tokens.clear();
+            char[] chars = line.toCharArray();
+            int resume = tokenizer.tokenize(chars, 0, chars.length, true, collector);
+            assertEquals(chars.length, resume, "A final window should be consumed completely.");
+            assertEquals(splitTokens(line), tokens, "Tokens should match the split of '" + line + "'.");
+        }
+    }
+
+    /**
+     * Tests that a token running into the end of a window is held back until more input arrives.
+     */
+    @Test
+    void tokenizeWindows() {
+        char[] chars = "int count = total".toCharArray();
+
+        int resume = tokenizer.tokenize(chars, 0, 7, false, collector);
+        assertEquals(List.of("int"), tokens, "Only complete tokens should be reported.");
+        assertEquals(4, resume, "The incomplete token should be carried into the next window.");
+
+        resume = tokenizer.tokenize(chars, resume, 12, false, collector);
+        assertEquals(List.of("int", "count"), tokens, "The carried token should be reported once complete.");
+        assertEquals(12, resume, "A window ending on a separator has nothing to carry.");
+
+        resume = tokenizer.tokenize(chars, resume, chars.length, true, collector);
+        assertEquals(List.of("int", "count", "total"), tokens, "The last token should be reported at the end of input.");
+        assertEquals(chars.length, resume, "A final window should be consumed completely.");
+    }
+
+    /**
+     * Tests the isTokenChar method for letters, digits and separators.
+     */
+    @Test
+    void isTokenChar() {
+        assertTrue(Tokenizer.isTokenChar('a'), "Letters are token characters.");
+        assertTrue(Tokenizer.isTokenChar('Z'), "Letters are token characters.");
+        assertTrue(Tokenizer.isTokenChar('7'), "Digits are token characters.");
+        assertFalse(Tokenizer.isTokenChar('_'), "Underscores are separators.");
+        assertFalse(Tokenizer.isTokenChar(' '), "Spaces are separators.");
+        assertFalse(Tokenizer.isTokenChar('é'), "Non-ASCII letters are separators.");
+    }
+}
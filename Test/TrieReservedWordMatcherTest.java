@@ -0,0 +1,127 @@
+package LexerPackage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the TrieReservedWordMatcher class, checking it against the
+ * search tree matcher it replaces.
+ */
+class TrieReservedWordMatcherTest {
+
+    private static final List<String> WORDS = List.of("while", "class", "do", "double", "char", "case", "int");
+
+    private TrieReservedWordMatcher trie;
+
+    /**
+     * Builds a trie matcher from a small, unsorted set of reserved words before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        trie = new TrieReservedWordMatcher(WORDS);
+    }
+
+    /**
+     * Tests that reserved words are numbered by their position in sorted order.
+     */
+    @Test
+    void indexOf() {
+        assertEquals(0, trie.indexOf("case"), "indexOf() should return the sorted position of the word.");
+        assertEquals(3, trie.indexOf("do"), "indexOf() should return the sorted position of the word.");
+        assertEquals(4, trie.indexOf("double"), "indexOf() should match a word that extends another word.");
+        assertEquals(6, trie.indexOf("while"), "indexOf() should return the sorted position of the word.");
+        assertEquals(7, trie.size(), "size() should return the number of distinct words.");
+        assertEquals("double", trie.wordAt(4), "wordAt() should return the word at the sorted position.");
+    }
+
+    /**
+     * Tests that prefixes, extensions and unrelated tokens are not classified as reserved.
+     */
+    @Test
+    void nonReservedTokens() {
+        assertEquals(ReservedWordMatcher.NOT_RESERVED, trie.indexOf("doub"), "A prefix of a word is not reserved.");
+        assertEquals(ReservedWordMatcher.NOT_RESERVED, trie.indexOf("classes"), "An extension of a word is not reserved.");
+        assertEquals(ReservedWordMatcher.NOT_RESERVED, trie.indexOf("Class"), "Matching should be case-sensitive.");
+        assertEquals(ReservedWordMatcher.NOT_RESERVED, trie.indexOf("caf\u00e9"), "Non-ASCII tokens are not reserved.");
+        assertEquals(ReservedWordMatcher.NOT_RESERVED, trie.indexOf("interface"), "Longer tokens are not reserved.");
+        assertFalse(trie.isReserved("x"), "isReserved() should return false for an identifier.");
+    }
+
+    /**
+     * Tests that a token can be classified in place inside a larger character buffer.
+     */
+    @Test
+    void indexOfSlice() {
+        char[] buffer = "int x = (double) y; do".toCharArray();
+        assertEquals(5, trie.indexOf(buffer, 0, 3), "indexOf() should classify a slice at the start.");
+        assertEquals(ReservedWordMatcher.NOT_RESERVED, trie.indexOf(buffer, 4, 5), "indexOf() should reject an identifier slice.");
+        assertEquals(4, trie.indexOf(buffer, 9, 15), "indexOf() should classify a slice in the middle.");
+        assertEquals(3, trie.indexOf(buffer, 20, 22), "indexOf() should classify a slice at the end.");
+    }
+
+    /**
+     * Tests that the trie agrees with the search tree matcher for every reserved word and some identifiers.
+     */
+    @Test
+    void agreesWithSearchTreeMatcher() {
+        SearchTreeReservedWordMatcher tree = new SearchTreeReservedWordMatcher(WORDS);
+        for (String token : List.of("while", "class", "do", "double", "char", "case", "int", "d", "dou", "x", "")) {
+            assertEquals(tree.indexOf(token), trie.indexOf(token), "Matchers should agree on '" + token + "'.");
+        }
+    }
+
+    /**
+     * Tests that the Eytzinger matcher agrees with the trie for every reserved word, for
+     * prefixes and extensions of them, and for slices of a larger buffer.
+     */
+    @Test
+    void agreesWithEytzingerMatcher() {
+        EytzingerReservedWordMatcher eytzinger = new EytzingerReservedWordMatcher(WORDS);
+        for (String token : List.of("while", "class", "do", "double", "char", "case", "int",
+                "d", "dou", "doubles", "a", "zzz", "Class", "caf\u00e9", "")) {
+            assertEquals(trie.indexOf(token), eytzinger.indexOf(token), "Matchers should agree on '" + token + "'.");
+        }
+        char[] buffer = "int x = (double) y; do".toCharArray();
+        assertEquals(4, eytzinger.indexOf(buffer, 9, 15), "indexOf() should classify a slice in the middle.");
+        assertEquals(ReservedWordMatcher.NOT_RESERVED, eytzinger.indexOf(buffer, 4, 5), "indexOf() should reject an identifier slice.");
+        assertEquals("double", eytzinger.wordAt(4), "wordAt() should return the word at the sorted position.");
+    }
+
+    /**
+     * Tests that the Eytzinger matcher finds every word at its sorted position, and none of
+     * the tokens between the words, for full and partly filled last levels of its layout.
+     */
+    @Test
+    void eytzingerMatcherEverySize() {
+        for (int size = 0; size <= 40; size++) {
+            List<String> words = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                words.add(String.format("w%02d", 2 * i));
+            }
+            EytzingerReservedWordMatcher eytzinger = new EytzingerReservedWordMatcher(words);
+            assertEquals(size, eytzinger.size(), "size() should return the number of words.");
+            for (int i = 0; i < size; i++) {
+                assertEquals(i, eytzinger.indexOf(words.get(i)), "Size " + size + ", word " + words.get(i) + ".");
+                assertEquals(ReservedWordMatcher.NOT_RESERVED, eytzinger.indexOf(String.format("w%02d", 2 * i + 1)),
+                        "Size " + size + " should not match the token after " + words.get(i) + ".");
+            }
+            assertEquals(ReservedWordMatcher.NOT_RESERVED, eytzinger.indexOf("a"), "A token before every word should not match.");
+        }
+    }
+
+    /**
+     * Tests that reserved words containing non-ASCII characters are matched exactly.
+     */
+    @Test
+    void nonAsciiReservedWord() {
+        TrieReservedWordMatcher unicode = new TrieReservedWordMatcher(List.of("caf\u00e9", "cafe"));
+        assertEquals(1, unicode.indexOf("caf\u00e9"), "indexOf() should match a non-ASCII word.");
+        assertEquals(0, unicode.indexOf("cafe"), "indexOf() should match the ASCII word.");
+        assertEquals(ReservedWordMatcher.NOT_RESERVED, unicode.indexOf("caf\u00e8"), "Other characters should not match.");
+    }
+}
@@ -0,0 +1,142 @@
+package LexerPackage;
+
+import java.util.Collection;
+import java.util.TreeSet;
+
+/**
+ * A reserved-word matcher that searches the sorted reserved words laid out in a single
+ * array in breadth-first (Eytzinger) order: the root is at index 1 and the children of
+ * the key at index {@code i} are at {@code 2i} and {@code 2i + 1}. The token is compared
+ * in place against the characters of each word, so no String is allocated. The reserved
+ * words are frozen when the matcher is built, and a lookup touches one array of words
+ * instead of following the child references of tree nodes.
+ */
+public class EytzingerReservedWordMatcher implements ReservedWordMatcher {
+    private final String[] words; // Distinct reserved words in sorted order
+    private final char[][] keys;  // The characters of the words in Eytzinger order; keys[0] is unused
+    private final int[] ranks;    // Index in words of each key, indexed like keys
+    private final int maxLength;  // Length of the longest reserved word
+
+    /**
+     * Builds an Eytzinger matcher from a collection of reserved words.
+     *
+     * @param reservedWords The reserved words, in any order; duplicates are ignored.
+     */
+    public EytzingerReservedWordMatcher(Collection<String> reservedWords) {
+        words = new TreeSet<>(reservedWords).toArray(new String[0]);
+        ranks = sortedIndexes(words.length);
+        keys = new char[words.length + 1][];
+        int longest = 0;
+        for (int i = 1; i < keys.length; i++) {
+            keys[i] = words[ranks[i]].toCharArray();
+            longest = Math.max(longest, keys[i].length);
+        }
+        maxLength = longest;
+    }
+
+    /**
+     * Computes the Eytzinger layout of a sorted array: for each index of the layout, the
+     * index of the sorted element stored there. An in-order walk of the implicit tree
+     * visits the layout indexes in sorted order.
+     *
+     * @param size The number of elements.
+     * @return An array of length {@code size + 1} whose element 0 is unused.
+     */
+    private static int[] sortedIndexes(int size) {
+        int[] indexes = new int[size + 1];
+        int next = 0;
+        // In-order walk of the implicit tree, iteratively so large sizes cannot overflow the stack
+        int node = 1;
+        int[] stack = new int[33];
+        int depth = 0;
+        while (node <= size || depth > 0) {
+            if (node <= size) {
+                stack[depth++] = node;
+                node = 2 * node;
+            } else {
+                node = stack[--depth];
+                indexes[node] = next++;
+                node = 2 * node + 1;
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Looks up the characters {@code chars[start..end)} by descending the implicit tree to a
+     * leaf and checking the smallest word not less than the token.
+     *
+     * @param chars The buffer holding the token.
+     * @param start The index of the first character of the token.
+     * @param end   The index one past the last character of the token.
+     * @return The index of the reserved word, or {@link #NOT_RESERVED} if the token is not reserved.
+     */
+    @Override
+    public int indexOf(char[] chars, int start, int end) {
+        if (end - start > maxLength) {
+            return NOT_RESERVED; // Longer than every reserved word
+        }
+        int index = 1;
+        while (index < keys.length) {
+            index = 2 * index + (compare(keys[index], chars, start, end) < 0 ? 1 : 0);
+        }
+        // Undo the right turns taken after the last left turn; that left turn was at the answer
+        index >>>= Integer.numberOfTrailingZeros(~index) + 1;
+        return (index != 0 && compare(keys[index], chars, start, end) == 0) ? ranks[index] : NOT_RESERVED;
+    }
+
+    /**
+     * Looks up a token held in a character sequence.
+     *
+     * @param token The token to look up.
+     * @return The index of the reserved word, or {@link #NOT_RESERVED} if the token is not reserved.
+     */
+    @Override
+    public int indexOf(CharSequence token) {
+        char[] chars = token.toString().toCharArray();
+        return indexOf(chars, 0, chars.length);
+    }
+
+    /**
+     * Compares a key with the characters {@code chars[start..end)} in the order of
+     * {@link String#compareTo(String)}.
+     *
+     * @param key   The characters of a reserved word.
+     * @param chars The buffer holding the token.
+     * @param start The index of the first character of the token.
+     * @param end   The index one past the last character of the token.
+     * @return A negative number, zero or a positive number as the key is less than, equal
+     *         to or greater than the token.
+     */
+    private static int compare(char[] key, char[] chars, int start, int end) {
+        int length = Math.min(key.length, end - start);
+        for (int i = 0; i < length; i++) {
+            int difference = key[i] - chars[start + i];
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return key.length - (end - start);
+    }
+
+    /**
+     * Retrieves the number of reserved words.
+     *
+     * @return The number of distinct reserved words.
+     */
+    @Override
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * Retrieves a reserved word by its index.
+     *
+     * @param index The index of the reserved word, between 0 and {@code size() - 1}.
+     * @return The reserved word.
+     */
+    @Override
+    public String wordAt(int index) {
+        return words[index];
+    }
+}
@@ -0,0 +1,379 @@
+package LexerPackage;
+
+/**
+ * A lexical state machine for Java source that reports only the words of the code itself:
+ * identifiers and keywords. Line comments, block and Javadoc comments, string literals,
+ * character literals, text blocks and numeric literals are skipped in the same single pass
+ * that finds the words, so prose in comments and literals never reaches the parser.
+ *
+ * Words are Java identifiers as defined by {@link Character#isJavaIdentifierStart(int)}
+ * and {@link Character#isJavaIdentifierPart(int)}, so {@code my_var}, {@code $proxy} and
+ * non-ASCII identifiers such as {@code na\u00efve} are single tokens. ASCII characters,
+ * the common case, are classified with a lookup table; only other characters, including
+ * supplementary characters written as surrogate pairs, go through {@link Character}.
+ * A digit starts a numeric literal. The lexer remembers whether
+ * it is inside a comment or literal from one window to the next, so a long comment never
+ * has to fit in a window. Unicode escapes (a backslash, {@code u} and four hex digits)
+ * are not translated before lexing.
+ */
+public class JavaLexer implements TokenScanner {
+    /**
+     * The lexical context the lexer is in.
+     */
+    private enum State {
+        /** Between tokens of code. */
+        CODE,
+        /** Inside a {@code //} comment. */
+        LINE_COMMENT,
+        /** Inside a block or Javadoc comment. */
+        BLOCK_COMMENT,
+        /** Inside a string literal. */
+        STRING,
+        /** Inside a character literal. */
+        CHAR_LITERAL,
+        /** Inside a text block. */
+        TEXT_BLOCK
+    }
+
+    private static final byte IDENTIFIER_START = 1; // Flag: the character may start an identifier
+    private static final byte IDENTIFIER_PART = 2;  // Flag: the character may continue an identifier
+    private static final byte[] ASCII_CLASS = new byte[128]; // Identifier flags of each ASCII character
+
+    static {
+        for (char c = 0; c < 128; c++) {
+            if (Character.isJavaIdentifierStart(c)) {
+                ASCII_CLASS[c] |= IDENTIFIER_START;
+            }
+            if (Character.isJavaIdentifierPart(c)) {
+                ASCII_CLASS[c] |= IDENTIFIER_PART;
+            }
+        }
+    }
+
+    private State state = State.CODE; // The context at the end of the last scanned window
+
+    /**
+     * Returns the lexer to code, outside any comment or literal.
+     */
+    @Override
+    public void reset() {
+        state = State.CODE;
+    }
+
+    /**
+     * Scans {@code chars[start..end)} and reports every identifier and keyword to the handler.
+     * Scanning stops early only when more input follows and the characters at the end of
+     * the window could change meaning, such as a word that may continue, a {@code /} that
+     * may start a comment or a {@code *} that may end one.
+     *
+     * @param chars      The buffer to scan.
+     * @param start      The index of the first character to scan.
+     * @param end        The index one past the last character to scan.
+     * @param endOfInput {@code true} if no input follows this window.
+     * @param handler    The handler that receives the tokens.
+     * @return The index at which scanning must resume with the next window, or {@code end}.
+     */
+    @Override
+    public int tokenize(char[] chars, int start, int end, boolean endOfInput, TokenHandler handler) {
+        int i = start;
+        while (i < end) {
+            switch (state) {
+                case CODE:
+                    i = scanCode(chars, i, end, endOfInput, handler);
+                    break;
+                case LINE_COMMENT:
+                    i = skipLineComment(chars, i, end);
+                    break;
+                case BLOCK_COMMENT:
+                    i = skipBlockComment(chars, i, end, endOfInput);
+                    break;
+                case STRING:
+                    i = skipQuoted(chars, i, end, endOfInput, '"');
+                    break;
+                case CHAR_LITERAL:
+                    i = skipQuoted(chars, i, end, endOfInput, '\'');
+                    break;
+                default:
+                    i = skipTextBlock(chars, i, end, endOfInput);
+                    break;
+            }
+            if (i < 0) {
+                return ~i; // The rest of the window must be scanned again with more input
+            }
+        }
+        if (endOfInput) {
+            reset();
+        }
+        return end;
+    }
+
+    /**
+     * Scans code up to the start of a comment or literal, reporting the words found.
+     * Like the other scanning helpers, it returns the bitwise complement of an index when
+     * scanning must resume at that index with the next window.
+     *
+     * @param chars      The buffer to scan.
+     * @param i          The index to start at.
+     * @param end        The index one past the last character to scan.
+     * @param endOfInput {@code true} if no input follows this window.
+     * @param handler    The handler that receives the tokens.
+     * @return The index to continue at, or the complement of the index to resume at.
+     */
+    private int scanCode(char[] chars, int i, int end, boolean endOfInput, TokenHandler handler) {
+        while (i < end) {
+            char c = chars[i];
+            if (isDigit(c)) {
+                int numberStart = i;
+                i = skipNumber(chars, i, end);
+                if (i == end && !endOfInput) {
+                    return ~numberStart; // The literal may continue in the next window
+                }
+            } else if (c >= 128 || (ASCII_CLASS[c] & IDENTIFIER_START) != 0) {
+                int tokenStart = i;
+                i = skipIdentifier(chars, i, end, endOfInput);
+                if (i == tokenStart) {
+                    i++; // A non-ASCII character that cannot start an identifier
+                    continue;
+                }
+                if (i == end && !endOfInput) {
+                    return ~tokenStart; // The identifier may continue in the next window
+                }
+                handler.token(chars, tokenStart, i);
+            } else if (c == '/' || c == '"' || c == '.') {
+                if (end - i < 3 && !endOfInput) {
+                    return ~i; // Too few characters to tell what starts here
+                }
+                if (c == '/' && i + 1 < end && chars[i + 1] == '/') {
+                    state = State.LINE_COMMENT;
+                    return i + 2;
+                } else if (c == '/' && i + 1 < end && chars[i + 1] == '*') {
+                    state = State.BLOCK_COMMENT;
+                    return i + 2;
+                } else if (c == '"') {
+                    boolean textBlock = i + 2 < end && chars[i + 1] == '"' && chars[i + 2] == '"';
+                    state = textBlock ? State.TEXT_BLOCK : State.STRING;
+                    return textBlock ? i + 3 : i + 1;
+                } else if (c == '.' && i + 1 < end && isDigit(chars[i + 1])) {
+                    int numberStart = i;
+                    i = skipNumber(chars, i, end); // A literal such as .5
+                    if (i == end && !endOfInput) {
+                        return ~numberStart;
+                    }
+                } else {
+                    i++;
+                }
+            } else if (c == '\'') {
+                state = State.CHAR_LITERAL;
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Skips an identifier. ASCII characters are classified by table lookup; other
+     * characters are decoded as code points, so surrogate pairs are classified as the
+     * supplementary character they encode.
+     *
+     * @param chars      The buffer to scan.
+     * @param i          The index of the character that may start the identifier.
+     * @param end        The index one past the last character to scan.
+     * @param endOfInput {@code true} if no input follows this window.
+     * @return The index one past the identifier; {@code i} if no identifier starts there;
+     *         or {@code end} if a high surrogate at the end of the window may continue it.
+     */
+    private static int skipIdentifier(char[] chars, int i, int end, boolean endOfInput) {
+        byte required = IDENTIFIER_START;
+        while (i < end) {
+            char c = chars[i];
+            if (c < 128) {
+                if ((ASCII_CLASS[c] & required) == 0) {
+                    break;
+                }
+                i++;
+            } else {
+                int codePoint = c;
+                int width = 1;
+                if (Character.isHighSurrogate(c)) {
+                    if (i + 1 == end) {
+                        return endOfInput ? i : end; // The low surrogate is in the next window
+                    }
+                    if (Character.isLowSurrogate(chars[i + 1])) {
+                        codePoint = Character.toCodePoint(c, chars[i + 1]);
+                        width = 2;
+                    }
+                }
+                boolean accepted = (required == IDENTIFIER_START)
+                        ? Character.isJavaIdentifierStart(codePoint)
+                        : Character.isJavaIdentifierPart(codePoint);
+                if (!accepted) {
+                    break;
+                }
+                i += width;
+            }
+            required = IDENTIFIER_PART;
+        }
+        return i;
+    }
+
+    /**
+     * Skips a numeric literal: digits, letters (for radix prefixes, hex digits, exponents
+     * and type suffixes), underscores, decimal points, and a sign that follows an exponent
+     * marker ({@code e} in decimal literals, {@code p} in hexadecimal ones).
+     *
+     * @param chars The buffer to scan.
+     * @param i     The index of the first character of the literal.
+     * @param end   The index one past the last character to scan.
+     * @return The index one past the literal.
+     */
+    private static int skipNumber(char[] chars, int i, int end) {
+        boolean hex = chars[i] == '0' && i + 1 < end && (chars[i + 1] == 'x' || chars[i + 1] == 'X');
+        i++;
+        while (i < end) {
+            char c = chars[i];
+            if (Tokenizer.isTokenChar(c) || c == '_' || c == '.') {
+                i++;
+            } else if ((c == '+' || c == '-') && isExponentMarker(chars[i - 1], hex)) {
+                i++;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Checks whether a character marks the exponent of a floating-point literal.
+     *
+     * @param c   The character to check.
+     * @param hex {@code true} if the literal is hexadecimal.
+     * @return {@code true} if a sign may follow the character.
+     */
+    private static boolean isExponentMarker(char c, boolean hex) {
+        return hex ? (c == 'p' || c == 'P') : (c == 'e' || c == 'E');
+    }
+
+    /**
+     * Checks whether a character is an ASCII digit.
+     *
+     * @param c The character to check.
+     * @return {@code true} if the character is a digit.
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Skips the rest of a line comment. The line break itself is left to be scanned as code.
+     *
+     * @param chars The buffer to scan.
+     * @param i     The index to start at.
+     * @param end   The index one past the last character to scan.
+     * @return The index of the line break, or {@code end} if the comment continues.
+     */
+    private int skipLineComment(char[] chars, int i, int end) {
+        while (i < end) {
+            if (chars[i] == '\n' || chars[i] == '\r') {
+                state = State.CODE;
+                return i;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Skips the rest of a block comment, including its closing delimiter.
+     *
+     * @param chars      The buffer to scan.
+     * @param i          The index to start at.
+     * @param end        The index one past the last character to scan.
+     * @param endOfInput {@code true} if no input follows this window.
+     * @return The index after the comment, {@code end} if the comment continues, or the
+     *         complement of the index of a {@code *} at the end of the window.
+     */
+    private int skipBlockComment(char[] chars, int i, int end, boolean endOfInput) {
+        while (i < end) {
+            if (chars[i] == '*') {
+                if (i + 1 == end) {
+                    return endOfInput ? end : ~i; // The '/' may be in the next window
+                }
+                if (chars[i + 1] == '/') {
+                    state = State.CODE;
+                    return i + 2;
+                }
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Skips the rest of a string or character literal, including its closing quote. An
+     * unterminated literal ends at the line break.
+     *
+     * @param chars      The buffer to scan.
+     * @param i          The index to start at.
+     * @param end        The index one past the last character to scan.
+     * @param endOfInput {@code true} if no input follows this window.
+     * @param quote      The quote character that closes the literal.
+     * @return The index after the literal, {@code end} if the literal continues, or the
+     *         complement of the index of a backslash at the end of the window.
+     */
+    private int skipQuoted(char[] chars, int i, int end, boolean endOfInput, char quote) {
+        while (i < end) {
+            char c = chars[i];
+            if (c == '\\') {
+                if (i + 1 == end) {
+                    return endOfInput ? end : ~i; // The escaped character is in the next window
+                }
+                i += 2;
+            } else if (c == quote) {
+                state = State.CODE;
+                return i + 1;
+            } else if (c == '\n' || c == '\r') {
+                state = State.CODE;
+                return i;
+            } else {
+                i++;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Skips the rest of a text block, including its closing {@code """}.
+     *
+     * @param chars      The buffer to scan.
+     * @param i          The index to start at.
+     * @param end        The index one past the last character to scan.
+     * @param endOfInput {@code true} if no input follows this window.
+     * @return The index after the text block, {@code end} if it continues, or the complement
+     *         of the index of a quote or backslash near the end of the window.
+     */
+    private int skipTextBlock(char[] chars, int i, int end, boolean endOfInput) {
+        while (i < end) {
+            char c = chars[i];
+            if (c == '\\') {
+                if (i + 1 == end) {
+                    return endOfInput ? end : ~i;
+                }
+                i += 2;
+            } else if (c == '"') {
+                if (end - i < 3) {
+                    return endOfInput ? end : ~i; // The closing delimiter may continue in the next window
+                }
+                if (chars[i + 1] == '"' && chars[i + 2] == '"') {
+                    state = State.CODE;
+                    return i + 3;
+                }
+                i++;
+            } else {
+                i++;
+            }
+        }
+        return i;
+    }
+}
@@ -0,0 +1,217 @@
+package LexerPackage;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A Reader over a UTF-8 file that is memory-mapped with {@link FileChannel#map} instead of
+ * being read through a stream. ASCII bytes, which make up almost all Java source text, are
+ * widened straight from the mapped buffer into the caller's character buffer; only bytes of
+ * multi-byte sequences go through UTF-8 decoding. Malformed input is replaced with U+FFFD.
+ *
+ * Files larger than one mapping are mapped one segment at a time, so files of any size
+ * can be read.
+ */
+public class MappedSourceReader extends Reader {
+    /**
+     * The default number of bytes mapped at a time.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    private static final char REPLACEMENT = '\uFFFD'; // Substituted for malformed input
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int segmentSize;
+    private MappedByteBuffer segment; // The mapped part of the file
+    private long segmentStart;        // File position of the first byte of the segment
+    private char pendingLowSurrogate;  // Second half of a decoded pair that did not fit, or 0
+    private final byte[] scratch = new byte[8192]; // Bytes copied out of the mapping in bulk
+
+    /**
+     * Opens and maps a UTF-8 file with the default segment size.
+     *
+     * @param path The file to read.
+     * @throws IOException if the file cannot be opened or mapped.
+     */
+    public MappedSourceReader(Path path) throws IOException {
+        this(path, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Opens and maps a UTF-8 file with the given segment size.
+     *
+     * @param path        The file to read.
+     * @param segmentSize The number of bytes to map at a time; at least 4, so that any
+     *                    UTF-8 sequence fits in one segment.
+     * @throws IOException if the file cannot be opened or mapped.
+     * @throws IllegalArgumentException if the segment size is less than 4.
+     */
+    public MappedSourceReader(Path path, int segmentSize) throws IOException {
+        if (segmentSize < 4) {
+            throw new IllegalArgumentException("Segment size must be at least 4: " + segmentSize);
+        }
+        this.segmentSize = segmentSize;
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        fileSize = channel.size();
+        map(0);
+    }
+
+    /**
+     * Maps the segment of the file starting at the given position.
+     *
+     * @param position The file position of the first byte to map.
+     * @throws IOException if the file cannot be mapped.
+     */
+    private void map(long position) throws IOException {
+        segmentStart = position;
+        segment = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(segmentSize, fileSize - position));
+    }
+
+    /**
+     * Reads characters into a portion of an array.
+     *
+     * @param chars  The destination buffer.
+     * @param offset The index at which to start storing characters.
+     * @param length The maximum number of characters to read.
+     * @return The number of characters read, or -1 if the end of the file has been reached.
+     * @throws IOException if the reader is closed or the file cannot be mapped.
+     */
+    @Override
+    public int read(char[] chars, int offset, int length) throws IOException {
+        if (segment == null) {
+            throw new IOException("Reader is closed.");
+        }
+        if (length == 0) {
+            return 0;
+        }
+
+        int next = offset;
+        int limit = offset + length;
+        if (pendingLowSurrogate != 0) {
+            chars[next++] = pendingLowSurrogate;
+            pendingLowSurrogate = 0;
+        }
+        while (next < limit) {
+            MappedByteBuffer bytes = segment;
+            int position = bytes.position();
+            int end = bytes.limit();
+
+            // ASCII fast path: copy bytes out in bulk and widen them until a multi-byte sequence starts
+            while (next < limit && position < end) {
+                int run = Math.min(Math.min(limit - next, end - position), scratch.length);
+                bytes.get(position, scratch, 0, run);
+                int ascii = 0;
+                while (ascii < run && scratch[ascii] >= 0) {
+                    chars[next + ascii] = (char) scratch[ascii];
+                    ascii++;
+                }
+                next += ascii;
+                position += ascii;
+                if (ascii < run) {
+                    break;
+                }
+            }
+            bytes.position(position);
+
+            if (next == limit) {
+                break;
+            } else if (position == end) {
+                if (segmentStart + end == fileSize) {
+                    break; // End of file
+                }
+                map(segmentStart + end);
+            } else {
+                next = decodeSequence(chars, next, limit);
+            }
+        }
+
+        int count = next - offset;
+        return (count == 0) ? -1 : count;
+    }
+
+    /**
+     * Decodes one multi-byte UTF-8 sequence at the current position of the segment.
+     * A sequence that crosses the end of the segment is re-mapped to start a new segment.
+     *
+     * @param chars The destination buffer.
+     * @param next  The index at which to store the decoded character; less than {@code limit}.
+     * @param limit The index one past the last usable position in the buffer.
+     * @return The index following the stored characters.
+     * @throws IOException if the file cannot be mapped.
+     */
+    private int decodeSequence(char[] chars, int next, int limit) throws IOException {
+        int position = segment.position();
+        int lead = segment.get(position) & 0xFF;
+        int length;
+        int minimum;
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            length = 2;
+            minimum = 0x80;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            length = 3;
+            minimum = 0x800;
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            length = 4;
+            minimum = 0x10000;
+        } else {
+            segment.position(position + 1); // Stray continuation byte or invalid lead byte
+            chars[next] = REPLACEMENT;
+            return next + 1;
+        }
+
+        if (position + length > segment.limit() && segmentStart + segment.limit() < fileSize) {
+            map(segmentStart + position); // Start a new segment at the lead byte
+            position = 0;
+        }
+        if (position + length > segment.limit()) {
+            segment.position(position + 1); // Truncated at the end of the file
+            chars[next] = REPLACEMENT;
+            return next + 1;
+        }
+
+        int codePoint = lead & (0xFF >> (length + 1));
+        for (int i = 1; i < length; i++) {
+            int continuation = segment.get(position + i) & 0xFF;
+            if ((continuation & 0xC0) != 0x80) {
+                segment.position(position + i); // Resume at the byte that broke the sequence
+                chars[next] = REPLACEMENT;
+                return next + 1;
+            }
+            codePoint = (codePoint << 6) | (continuation & 0x3F);
+        }
+        segment.position(position + length);
+
+        if (codePoint < minimum || codePoint > Character.MAX_CODE_POINT
+                || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+            chars[next] = REPLACEMENT; // Overlong encoding, surrogate or out of range
+            return next + 1;
+        }
+        if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            chars[next] = (char) codePoint;
+            return next + 1;
+        }
+        chars[next++] = Character.highSurrogate(codePoint);
+        if (next < limit) {
+            chars[next++] = Character.lowSurrogate(codePoint);
+        } else {
+            pendingLowSurrogate = Character.lowSurrogate(codePoint);
+        }
+        return next;
+    }
+
+    /**
+     * Closes the file. The mapping itself is released when it is garbage collected.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        segment = null;
+        channel.close();
+    }
+}
@@ -0,0 +1,57 @@
+package LexerPackage;
+
+/**
+ * An interface for classifying tokens as reserved words. The reserved words are numbered
+ * by their position in sorted order, so callers can record hits in arrays or bit sets
+ * indexed by that number.
+ */
+public interface ReservedWordMatcher {
+
+    /**
+     * The value returned by the lookup methods when a token is not a reserved word.
+     */
+    int NOT_RESERVED = -1;
+
+    /**
+     * Looks up the characters {@code chars[start..end)} without allocating a String.
+     *
+     * @param chars The buffer holding the token.
+     * @param start The index of the first character of the token.
+     * @param end   The index one past the last character of the token.
+     * @return The index of the reserved word, or {@link #NOT_RESERVED} if the token is not reserved.
+     */
+    int indexOf(char[] chars, int start, int end);
+
+    /**
+     * Looks up a token held in a character sequence.
+     *
+     * @param token The token to look up.
+     * @return The index of the reserved word, or {@link #NOT_RESERVED} if the token is not reserved.
+     */
+    int indexOf(CharSequence token);
+
+    /**
+     * Checks whether a token is a reserved word.
+     *
+     * @param token The token to check.
+     * @return {@code true} if the token is a reserved word, {@code false} otherwise.
+     */
+    default boolean isReserved(CharSequence token) {
+        return indexOf(token) != NOT_RESERVED;
+    }
+
+    /**
+     * Retrieves the number of reserved words.
+     *
+     * @return The number of distinct reserved words.
+     */
+    int size();
+
+    /**
+     * Retrieves a reserved word by its index.
+     *
+     * @param index The index of the reserved word, between 0 and {@code size() - 1}.
+     * @return The reserved word.
+     */
+    String wordAt(int index);
+}
@@ -0,0 +1,78 @@
+package LexerPackage;
+
+import TreePackage.AVLTree;
+import TreePackage.SearchTreeInterface;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.TreeSet;
+
+/**
+ * A reserved-word matcher backed by a balanced binary search tree of Strings.
+ * Every lookup allocates a String for the token and walks the tree with
+ * {@code String.compareTo}; it is kept as the reference implementation that the
+ * other matchers are compared against.
+ */
+public class SearchTreeReservedWordMatcher implements ReservedWordMatcher {
+    private final String[] words;                   // Distinct reserved words in sorted order
+    private final SearchTreeInterface<String> tree; // The reserved words as a balanced tree
+
+    /**
+     * Builds a search tree matcher from a collection of reserved words.
+     *
+     * @param reservedWords The reserved words, in any order; duplicates are ignored.
+     */
+    public SearchTreeReservedWordMatcher(Collection<String> reservedWords) {
+        words = new TreeSet<>(reservedWords).toArray(new String[0]);
+        tree = new AVLTree<>();
+        for (String word : words) {
+            tree.add(word);
+        }
+    }
+
+    /**
+     * Looks up the characters {@code chars[start..end)} by copying them into a String.
+     *
+     * @param chars The buffer holding the token.
+     * @param start The index of the first character of the token.
+     * @param end   The index one past the last character of the token.
+     * @return The index of the reserved word, or {@link #NOT_RESERVED} if the token is not reserved.
+     */
+    @Override
+    public int indexOf(char[] chars, int start, int end) {
+        return indexOf(new String(chars, start, end - start));
+    }
+
+    /**
+     * Looks up a token by searching the tree.
+     *
+     * @param token The token to look up.
+     * @return The index of the reserved word, or {@link #NOT_RESERVED} if the token is not reserved.
+     */
+    @Override
+    public int indexOf(CharSequence token) {
+        String word = tree.getEntry(token.toString());
+        return (word != null) ? Arrays.binarySearch(words, word) : NOT_RESERVED;
+    }
+
+    /**
+     * Retrieves the number of reserved words.
+     *
+     * @return The number of distinct reserved words.
+     */
+    @Override
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * Retrieves a reserved word by its index.
+     *
+     * @param index The index of the reserved word, between 0 and {@code size() - 1}.
+     * @return The reserved word.
+     */
+    @Override
+    public String wordAt(int index) {
+        return words[index];
+    }
+}
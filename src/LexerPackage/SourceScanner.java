@@ -0,0 +1,79 @@
+package LexerPackage;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Feeds a character stream to a {@link TokenScanner} one window at a time, so text of any
+ * length is tokenized in bounded memory. The window is reused across reads; it only grows
+ * when the scanner cannot make progress within a full window, such as for a single token
+ * longer than the window.
+ */
+public class SourceScanner {
+    /**
+     * The default window size, in characters.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 16 * 1024;
+
+    private char[] window; // Holds the characters read but not yet tokenized
+
+    /**
+     * Constructs a SourceScanner with the default window size.
+     */
+    public SourceScanner() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Constructs a SourceScanner with the given window size.
+     *
+     * @param windowSize The number of characters to read at a time.
+     * @throws IllegalArgumentException if the window size is not positive.
+     */
+    public SourceScanner(int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size must be positive: " + windowSize);
+        }
+        window = new char[windowSize];
+    }
+
+    /**
+     * Reads the stream to its end and reports every token to the handler. The stream is not closed.
+     *
+     * @param reader    The stream to read.
+     * @param tokenizer The scanner that splits the text into tokens; it is reset first.
+     * @param handler   The handler that receives the tokens.
+     * @throws IOException if the stream cannot be read.
+     */
+    public void scan(Reader reader, TokenScanner tokenizer, TokenHandler handler) throws IOException {
+        tokenizer.reset();
+        int filled = 0; // window[0..filled) holds unscanned characters
+        while (true) {
+            if (filled == window.length) {
+                window = Arrays.copyOf(window, window.length * 2); // A token fills the whole window
+            }
+            int read = reader.read(window, filled, window.length - filled);
+            if (read < 0) {
+                tokenizer.tokenize(window, 0, filled, true, handler);
+                return;
+            }
+            filled += read;
+
+            // Move the unscanned characters at the end of the window to the front
+            int resume = tokenizer.tokenize(window, 0, filled, false, handler);
+            System.arraycopy(window, resume, window, 0, filled - resume);
+            filled -= resume;
+        }
+    }
+
+    /**
+     * Retrieves the current window size, which exceeds the initial size only after a
+     * token longer than the window was read.
+     *
+     * @return The window size, in characters.
+     */
+    public int getWindowSize() {
+        return window.length;
+    }
+}
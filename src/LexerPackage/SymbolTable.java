@@ -0,0 +1,229 @@
+package LexerPackage;
+
+import java.util.Arrays;
+
+/**
+ * Interns symbols, such as identifiers, and hands out a dense {@code int} ID for each
+ * distinct symbol: the first symbol interned gets ID 0, the next new one ID 1, and so on.
+ * Data about symbols can then be kept in primitive arrays indexed by ID.
+ *
+ * Symbols are interned directly from slices of a character buffer, so a symbol that was
+ * seen before costs a hash and a comparison but no allocation. The characters of every
+ * symbol are stored once, back to back, in a single pool; the lookup table is an
+ * open-addressing hash table of IDs. A String is only created for a symbol when
+ * {@link #symbol(int)} asks for it.
+ */
+public class SymbolTable {
+    private static final int EMPTY = -1; // Marks a free slot of the hash table
+
+    private char[] pool;      // The characters of all symbols, back to back
+    private int poolLength;   // Number of characters used in the pool
+    private int[] starts;     // Start of each symbol in the pool; starts[id + 1] is its end
+    private int[] hashes;     // Hash code of each symbol
+    private String[] strings; // Symbols converted to String so far
+    private int[] slots;      // Open-addressing hash table of IDs; its length is a power of two
+    private int size;         // Number of symbols
+
+    /**
+     * Constructs an empty SymbolTable.
+     */
+    public SymbolTable() {
+        pool = new char[1024];
+        starts = new int[65];
+        hashes = new int[64];
+        strings = new String[64];
+        slots = new int[128];
+        Arrays.fill(slots, EMPTY);
+    }
+
+    /**
+     * Retrieves the number of distinct symbols interned.
+     *
+     * @return The number of symbols; IDs run from 0 to {@code size() - 1}.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Interns the symbol held in {@code chars[start..end)}.
+     *
+     * @param chars The buffer holding the symbol.
+     * @param start The index of the first character of the symbol.
+     * @param end   The index one past the last character of the symbol.
+     * @return The ID of the symbol, which is {@code size() - 1} if the symbol is new.
+     */
+    public int intern(char[] chars, int start, int end) {
+        int hash = hash(chars, start, end);
+        int slot = findSlot(chars, start, end, hash);
+        if (slots[slot] != EMPTY) {
+            return slots[slot];
+        }
+        return add(chars, start, end, hash, slot);
+    }
+
+    /**
+     * Interns a symbol of another symbol table, for example to merge the results of two
+     * parsers that numbered their symbols independently.
+     *
+     * @param source   The symbol table holding the symbol.
+     * @param sourceId The ID of the symbol in the source table.
+     * @return The ID of the symbol in this table.
+     * @throws IndexOutOfBoundsException if the ID is not valid in the source table.
+     */
+    public int intern(SymbolTable source, int sourceId) {
+        checkId(source, sourceId);
+        int start = source.starts[sourceId];
+        int end = source.starts[sourceId + 1];
+        int hash = source.hashes[sourceId];
+        int slot = findSlot(source.pool, start, end, hash);
+        if (slots[slot] != EMPTY) {
+            return slots[slot];
+        }
+        return add(source.pool, start, end, hash, slot);
+    }
+
+    /**
+     * Looks up the symbol held in {@code chars[start..end)} without interning it.
+     *
+     * @param chars The buffer holding the symbol.
+     * @param start The index of the first character of the symbol.
+     * @param end   The index one past the last character of the symbol.
+     * @return The ID of the symbol, or -1 if it has not been interned.
+     */
+    public int find(char[] chars, int start, int end) {
+        return slots[findSlot(chars, start, end, hash(chars, start, end))];
+    }
+
+    /**
+     * Retrieves a symbol as a String. The String is created on the first request and
+     * reused afterwards.
+     *
+     * @param id The ID of the symbol.
+     * @return The symbol.
+     * @throws IndexOutOfBoundsException if the ID is not valid.
+     */
+    public String symbol(int id) {
+        checkId(this, id);
+        String symbol = strings[id];
+        if (symbol == null) {
+            symbol = new String(pool, starts[id], starts[id + 1] - starts[id]);
+            strings[id] = symbol;
+        }
+        return symbol;
+    }
+
+    /**
+     * Finds the slot that holds a symbol, or the free slot where it belongs.
+     *
+     * @param chars The buffer holding the symbol.
+     * @param start The index of the first character of the symbol.
+     * @param end   The index one past the last character of the symbol.
+     * @param hash  The hash code of the symbol.
+     * @return The index of the slot.
+     */
+    private int findSlot(char[] chars, int start, int end, int hash) {
+        int mask = slots.length - 1;
+        int slot = hash & mask;
+        while (true) {
+            int id = slots[slot];
+            if (id == EMPTY || (hashes[id] == hash && matches(id, chars, start, end))) {
+                return slot;
+            }
+            slot = (slot + 1) & mask; // Linear probing
+        }
+    }
+
+    /**
+     * Checks whether a stored symbol equals the characters {@code chars[start..end)}.
+     *
+     * @param id    The ID of the stored symbol.
+     * @param chars The buffer holding the characters.
+     * @param start The index of the first character.
+     * @param end   The index one past the last character.
+     * @return {@code true} if the characters are equal.
+     */
+    private boolean matches(int id, char[] chars, int start, int end) {
+        int symbolStart = starts[id];
+        return Arrays.equals(pool, symbolStart, starts[id + 1], chars, start, end);
+    }
+
+    /**
+     * Stores a new symbol and assigns it the next ID.
+     *
+     * @param chars The buffer holding the symbol.
+     * @param start The index of the first character of the symbol.
+     * @param end   The index one past the last character of the symbol.
+     * @param hash  The hash code of the symbol.
+     * @param slot  The free slot where the symbol belongs.
+     * @return The ID of the new symbol.
+     */
+    private int add(char[] chars, int start, int end, int hash, int slot) {
+        int length = end - start;
+        if (poolLength + length > pool.length) {
+            pool = Arrays.copyOf(pool, Math.max(pool.length * 2, poolLength + length));
+        }
+        if (size == hashes.length) {
+            hashes = Arrays.copyOf(hashes, size * 2);
+            strings = Arrays.copyOf(strings, size * 2);
+            starts = Arrays.copyOf(starts, size * 2 + 1);
+        }
+        System.arraycopy(chars, start, pool, poolLength, length);
+        poolLength += length;
+
+        int id = size++;
+        starts[id + 1] = poolLength;
+        hashes[id] = hash;
+        slots[slot] = id;
+        if (size * 2 > slots.length) {
+            rehash(); // Keep the load factor at most one half
+        }
+        return id;
+    }
+
+    /**
+     * Doubles the hash table and reinserts every ID.
+     */
+    private void rehash() {
+        slots = new int[slots.length * 2];
+        Arrays.fill(slots, EMPTY);
+        int mask = slots.length - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = hashes[id] & mask;
+            while (slots[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = id;
+        }
+    }
+
+    /**
+     * Computes the hash code of a symbol: the {@link String#hashCode()} of its characters,
+     * with the high bits mixed into the low bits used to pick a slot.
+     *
+     * @param chars The buffer holding the symbol.
+     * @param start The index of the first character of the symbol.
+     * @param end   The index one past the last character of the symbol.
+     * @return The hash code.
+     */
+    private static int hash(char[] chars, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Checks that an ID is valid in a symbol table.
+     *
+     * @param table The symbol table.
+     * @param id    The ID to check.
+     * @throws IndexOutOfBoundsException if the ID is not valid.
+     */
+    private static void checkId(SymbolTable table, int id) {
+        if (id < 0 || id >= table.size) {
+            throw new IndexOutOfBoundsException("No symbol with ID " + id + "; size " + table.size);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package LexerPackage;
+
+/**
+ * A callback that receives tokens as slices of a character buffer. The buffer is owned
+ * by the caller and may be reused once the callback returns, so implementations must
+ * copy any characters they want to keep.
+ */
+@FunctionalInterface
+public interface TokenHandler {
+
+    /**
+     * Receives the token held in {@code chars[start..end)}.
+     *
+     * @param chars The buffer holding the token.
+     * @param start The index of the first character of the token.
+     * @param end   The index one past the last character of the token.
+     */
+    void token(char[] chars, int start, int end);
+}
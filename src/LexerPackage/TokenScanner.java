@@ -0,0 +1,31 @@
+package LexerPackage;
+
+/**
+ * Splits text into tokens a window at a time. Tokens are reported to a {@link TokenHandler}
+ * as offsets into the scanned buffer. When more input follows a window, a scanner may stop
+ * before the end of the window, for example inside a token that could continue; the
+ * caller moves the unscanned characters to the front of the next window and scans them
+ * again. A scanner may keep state from one window to the next, such as being inside a
+ * comment, until {@link #reset()} is called or the end of the input is scanned.
+ */
+public interface TokenScanner {
+
+    /**
+     * Scans {@code chars[start..end)} and reports every complete token to the handler.
+     *
+     * @param chars      The buffer to scan.
+     * @param start      The index of the first character to scan.
+     * @param end        The index one past the last character to scan.
+     * @param endOfInput {@code true} if no input follows this window, so a token that runs
+     *                   into {@code end} is complete.
+     * @param handler    The handler that receives the tokens.
+     * @return The index at which scanning must resume with the next window, or {@code end}.
+     */
+    int tokenize(char[] chars, int start, int end, boolean endOfInput, TokenHandler handler);
+
+    /**
+     * Forgets any state carried over from earlier windows, so a new input can be scanned.
+     */
+    default void reset() {
+    }
+}
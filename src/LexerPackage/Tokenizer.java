@@ -0,0 +1,73 @@
+package LexerPackage;
+
+/**
+ * A hand-written tokenizer that splits text into maximal runs of ASCII letters and digits,
+ * matching {@code String.split("[^a-zA-Z0-9]+")} without a regular expression. Tokens are
+ * reported to a {@link TokenHandler} as offsets into the scanned buffer, so tokenizing
+ * allocates nothing.
+ *
+ * The tokenizer can scan input a window at a time: when more input follows, a token that
+ * runs into the end of the window is not reported, and its start index is returned so the
+ * caller can move it to the front of the next window.
+ */
+public class Tokenizer implements TokenScanner {
+    private static final boolean[] TOKEN_CHAR = new boolean[128]; // ASCII letters and digits
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            TOKEN_CHAR[c] = true;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            TOKEN_CHAR[c] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            TOKEN_CHAR[c] = true;
+        }
+    }
+
+    /**
+     * Checks whether a character can be part of a token.
+     *
+     * @param c The character to check.
+     * @return {@code true} if the character is an ASCII letter or digit, {@code false} otherwise.
+     */
+    public static boolean isTokenChar(char c) {
+        return c < 128 && TOKEN_CHAR[c];
+    }
+
+    /**
+     * Scans {@code chars[start..end)} and reports every complete token to the handler.
+     *
+     * @param chars      The buffer to scan.
+     * @param start      The index of the first character to scan.
+     * @param end        The index one past the last character to scan.
+     * @param endOfInput {@code true} if no input follows this window, so a token that runs
+     *                   into {@code end} is complete.
+     * @param handler    The handler that receives the tokens.
+     * @return The index at which scanning must resume with the next window: the start of a
+     *         token that runs into {@code end} and is still incomplete, or {@code end}.
+     */
+    @Override
+    public int tokenize(char[] chars, int start, int end, boolean endOfInput, TokenHandler handler) {
+        int i = start;
+        while (i < end) {
+            // Skip separators
+            while (i < end && !isTokenChar(chars[i])) {
+                i++;
+            }
+            if (i == end) {
+                break;
+            }
+
+            int tokenStart = i;
+            while (i < end && isTokenChar(chars[i])) {
+                i++;
+            }
+            if (i == end && !endOfInput) {
+                return tokenStart; // The token may continue in the next window
+            }
+            handler.token(chars, tokenStart, i);
+        }
+        return end;
+    }
+}
@@ -0,0 +1,150 @@
+package LexerPackage;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.TreeSet;
+
+/**
+ * A reserved-word matcher backed by a character-indexed trie. The trie is stored as a
+ * flat transition table, so classifying a token costs two array reads per character and
+ * no String comparisons. Tokens containing a character that appears in no reserved word,
+ * or longer than the longest reserved word, are rejected without walking the trie.
+ */
+public class TrieReservedWordMatcher implements ReservedWordMatcher {
+    private static final int NO_STATE = 0; // The root is never a transition target
+
+    private final String[] words;      // Distinct reserved words in sorted order
+    private final int[] columnOf;      // Character -> transition table column, or -1
+    private final int alphabetSize;    // Number of distinct characters in the reserved words
+    private final int[] transitions;   // state * alphabetSize + column -> next state
+    private final int[] wordIndexOf;   // State -> index of the word ending there, or NOT_RESERVED
+    private final int maxLength;       // Length of the longest reserved word
+
+    /**
+     * Builds a trie matcher from a collection of reserved words.
+     *
+     * @param reservedWords The reserved words, in any order; duplicates are ignored.
+     */
+    public TrieReservedWordMatcher(Collection<String> reservedWords) {
+        words = new TreeSet<>(reservedWords).toArray(new String[0]);
+
+        // Assign a column to every character used by a reserved word
+        int highestChar = 0;
+        for (String word : words) {
+            for (int i = 0; i < word.length(); i++) {
+                highestChar = Math.max(highestChar, word.charAt(i));
+            }
+        }
+        columnOf = new int[highestChar + 1];
+        Arrays.fill(columnOf, -1);
+        int columns = 0;
+        int totalLength = 0;
+        int longest = 0;
+        for (String word : words) {
+            for (int i = 0; i < word.length(); i++) {
+                char c = word.charAt(i);
+                if (columnOf[c] < 0) {
+                    columnOf[c] = columns++;
+                }
+            }
+            totalLength += word.length();
+            longest = Math.max(longest, word.length());
+        }
+        alphabetSize = Math.max(columns, 1);
+        maxLength = longest;
+
+        // One state for the root plus at most one state per character
+        int[] table = new int[(totalLength + 1) * alphabetSize];
+        int[] wordIndex = new int[totalLength + 1];
+        Arrays.fill(wordIndex, NOT_RESERVED);
+        int states = 1;
+        for (int index = 0; index < words.length; index++) {
+            String word = words[index];
+            int state = 0;
+            for (int i = 0; i < word.length(); i++) {
+                int slot = state * alphabetSize + columnOf[word.charAt(i)];
+                if (table[slot] == NO_STATE) {
+                    table[slot] = states++;
+                }
+                state = table[slot];
+            }
+            wordIndex[state] = index;
+        }
+        transitions = Arrays.copyOf(table, states * alphabetSize);
+        wordIndexOf = Arrays.copyOf(wordIndex, states);
+    }
+
+    /**
+     * Looks up the characters {@code chars[start..end)} by walking the trie.
+     *
+     * @param chars The buffer holding the token.
+     * @param start The index of the first character of the token.
+     * @param end   The index one past the last character of the token.
+     * @return The index of the reserved word, or {@link #NOT_RESERVED} if the token is not reserved.
+     */
+    @Override
+    public int indexOf(char[] chars, int start, int end) {
+        if (end - start > maxLength) {
+            return NOT_RESERVED;
+        }
+        int state = 0;
+        for (int i = start; i < end; i++) {
+            char c = chars[i];
+            if (c >= columnOf.length || columnOf[c] < 0) {
+                return NOT_RESERVED;
+            }
+            state = transitions[state * alphabetSize + columnOf[c]];
+            if (state == NO_STATE) {
+                return NOT_RESERVED;
+            }
+        }
+        return wordIndexOf[state];
+    }
+
+    /**
+     * Looks up a token held in a character sequence by walking the trie.
+     *
+     * @param token The token to look up.
+     * @return The index of the reserved word, or {@link #NOT_RESERVED} if the token is not reserved.
+     */
+    @Override
+    public int indexOf(CharSequence token) {
+        int length = token.length();
+        if (length > maxLength) {
+            return NOT_RESERVED;
+        }
+        int state = 0;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c >= columnOf.length || columnOf[c] < 0) {
+                return NOT_RESERVED;
+            }
+            state = transitions[state * alphabetSize + columnOf[c]];
+            if (state == NO_STATE) {
+                return NOT_RESERVED;
+            }
+        }
+        return wordIndexOf[state];
+    }
+
+    /**
+     * Retrieves the number of reserved words.
+     *
+     * @return The number of distinct reserved words.
+     */
+    @Override
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * Retrieves a reserved word by its index.
+     *
+     * @param index The index of the reserved word, between 0 and {@code size() - 1}.
+     * @return The reserved word.
+     */
+    @Override
+    public String wordAt(int index) {
+        return words[index];
+    }
+}
@@ -0,0 +1,195 @@
+package Main;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A listener that hands events to another listener on a thread of its own, so slow output
+ * such as console writes never stalls the parsing threads. Events are collected into
+ * batches, and each full batch is passed through a bounded queue to the writer thread;
+ * if the writer falls behind, the parser waits rather than buffering without limit.
+ * Events are delivered in the order they were reported. The methods are synchronized so
+ * workers parsing in parallel may share the listener.
+ */
+public class AsyncParseListener implements ParseListener {
+    /** The default number of events in a batch. */
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+    /** The default number of batches the queue holds. */
+    public static final int DEFAULT_QUEUE_CAPACITY = 16;
+
+    private static final Batch END = new Batch(0); // Tells the writer thread to stop
+
+    private final ParseListener delegate;       // Receives the events on the writer thread
+    private final BlockingQueue<Batch> queue;   // Full batches waiting for the writer thread
+    private final int batchSize;                // Number of events in a batch
+    private final Thread writer;                // Delivers the queued batches
+    private Batch batch;                        // The batch being filled
+    private boolean closed;                     // Set once close() has been called
+    private volatile RuntimeException failure;  // The first exception thrown by the delegate
+
+    /**
+     * Creates a listener with the default batch size and queue capacity.
+     *
+     * @param delegate The listener that receives the events on the writer thread.
+     */
+    public AsyncParseListener(ParseListener delegate) {
+        this(delegate, DEFAULT_BATCH_SIZE, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Creates a listener and starts its writer thread.
+     *
+     * @param delegate      The listener that receives the events on the writer thread.
+     * @param batchSize     The number of events in a batch.
+     * @param queueCapacity The number of full batches that may wait for the writer thread.
+     * @throws IllegalArgumentException if {@code batchSize} or {@code queueCapacity} is not positive.
+     */
+    public AsyncParseListener(ParseListener delegate, int batchSize, int queueCapacity) {
+        if (batchSize <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("Batch size and queue capacity must be positive.");
+        }
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.batch = new Batch(batchSize);
+        this.writer = new Thread(this::deliver, "parse-listener");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Queues a reserved word event.
+     *
+     * @param word The reserved word.
+     * @throws IllegalStateException if the listener is closed.
+     */
+    @Override
+    public synchronized void reservedWord(String word) {
+        add(true, word);
+    }
+
+    /**
+     * Queues an identifier event.
+     *
+     * @param identifier The identifier.
+     * @throws IllegalStateException if the listener is closed.
+     */
+    @Override
+    public synchronized void identifierAdded(String identifier) {
+        add(false, identifier);
+    }
+
+    /**
+     * Queues the partly filled batch, waits until the writer thread has delivered every
+     * event, and closes the delegate. Closing a closed listener has no effect.
+     *
+     * @throws RuntimeException the first exception thrown by the delegate, if any.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (batch.size > 0) {
+            put(batch);
+        }
+        put(END);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for parse events to be delivered.", e);
+        }
+        delegate.close();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Adds an event to the current batch, queuing the batch once it is full.
+     *
+     * @param reserved {@code true} for a reserved word, {@code false} for an identifier.
+     * @param text     The reserved word or identifier.
+     * @throws IllegalStateException if the listener is closed.
+     */
+    private void add(boolean reserved, String text) {
+        if (closed) {
+            throw new IllegalStateException("The listener is closed.");
+        }
+        batch.reserved[batch.size] = reserved;
+        batch.texts[batch.size] = text;
+        if (++batch.size == batchSize) {
+            put(batch);
+            batch = new Batch(batchSize);
+        }
+    }
+
+    /**
+     * Queues a batch, waiting while the queue is full.
+     *
+     * @param full The batch to queue.
+     * @throws IllegalStateException if the thread is interrupted while waiting.
+     */
+    private void put(Batch full) {
+        try {
+            queue.put(full);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queuing parse events.", e);
+        }
+    }
+
+    /**
+     * Runs on the writer thread: delivers queued batches to the delegate until the end
+     * marker arrives. After the delegate fails, batches are still taken but discarded, so
+     * the parsing threads never block on a queue nobody drains.
+     */
+    private void deliver() {
+        while (true) {
+            Batch next;
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (next == END) {
+                return;
+            }
+            if (failure != null) {
+                continue;
+            }
+            try {
+                for (int i = 0; i < next.size; i++) {
+                    if (next.reserved[i]) {
+                        delegate.reservedWord(next.texts[i]);
+                    } else {
+                        delegate.identifierAdded(next.texts[i]);
+                    }
+                }
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+    }
+
+    /**
+     * A fixed-size batch of events, stored in parallel arrays.
+     */
+    private static final class Batch {
+        private final boolean[] reserved;   // Whether each event is a reserved word
+        private final String[] texts;       // The reserved word or identifier of each event
+        private int size;                   // Number of events in the batch
+
+        /**
+         * Creates an empty batch.
+         *
+         * @param capacity The number of events the batch holds.
+         */
+        Batch(int capacity) {
+            reserved = new boolean[capacity];
+            texts = new String[capacity];
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package Main;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * A listener that writes one line per event, in the format the parser has always printed
+ * ({@code Reserved Word: ...} and {@code Identifier Added: ...}). Lines are collected in a
+ * buffer and written in large batches, so the output costs one write per batch instead of
+ * one synchronized console write per token. The methods are synchronized so workers
+ * parsing in parallel may share the listener.
+ */
+public class BufferedParseListener implements ParseListener {
+    /** The default number of characters collected before they are written. */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final Writer out;   // Destination of the lines
+    private char[] buffer;      // Lines not yet written
+    private int length;         // Number of characters in the buffer
+
+    /**
+     * Creates a listener with the default buffer size.
+     *
+     * @param out The destination of the lines.
+     */
+    public BufferedParseListener(Writer out) {
+        this(out, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a listener that writes whenever the given number of characters is collected.
+     *
+     * @param out        The destination of the lines.
+     * @param bufferSize The number of characters collected before they are written.
+     * @throws IllegalArgumentException if {@code bufferSize} is not positive.
+     */
+    public BufferedParseListener(Writer out, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+        }
+        this.out = out;
+        this.buffer = new char[bufferSize];
+    }
+
+    /**
+     * Buffers a {@code Reserved Word:} line.
+     *
+     * @param word The reserved word.
+     */
+    @Override
+    public synchronized void reservedWord(String word) {
+        appendLine("Reserved Word: ", word);
+    }
+
+    /**
+     * Buffers an {@code Identifier Added:} line.
+     *
+     * @param identifier The identifier.
+     */
+    @Override
+    public synchronized void identifierAdded(String identifier) {
+        appendLine("Identifier Added: ", identifier);
+    }
+
+    /**
+     * Writes the buffered lines and flushes the destination. The destination itself is not
+     * closed, so the listener may write to {@code System.out}.
+     *
+     * @throws UncheckedIOException if the lines cannot be written.
+     */
+    @Override
+    public synchronized void close() {
+        write();
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends one line to the buffer, writing the buffer first if the line does not fit.
+     * A line longer than the whole buffer grows the buffer.
+     *
+     * @param label The label that starts the line.
+     * @param text  The text that follows the label.
+     */
+    private void appendLine(String label, String text) {
+        int lineLength = label.length() + text.length() + LINE_SEPARATOR.length();
+        if (length + lineLength > buffer.length) {
+            write();
+            if (lineLength > buffer.length) {
+                buffer = new char[lineLength];
+            }
+        }
+        length = append(label, length);
+        length = append(text, length);
+        length = append(LINE_SEPARATOR, length);
+    }
+
+    /**
+     * Copies a string into the buffer.
+     *
+     * @param text   The string to copy.
+     * @param offset The buffer index to copy to.
+     * @return The buffer index after the copied characters.
+     */
+    private int append(String text, int offset) {
+        text.getChars(0, text.length(), buffer, offset);
+        return offset + text.length();
+    }
+
+    /**
+     * Writes the buffered lines and empties the buffer.
+     *
+     * @throws UncheckedIOException if the lines cannot be written.
+     */
+    private void write() {
+        try {
+            out.write(buffer, 0, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        length = 0;
+    }
+}
@@ -0,0 +1,171 @@
+package Main;
+
+import TreePackage.ConcurrentSearchTree;
+import TreePackage.SearchTreeInterface;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Parses many source files in parallel on a {@link ForkJoinPool}. Each file is parsed by a
+ * worker created from the parser that supplied the reserved words, and the reserved words
+ * and identifiers found are finally merged into that parser. Workers either collect
+ * identifiers into trees of their own, merged pairwise as the fork-join tasks complete, or
+ * all add them to one {@link ConcurrentSearchTree}.
+ */
+public class DirectoryParser {
+    /**
+     * How the workers collect the identifiers they find.
+     */
+    public enum Strategy {
+        /** Each worker fills its own tree; the trees are merged when the tasks join. */
+        LOCAL_TREES,
+        /** All workers add to one concurrent set; there is nothing to merge until the end. */
+        SHARED_SET
+    }
+
+    private final Parser parser;
+    private final ForkJoinPool pool;
+    private final Strategy strategy;
+
+    /**
+     * Creates a DirectoryParser that runs on the common fork-join pool.
+     *
+     * @param parser A parser with its reserved words loaded; receives the merged identifiers.
+     */
+    public DirectoryParser(Parser parser) {
+        this(parser, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a DirectoryParser that runs on the given fork-join pool with local trees.
+     *
+     * @param parser A parser with its reserved words loaded; receives the merged identifiers.
+     * @param pool   The pool to run the parse tasks on.
+     */
+    public DirectoryParser(Parser parser, ForkJoinPool pool) {
+        this(parser, pool, Strategy.LOCAL_TREES);
+    }
+
+    /**
+     * Creates a DirectoryParser that runs on the given fork-join pool.
+     *
+     * @param parser   A parser with its reserved words loaded; receives the merged identifiers.
+     * @param pool     The pool to run the parse tasks on.
+     * @param strategy How the workers collect identifiers.
+     */
+    public DirectoryParser(Parser parser, ForkJoinPool pool, Strategy strategy) {
+        this.parser = parser;
+        this.pool = pool;
+        this.strategy = strategy;
+    }
+
+    /**
+     * Expands a list of paths into the Java source files to parse. Directories are walked
+     * recursively for {@code .java} files; other paths are taken as they are.
+     *
+     * @param paths Files and directories to parse.
+     * @return The source files, with the files found in each directory in sorted order.
+     * @throws IOException if a directory cannot be walked.
+     */
+    public static List<Path> findSourceFiles(List<Path> paths) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Path path : paths) {
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> walk = Files.walk(path)) {
+                    files.addAll(walk.filter(Files::isRegularFile)
+                            .filter(file -> file.getFileName().toString().endsWith(".java"))
+                            .sorted()
+                            .collect(Collectors.toList()));
+                }
+            } else {
+                files.add(path);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Parses the given files in parallel and merges their results into the parser.
+     *
+     * @param files The source files to parse.
+     * @throws IOException if a file cannot be read.
+     */
+    public void parse(List<Path> files) throws IOException {
+        if (files.isEmpty()) {
+            return;
+        }
+        SearchTreeInterface<String> shared = (strategy == Strategy.SHARED_SET) ? new ConcurrentSearchTree<>() : null;
+        Parser result;
+        try {
+            result = pool.invoke(new ParseTask(Collections.unmodifiableList(files), 0, files.size(), shared));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        parser.mergeResults(result);
+    }
+
+    /**
+     * A fork-join task that parses a range of files and returns a worker holding their
+     * combined results.
+     */
+    private class ParseTask extends RecursiveTask<Parser> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Path> files;
+        private final int start;
+        private final int end;
+        private final SearchTreeInterface<String> shared;
+
+        /**
+         * Creates a task for the files {@code files[start..end)}.
+         *
+         * @param files  The list of files.
+         * @param start  The index of the first file to parse.
+         * @param end    The index one past the last file to parse.
+         * @param shared The concurrent set shared by all workers, or {@code null} for local trees.
+         */
+        ParseTask(List<Path> files, int start, int end, SearchTreeInterface<String> shared) {
+            this.files = files;
+            this.start = start;
+            this.end = end;
+            this.shared = shared;
+        }
+
+        /**
+         * Parses a single file directly, or splits the range in two and merges the halves.
+         *
+         * @return A worker holding the results for the range of files.
+         */
+        @Override
+        protected Parser compute() {
+            if (end - start == 1) {
+                Parser worker = (shared == null) ? parser.createWorker() : parser.createWorker(shared);
+                try {
+                    worker.parseFile(files.get(start).toString());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return worker;
+            }
+
+            int mid = (start + end) >>> 1;
+            ParseTask left = new ParseTask(files, start, mid, shared);
+            left.fork();
+            Parser right = new ParseTask(files, mid, end, shared).compute();
+            Parser merged = left.join();
+
+            merged.mergeResults(right);
+            return merged;
+        }
+    }
+}
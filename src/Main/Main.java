@@ -2,6 +2,11 @@ package Main;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * The Main class serves as the entry point for the Java Language Parser program.
@@ -13,7 +18,19 @@ public class Main {
      * The main method of the program. It initializes the Parser, verifies input files,
      * and processes the reserved words and source Java file to display the results.
      *
-     * @param args Command-line arguments (not used).
+     * With no arguments, {@code Palindrome.java} is parsed. Otherwise each argument names a
+     * source file or a directory; directories are searched for {@code .java} files, and
+     * multiple files are parsed in parallel.
+     *
+     * @param args Command-line arguments: source files or directories to parse,
+     *             {@code --mmap} to read source files through a memory mapping,
+     *             {@code --pipeline} to read, tokenize and classify on overlapping threads
+     *             instead of parsing files in parallel,
+     *             {@code --top k} to also print the k most frequent identifiers, and
+     *             {@code --verbose} or {@code --verbose-async} to trace every reserved
+     *             word and new identifier, written in batches or on a separate thread, and
+     *             {@code --metrics} or {@code --metrics-jfr} to print parse counters and
+     *             phase latencies, the latter also emitting a JFR event per file.
      */
     public static void main(String[] args) {
         // Create an instance of the Parser class
@@ -21,18 +38,72 @@ public class Main {
 
         // Define file paths
         String reservedWordsFilePath = "reservedWords.txt";
-        String sourceFilePath = "Palindrome.java";
+        List<String> sourcePaths = new ArrayList<>();
+        int topIdentifiers = 0;
+        boolean pipelined = false;
+        ParseListener listener = ParseListener.NONE;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--mmap")) {
+                parser.setInputMode(Parser.InputMode.MEMORY_MAPPED);
+            } else if (args[i].equals("--pipeline")) {
+                pipelined = true;
+            } else if (args[i].equals("--verbose")) {
+                listener = new BufferedParseListener(new OutputStreamWriter(System.out));
+            } else if (args[i].equals("--verbose-async")) {
+                listener = new AsyncParseListener(new BufferedParseListener(new OutputStreamWriter(System.out)));
+            } else if (args[i].equals("--metrics")) {
+                parser.setMetrics(new ParseMetrics());
+            } else if (args[i].equals("--metrics-jfr")) {
+                parser.setMetrics(new ParseMetrics(true));
+            } else if (args[i].equals("--top")) {
+                topIdentifiers = (i + 1 < args.length) ? parsePositive(args[++i]) : 0;
+                if (topIdentifiers <= 0) {
+                    System.err.println("Error: --top needs a positive number of identifiers, e.g. --top 10.");
+                    return;
+                }
+            } else {
+                sourcePaths.add(args[i]);
+            }
+        }
+        if (sourcePaths.isEmpty()) {
+            sourcePaths.add("Palindrome.java");
+        }
 
         // Debug: Check if the input files exist
-        if (!checkFileExists(reservedWordsFilePath, "reservedWords.txt") ||
-                !checkFileExists(sourceFilePath, "Palindrome.java")) {
+        boolean filesExist = checkFileExists(reservedWordsFilePath, "reservedWords.txt");
+        for (String sourcePath : sourcePaths) {
+            filesExist &= checkFileExists(sourcePath, sourcePath);
+        }
+        if (!filesExist) {
             System.err.println("\nError: One or more required files are missing. Exiting program.");
             return; // Exit the program
         }
 
         try {
-            // Initialize and parse the files
-            parser.initializeAndParse(reservedWordsFilePath, sourceFilePath);
+            // Initialize and parse the files, tracing each token if requested
+            parser.setParseListener(listener);
+            try {
+                if (sourcePaths.size() == 1 && new File(sourcePaths.get(0)).isFile() && !pipelined) {
+                    parser.initializeAndParse(reservedWordsFilePath, sourcePaths.get(0));
+                } else {
+                    parser.initializeReservedWords(reservedWordsFilePath);
+                    List<Path> roots = new ArrayList<>();
+                    for (String sourcePath : sourcePaths) {
+                        roots.add(Paths.get(sourcePath));
+                    }
+                    List<Path> files = DirectoryParser.findSourceFiles(roots);
+                    if (pipelined) {
+                        int processors = Runtime.getRuntime().availableProcessors() - 2; // Leave the reader and classifier a core each
+                        int tokenizers = Math.max(1, Math.min(files.size(), processors));
+                        new PipelinedParser(parser, tokenizers, PipelinedParser.DEFAULT_CHUNK_SIZE).parse(files);
+                    } else {
+                        new DirectoryParser(parser).parse(files);
+                    }
+                }
+            } finally {
+                // Flush the trace and stop its thread even if parsing failed
+                listener.close();
+            }
 
             // Print the results
             System.out.println("\n--- Reserved Words Found ---");
@@ -41,12 +112,36 @@ public class Main {
             System.out.println("\n--- User-Defined Identifiers Found ---");
             parser.printIdentifiers();
 
+            if (topIdentifiers > 0) {
+                System.out.println("\n--- Most Frequent Identifiers ---");
+                parser.printMostFrequentIdentifiers(topIdentifiers);
+            }
+
+            if (parser.getMetrics().isEnabled()) {
+                System.out.println("\n--- Parse Metrics ---");
+                System.out.print(parser.getMetrics().snapshot());
+            }
+
         } catch (IOException e) {
             // Handle any IO exceptions
             System.err.println("Error: " + e.getMessage());
         }
     }
 
+    /**
+     * Parses a positive count given on the command line.
+     *
+     * @param value The argument.
+     * @return The count, or 0 if the argument is not a positive integer.
+     */
+    private static int parsePositive(String value) {
+        try {
+            return Math.max(0, Integer.parseInt(value));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
     /**
      * Checks if a file exists and logs its status.
      *
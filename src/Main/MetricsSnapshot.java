@@ -0,0 +1,174 @@
+package Main;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * An immutable copy of the values of a {@link ParseMetrics} registry at one point in time.
+ */
+public class MetricsSnapshot {
+    private final Map<ParseMetrics.Counter, Long> counters;
+    private final Map<ParseMetrics.Phase, PhaseLatency> latencies;
+    private final int treeHeight;
+
+    /**
+     * Creates a snapshot.
+     *
+     * @param counters   The value of every counter.
+     * @param latencies  The latency histogram of every phase.
+     * @param treeHeight The greatest identifier tree height recorded.
+     */
+    MetricsSnapshot(Map<ParseMetrics.Counter, Long> counters, Map<ParseMetrics.Phase, PhaseLatency> latencies,
+                    int treeHeight) {
+        this.counters = Collections.unmodifiableMap(counters);
+        this.latencies = Collections.unmodifiableMap(latencies);
+        this.treeHeight = treeHeight;
+    }
+
+    /**
+     * Retrieves the value of a counter.
+     *
+     * @param counter The counter.
+     * @return Its value when the snapshot was taken.
+     */
+    public long getCount(ParseMetrics.Counter counter) {
+        return counters.get(counter);
+    }
+
+    /**
+     * Retrieves the latencies recorded for a phase.
+     *
+     * @param phase The phase.
+     * @return Its latency histogram when the snapshot was taken.
+     */
+    public PhaseLatency getLatency(ParseMetrics.Phase phase) {
+        return latencies.get(phase);
+    }
+
+    /**
+     * Retrieves the greatest height of an identifier tree built so far.
+     *
+     * @return The tree height, or 0 if no tree was built.
+     */
+    public int getTreeHeight() {
+        return treeHeight;
+    }
+
+    /**
+     * Formats the snapshot as a report with one line per counter and per phase.
+     *
+     * @return The report.
+     */
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        for (Map.Entry<ParseMetrics.Counter, Long> counter : counters.entrySet()) {
+            report.append(String.format("%-20s %,14d%n", counter.getKey(), counter.getValue()));
+        }
+        report.append(String.format("%-20s %,14d%n", "TREE_HEIGHT", treeHeight));
+        for (Map.Entry<ParseMetrics.Phase, PhaseLatency> phase : latencies.entrySet()) {
+            report.append(String.format("%-20s %s%n", phase.getKey(), phase.getValue()));
+        }
+        return report.toString();
+    }
+
+    /**
+     * The latency histogram of one phase.
+     */
+    public static class PhaseLatency {
+        private final long[] buckets; // Power-of-two buckets, as described in ParseMetrics
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        /**
+         * Creates a histogram.
+         *
+         * @param buckets    The number of latencies in each bucket; not copied.
+         * @param totalNanos The sum of all latencies.
+         * @param maxNanos   The longest latency.
+         */
+        PhaseLatency(long[] buckets, long totalNanos, long maxNanos) {
+            this.buckets = buckets;
+            long sum = 0;
+            for (long bucket : buckets) {
+                sum += bucket;
+            }
+            this.count = sum;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        /**
+         * Retrieves the number of latencies recorded.
+         *
+         * @return The number of times the phase ran.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Retrieves the total time spent in the phase.
+         *
+         * @return The sum of all latencies, in nanoseconds.
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * Retrieves the longest latency.
+         *
+         * @return The longest latency, in nanoseconds, or 0 if none was recorded.
+         */
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Retrieves the mean latency.
+         *
+         * @return The mean latency, in nanoseconds, or 0 if none was recorded.
+         */
+        public double getMeanNanos() {
+            return (count == 0) ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * Estimates a percentile from the histogram, as the upper bound of the bucket that
+         * holds it; the estimate is at most twice the true value and never above the maximum.
+         *
+         * @param percentile The percentile, from 0 to 100.
+         * @return The estimated latency, in nanoseconds, or 0 if none was recorded.
+         * @throws IllegalArgumentException if the percentile is not between 0 and 100.
+         */
+        public long getPercentileNanos(double percentile) {
+            if (!(percentile >= 0 && percentile <= 100)) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+            }
+            long rank = Math.max(1, (long) Math.ceil(count * percentile / 100)); // 1-based rank of the latency
+            long seen = 0;
+            for (int bucket = 0; bucket < buckets.length; bucket++) {
+                seen += buckets[bucket];
+                if (seen >= rank) {
+                    long upperBound = (bucket == 0) ? 0 : (1L << bucket) - 1;
+                    return Math.min(upperBound, maxNanos);
+                }
+            }
+            return 0; // Nothing recorded
+        }
+
+        /**
+         * Formats the histogram as its count, mean, median, 99th percentile and maximum.
+         *
+         * @return A one-line summary, with latencies in microseconds.
+         */
+        @Override
+        public String toString() {
+            return String.format("count %,d  total %,.1f ms  mean %,.1f us  p50 %,.1f us  p99 %,.1f us  max %,.1f us",
+                    count, totalNanos / 1e6, getMeanNanos() / 1e3, getPercentileNanos(50) / 1e3,
+                    getPercentileNanos(99) / 1e3, maxNanos / 1e3);
+        }
+    }
+}
@@ -1,23 +1,58 @@
 package Main;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+
 /**
  * The Palindrome class provides a simple example program that checks
  * whether a given string is a palindrome (a word, phrase, or sequence
  * that reads the same backward as forward).
+ *
+ * The checks compare characters from both ends towards the middle, in place, so they
+ * take linear time, stop at the first mismatch and allocate nothing. Characters are
+ * compared as {@code char} values, as if the text were reversed one {@code char} at a
+ * time.
  */
 public class Palindrome {
+   /**
+    * How characters are compared.
+    */
+   public enum Mode {
+      /** Every character counts and must match exactly. */
+      EXACT,
+      /** Only letters and digits count, and letters match regardless of case. */
+      LETTERS_AND_DIGITS
+   }
+
+   private static final int MATCH = 0;      // Steps returned by compare
+   private static final int MISMATCH = 1;
+   private static final int SKIP_FIRST = 2;
+   private static final int SKIP_LAST = 3;
+
    /**
     * The main method initializes a string, processes it to check if it is a palindrome,
-    * and prints the result.
+    * and prints the result. Given file names, it instead checks every line of each file
+    * in parallel and prints how many are palindromes.
     *
-    * @param args Command-line arguments (not used).
+    * @param args Command-line arguments: optional files whose lines to check.
     */
    public static void main(String[] args) {
+      if (args.length > 0) {
+         PalindromeScanner scanner = new PalindromeScanner(Mode.LETTERS_AND_DIGITS);
+         for (String file : args) {
+            try {
+               System.out.println(file + ": " + scanner.scanLines(Paths.get(file)));
+            } catch (IOException e) {
+               System.err.println("Error: " + e.getMessage());
+            }
+         }
+         return;
+      }
       String str = "tacocat";
 
-      // Convert the string to lowercase for case-insensitive comparison
-      str = str.toLowerCase();
-      boolean isPalindrome = isPalindrome(str);
+      // Compare letters regardless of case, without making a lowercase copy
+      boolean isPalindrome = isPalindrome(str, Mode.LETTERS_AND_DIGITS);
 
       // Print the result
       System.out.println(isPalindrome);
@@ -30,18 +65,134 @@ public class Palindrome {
     * @return {@code true} if the input string is a palindrome; {@code false} otherwise.
     */
    public static boolean isPalindrome(String str) {
-      String rev = "";  // Variable to store the reversed string
-      boolean ans = false; // Result variable
+      return isPalindrome(str, Mode.EXACT);
+   }
 
-      // Reverse the input string
-      for (int i = str.length() - 1; i >= 0; i--) {
-         rev = rev + str.charAt(i);
+   /**
+    * Determines if a character sequence is a palindrome.
+    *
+    * @param text The sequence to be checked.
+    * @param mode How characters are compared.
+    * @return {@code true} if the sequence is a palindrome; {@code false} otherwise.
+    */
+   public static boolean isPalindrome(CharSequence text, Mode mode) {
+      boolean lettersAndDigits = mode == Mode.LETTERS_AND_DIGITS;
+      int left = 0;
+      int right = text.length() - 1;
+      while (left < right) {
+         char first = text.charAt(left);
+         char last = text.charAt(right);
+         int step = compare(first, last, lettersAndDigits);
+         if (step == MISMATCH) {
+            return false;
+         }
+         if (step != SKIP_LAST) {
+            left++;
+         }
+         if (step != SKIP_FIRST) {
+            right--;
+         }
       }
+      return true;
+   }
 
-      // Compare the reversed string with the original
-      if (str.equals(rev)) {
-         ans = true;
+   /**
+    * Determines if the characters {@code chars[start..end)} are a palindrome.
+    *
+    * @param chars The buffer holding the characters.
+    * @param start The index of the first character.
+    * @param end   The index one past the last character.
+    * @param mode  How characters are compared.
+    * @return {@code true} if the slice is a palindrome; {@code false} otherwise.
+    * @throws IndexOutOfBoundsException if the slice is not within the buffer.
+    */
+   public static boolean isPalindrome(char[] chars, int start, int end, Mode mode) {
+      if (start < 0 || end > chars.length || start > end) {
+         throw new IndexOutOfBoundsException("Slice [" + start + ", " + end + ") of " + chars.length + " characters");
+      }
+      boolean lettersAndDigits = mode == Mode.LETTERS_AND_DIGITS;
+      int left = start;
+      int right = end - 1;
+      while (left < right) {
+         char first = chars[left];
+         char last = chars[right];
+         int step = compare(first, last, lettersAndDigits);
+         if (step == MISMATCH) {
+            return false;
+         }
+         if (step != SKIP_LAST) {
+            left++;
+         }
+         if (step != SKIP_FIRST) {
+            right--;
+         }
       }
-      return ans;
+      return true;
+   }
+
+   /**
+    * Determines if the bytes between the position and the limit of a buffer are a
+    * palindrome. Each byte is taken as an ISO-8859-1 character, which suits ASCII text
+    * read straight from a file or a memory mapping. The position of the buffer is not changed.
+    *
+    * @param bytes The buffer holding the text.
+    * @param mode  How characters are compared.
+    * @return {@code true} if the bytes are a palindrome; {@code false} otherwise.
+    */
+   public static boolean isPalindrome(ByteBuffer bytes, Mode mode) {
+      boolean lettersAndDigits = mode == Mode.LETTERS_AND_DIGITS;
+      int left = bytes.position();
+      int right = bytes.limit() - 1;
+      while (left < right) {
+         char first = (char) (bytes.get(left) & 0xFF);
+         char last = (char) (bytes.get(right) & 0xFF);
+         int step = compare(first, last, lettersAndDigits);
+         if (step == MISMATCH) {
+            return false;
+         }
+         if (step != SKIP_LAST) {
+            left++;
+         }
+         if (step != SKIP_FIRST) {
+            right--;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * Compares the characters at the two ends of the part of the text not yet checked. The
+    * skipping and case rules of every {@link Mode} live here, so all the overloads of
+    * {@code isPalindrome} apply them the same way.
+    *
+    * @param first            The character at the left end.
+    * @param last             The character at the right end.
+    * @param lettersAndDigits Whether only letters and digits count, regardless of case.
+    * @return {@code MATCH} to move both ends inwards, {@code MISMATCH} to stop,
+    *         {@code SKIP_FIRST} to move only the left end, or {@code SKIP_LAST} to move
+    *         only the right end.
+    */
+   private static int compare(char first, char last, boolean lettersAndDigits) {
+      if (!lettersAndDigits) {
+         return first == last ? MATCH : MISMATCH;
+      }
+      if (!Character.isLetterOrDigit(first)) {
+         return SKIP_FIRST;
+      }
+      if (!Character.isLetterOrDigit(last)) {
+         return SKIP_LAST;
+      }
+      return fold(first) == fold(last) ? MATCH : MISMATCH;
+   }
+
+   /**
+    * Folds the case of a character the way {@link String#equalsIgnoreCase(String)} does,
+    * so characters that match regardless of case fold to the same value.
+    *
+    * @param c The character.
+    * @return The folded character.
+    */
+   private static char fold(char c) {
+      return Character.toLowerCase(Character.toUpperCase(c));
    }
 }
@@ -0,0 +1,429 @@
+package Main;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Checks many records for palindromes in parallel: the lines of a file, the elements of a
+ * stream, or the identifiers a {@link Parser} reports. Each scan returns the number of
+ * records checked and the number of palindromes found, and may hand every palindrome to a
+ * consumer; nothing else is kept, so the input is never held in memory as a whole.
+ *
+ * A file is memory-mapped and split into segments that end at line breaks, and the
+ * segments are scanned by fork-join tasks. Each line is checked in place in the mapping
+ * with {@link Palindrome#isPalindrome(ByteBuffer, Palindrome.Mode)}; a String is only
+ * created for a palindrome handed to the consumer, or to decode a line that holds
+ * non-ASCII UTF-8 text. Consumers are called from several threads at once, in no
+ * particular order, so they must be thread-safe.
+ */
+public class PalindromeScanner {
+    /**
+     * The default number of bytes in a segment of a file.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+    private static final int BOUNDARY_READ_SIZE = 8192; // Bytes read at a time while looking for a line break
+
+    private final Palindrome.Mode mode;
+    private final ForkJoinPool pool;
+    private final int segmentSize;
+
+    /**
+     * The numbers of records checked and palindromes found by a scan.
+     */
+    public static final class Result {
+        private final long records;
+        private final long palindromes;
+
+        /**
+         * Creates a result.
+         *
+         * @param records     The number of records checked.
+         * @param palindromes The number of palindromes found.
+         */
+        Result(long records, long palindromes) {
+            this.records = records;
+            this.palindromes = palindromes;
+        }
+
+        /**
+         * Retrieves the number of records checked.
+         *
+         * @return The number of records.
+         */
+        public long getRecords() {
+            return records;
+        }
+
+        /**
+         * Retrieves the number of palindromes found.
+         *
+         * @return The number of palindromes.
+         */
+        public long getPalindromes() {
+            return palindromes;
+        }
+
+        /**
+         * Adds the counts of another result to these.
+         *
+         * @param other The other result.
+         * @return The combined result.
+         */
+        Result plus(Result other) {
+            return new Result(records + other.records, palindromes + other.palindromes);
+        }
+
+        /**
+         * Formats the result.
+         *
+         * @return The counts, such as {@code "3 of 10 records are palindromes"}.
+         */
+        @Override
+        public String toString() {
+            return palindromes + " of " + records + " records are palindromes";
+        }
+    }
+
+    /**
+     * Creates a PalindromeScanner that runs on the common fork-join pool.
+     *
+     * @param mode How characters are compared.
+     */
+    public PalindromeScanner(Palindrome.Mode mode) {
+        this(mode, ForkJoinPool.commonPool(), DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a PalindromeScanner.
+     *
+     * @param mode        How characters are compared.
+     * @param pool        The pool to scan the segments of a file on.
+     * @param segmentSize The number of bytes of a file each task scans; a segment is
+     *                    extended to the end of the line it stops in.
+     * @throws IllegalArgumentException if the segment size is less than 1.
+     */
+    public PalindromeScanner(Palindrome.Mode mode, ForkJoinPool pool, int segmentSize) {
+        if (segmentSize < 1) {
+            throw new IllegalArgumentException("Segment size must be at least 1: " + segmentSize);
+        }
+        this.mode = mode;
+        this.pool = pool;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Checks every line of a UTF-8 file. Lines end at {@code \n}, {@code \r} or {@code \r\n}, as for
+     * {@link java.io.BufferedReader#readLine()}, so a file that ends without a line break
+     * still has a last line and an empty file has none.
+     *
+     * @param file The file to scan.
+     * @return The numbers of lines checked and palindromes found.
+     * @throws IOException if the file cannot be read, or holds a line too long to map.
+     */
+    public Result scanLines(Path file) throws IOException {
+        return scanLines(file, null);
+    }
+
+    /**
+     * Checks every line of a UTF-8 file, handing each palindrome to a consumer.
+     *
+     * @param file        The file to scan.
+     * @param palindromes Receives each palindromic line, without its line break, from any
+     *                    thread; or {@code null}.
+     * @return The numbers of lines checked and palindromes found.
+     * @throws IOException if the file cannot be read, or holds a line too long to map.
+     * @see #scanLines(Path)
+     */
+    public Result scanLines(Path file, Consumer<? super String> palindromes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] boundaries = findSegments(channel);
+            if (boundaries.length == 1) {
+                return new Result(0, 0);
+            }
+            try {
+                return pool.invoke(new ScanTask(channel, boundaries, 0, boundaries.length - 1, palindromes));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Checks every record of a stream, in parallel. The stream is consumed but not closed.
+     *
+     * @param records The records to check, such as the lines from {@code Files.lines}.
+     * @return The numbers of records checked and palindromes found.
+     */
+    public Result scan(Stream<? extends CharSequence> records) {
+        return scan(records, null);
+    }
+
+    /**
+     * Checks every record of a stream, in parallel, handing each palindrome to a consumer.
+     * The stream is consumed but not closed.
+     *
+     * @param records     The records to check, such as the lines from {@code Files.lines}.
+     * @param palindromes Receives each palindromic record from any thread; or {@code null}.
+     * @return The numbers of records checked and palindromes found.
+     */
+    public Result scan(Stream<? extends CharSequence> records, Consumer<? super String> palindromes) {
+        LongAdder checked = new LongAdder();
+        LongAdder found = new LongAdder();
+        records.parallel().forEach(record -> {
+            checked.increment();
+            if (Palindrome.isPalindrome(record, mode)) {
+                found.increment();
+                if (palindromes != null) {
+                    palindromes.accept(record.toString());
+                }
+            }
+        });
+        return new Result(checked.sum(), found.sum());
+    }
+
+    /**
+     * Creates a listener that checks every new identifier a parser reports. It may be
+     * shared by the workers of a parallel parse.
+     *
+     * @param palindromes Receives each palindromic identifier from any thread; or {@code null}.
+     * @return The listener.
+     */
+    public IdentifierListener identifierListener(Consumer<? super String> palindromes) {
+        return new IdentifierListener(palindromes);
+    }
+
+    /**
+     * A parse listener that checks identifiers as a parser reports them. Each identifier is
+     * counted once per {@link ParseListener#identifierAdded} call, so workers that collect
+     * identifiers into trees of their own may each count the same identifier.
+     */
+    public final class IdentifierListener implements ParseListener {
+        private final Consumer<? super String> palindromes;
+        private final LongAdder checked = new LongAdder();
+        private final LongAdder found = new LongAdder();
+
+        /**
+         * Creates an IdentifierListener.
+         *
+         * @param palindromes Receives each palindromic identifier; or {@code null}.
+         */
+        private IdentifierListener(Consumer<? super String> palindromes) {
+            this.palindromes = palindromes;
+        }
+
+        /**
+         * Checks a new identifier.
+         *
+         * @param identifier The identifier.
+         */
+        @Override
+        public void identifierAdded(String identifier) {
+            checked.increment();
+            if (Palindrome.isPalindrome(identifier, mode)) {
+                found.increment();
+                if (palindromes != null) {
+                    palindromes.accept(identifier);
+                }
+            }
+        }
+
+        /**
+         * Retrieves the counts so far.
+         *
+         * @return The numbers of identifiers checked and palindromes found.
+         */
+        public Result getResult() {
+            return new Result(checked.sum(), found.sum());
+        }
+    }
+
+    /**
+     * Splits a file into segments of about the segment size that end just after a line
+     * break, or at the end of the file. The boundaries are collected in an array that grows
+     * as segments are found, so there are never more of them than lines.
+     *
+     * @param channel The open file.
+     * @return The file position of the start of each segment, followed by the file size.
+     * @throws IOException if the file cannot be read, or a segment would be too long to map.
+     */
+    private long[] findSegments(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long[] boundaries = new long[16];
+        int count = 0;
+        boundaries[count++] = 0;
+        ByteBuffer scratch = ByteBuffer.allocate(BOUNDARY_READ_SIZE);
+        long position = 0;
+        while (position < size) {
+            long end = nextLineStart(channel, Math.min(position + segmentSize, size) - 1, size, scratch);
+            if (end - position > Integer.MAX_VALUE) {
+                throw new IOException("Line too long to map at offset " + position);
+            }
+            if (count == boundaries.length) {
+                boundaries = Arrays.copyOf(boundaries, 2 * count);
+            }
+            boundaries[count++] = end;
+            position = end;
+        }
+        return Arrays.copyOf(boundaries, count);
+    }
+
+    /**
+     * Finds the start of the line after the one holding the given position.
+     *
+     * @param channel  The open file.
+     * @param position A file position.
+     * @param size     The size of the file.
+     * @param scratch  A buffer to read into.
+     * @return The position just after the first line break at or after {@code position},
+     *         where {@code \r\n} is one line break, or the file size if there is none.
+     * @throws IOException if the file cannot be read.
+     */
+    private static long nextLineStart(FileChannel channel, long position, long size, ByteBuffer scratch)
+            throws IOException {
+        boolean carriageReturn = false; // The previous byte was a '\r', which may precede a '\n'
+        while (position < size) {
+            scratch.clear();
+            int read = channel.read(scratch, position);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                byte b = scratch.get(i);
+                if (carriageReturn) {
+                    return (b == '\n') ? position + i + 1 : position + i;
+                } else if (b == '\n') {
+                    return position + i + 1;
+                }
+                carriageReturn = (b == '\r');
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * A fork-join task that scans a range of segments of a file and returns their combined counts.
+     */
+    private class ScanTask extends RecursiveTask<Result> {
+        private static final long serialVersionUID = 1L;
+
+        private final FileChannel channel;
+        private final long[] boundaries;
+        private final int start;
+        private final int end;
+        private final Consumer<? super String> palindromes;
+
+        /**
+         * Creates a task for the segments {@code start..end)}.
+         *
+         * @param channel     The open file.
+         * @param boundaries  The start of each segment, followed by the file size.
+         * @param start       The index of the first segment to scan.
+         * @param end         The index one past the last segment to scan.
+         * @param palindromes Receives each palindromic line; or {@code null}.
+         */
+        ScanTask(FileChannel channel, long[] boundaries, int start, int end, Consumer<? super String> palindromes) {
+            this.channel = channel;
+            this.boundaries = boundaries;
+            this.start = start;
+            this.end = end;
+            this.palindromes = palindromes;
+        }
+
+        /**
+         * Scans a single segment directly, or splits the range in two and adds the halves.
+         *
+         * @return The counts for the range of segments.
+         */
+        @Override
+        protected Result compute() {
+            if (end - start == 1) {
+                try {
+                    long from = boundaries[start];
+                    return scanSegment(channel.map(FileChannel.MapMode.READ_ONLY, from, boundaries[end] - from));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            int middle = (start + end) >>> 1;
+            ScanTask left = new ScanTask(channel, boundaries, start, middle, palindromes);
+            left.fork();
+            Result right = new ScanTask(channel, boundaries, middle, end, palindromes).compute();
+            return left.join().plus(right);
+        }
+
+        /**
+         * Checks every line of a mapped segment. A segment never ends between the
+         * {@code \r} and the {@code \n} of a line break.
+         *
+         * @param segment The mapped segment, made of whole lines.
+         * @return The counts for the segment.
+         */
+        private Result scanSegment(MappedByteBuffer segment) {
+            ByteBuffer line = segment.duplicate();
+            int limit = segment.limit();
+            long records = 0;
+            long found = 0;
+            int lineStart = 0;
+            int highBits = 0; // Negative once the line holds a non-ASCII byte
+            for (int i = 0; i < limit; i++) {
+                byte b = segment.get(i);
+                if (b == '\n' || b == '\r') {
+                    records++;
+                    if (checkLine(line, lineStart, i, highBits < 0)) {
+                        found++;
+                    }
+                    if (b == '\r' && i + 1 < limit && segment.get(i + 1) == '\n') {
+                        i++; // The \n of a \r\n line break
+                    }
+                    lineStart = i + 1;
+                    highBits = 0;
+                } else {
+                    highBits |= b;
+                }
+            }
+            if (lineStart < limit) { // The last line of the file has no line break
+                records++;
+                if (checkLine(line, lineStart, limit, highBits < 0)) {
+                    found++;
+                }
+            }
+            return new Result(records, found);
+        }
+
+        /**
+         * Checks one line of a segment, without its line break.
+         *
+         * @param line     A view of the segment to check the line through.
+         * @param start    The index of the first byte of the line.
+         * @param end      The index of the line break, or the end of the segment.
+         * @param nonAscii Whether the line holds bytes of multi-byte UTF-8 sequences.
+         * @return {@code true} if the line is a palindrome.
+         */
+        private boolean checkLine(ByteBuffer line, int start, int end, boolean nonAscii) {
+            line.clear();
+            line.limit(end).position(start);
+            boolean palindrome = nonAscii
+                    ? Palindrome.isPalindrome(StandardCharsets.UTF_8.decode(line), mode)
+                    : Palindrome.isPalindrome(line, mode);
+            if (palindrome && palindromes != null) {
+                line.limit(end).position(start);
+                palindromes.accept(StandardCharsets.UTF_8.decode(line).toString());
+            }
+            return palindrome;
+        }
+    }
+}
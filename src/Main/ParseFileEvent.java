@@ -0,0 +1,30 @@
+package Main;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event emitted for every source file a {@link Parser} parses when
+ * its {@link ParseMetrics} were created to record events. The event's duration is the time
+ * taken to read and classify the file.
+ */
+@Name("Main.ParseFile")
+@Label("Parse File")
+@Category("Parser")
+@Description("A source file read, tokenized and classified by the parser")
+class ParseFileEvent extends Event {
+    @Label("File")
+    String file;
+
+    @Label("Characters")
+    long characters;
+
+    @Label("Tokens")
+    long tokens;
+
+    @Label("Identifiers Added")
+    long identifiersAdded;
+}
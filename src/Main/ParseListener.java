@@ -0,0 +1,38 @@
+package Main;
+
+/**
+ * Receives the events a {@link Parser} reports while it classifies tokens. The parser is
+ * silent by default ({@link #NONE}); a listener makes tracing opt-in. Every method has an
+ * empty default, so a listener only overrides the events it needs.
+ *
+ * Workers created with {@link Parser#createWorker()} report to the same listener, so a
+ * listener used for parallel parsing must be thread-safe.
+ */
+public interface ParseListener extends AutoCloseable {
+    /** A listener that ignores every event. */
+    ParseListener NONE = new ParseListener() {
+    };
+
+    /**
+     * Called for every occurrence of a reserved word.
+     *
+     * @param word The reserved word.
+     */
+    default void reservedWord(String word) {
+    }
+
+    /**
+     * Called the first time an identifier is seen.
+     *
+     * @param identifier The identifier.
+     */
+    default void identifierAdded(String identifier) {
+    }
+
+    /**
+     * Delivers any events the listener is still holding and releases its resources.
+     */
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,256 @@
+package Main;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects counters and per-phase latency histograms for a {@link Parser}. Workers created
+ * with {@link Parser#createWorker()} record into the same registry, so every value is kept
+ * in a {@link LongAdder} that many threads can update without contention.
+ *
+ * A parser records nothing by default ({@link #DISABLED}); it then parses exactly as it
+ * would without metrics, so the only cost is one check per file. When metrics are enabled,
+ * the parser classifies the tokens of each window in a batch after scanning it, so that
+ * tokenizing and classifying can be timed separately with two clock reads per window
+ * rather than two per token.
+ *
+ * Latencies are kept in power-of-two buckets: bucket 0 counts latencies of 0 ns and
+ * bucket {@code i} those from {@code 2^(i-1)} to {@code 2^i - 1} ns, so percentiles are
+ * accurate to within a factor of two. {@link #snapshot()} copies the current values into
+ * an immutable {@link MetricsSnapshot}.
+ */
+public class ParseMetrics {
+    /**
+     * The events counted while parsing.
+     */
+    public enum Counter {
+        /** Source files opened by {@link Parser#parseFile(String)}. */
+        FILES_READ,
+        /** Characters read from the sources, after decoding. */
+        CHARACTERS_SCANNED,
+        /** Tokens reported by the lexer. */
+        TOKENS,
+        /** Tokens that were reserved words. */
+        RESERVED_WORD_HITS,
+        /** Tokens that were identifiers, each recorded in the identifier set. */
+        IDENTIFIER_INSERTS,
+        /** Identifiers seen for the first time; with workers, once per worker that sees them. */
+        IDENTIFIERS_ADDED
+    }
+
+    /**
+     * The phases of a parse whose latencies are recorded.
+     */
+    public enum Phase {
+        /** Opening a source file and reading one window of it. */
+        READ,
+        /** Splitting one window into tokens. */
+        TOKENIZE,
+        /** Classifying the tokens of one window as reserved words or identifiers. */
+        CLASSIFY,
+        /** Printing one of the parser's reports. */
+        REPORT
+    }
+
+    /** A registry that records nothing; the default of every parser. */
+    public static final ParseMetrics DISABLED = new ParseMetrics(false, false);
+
+    static final int BUCKETS = 64; // Enough power-of-two buckets for any non-negative long
+
+    private final boolean enabled;
+    private final boolean recordingEvents;        // Whether the parser also emits JFR events
+    private final LongAdder[] counters;           // Indexed by Counter ordinal
+    private final LongAdder[][] latencyBuckets;   // Indexed by Phase ordinal, then bucket
+    private final LongAdder[] latencyTotals;      // Total nanoseconds, indexed by Phase ordinal
+    private final LongAccumulator[] latencyMaxima; // Longest latency, indexed by Phase ordinal
+    private final LongAccumulator treeHeight;     // Greatest height of an identifier tree
+
+    /**
+     * Constructs an enabled registry that does not emit JFR events.
+     */
+    public ParseMetrics() {
+        this(true, false);
+    }
+
+    /**
+     * Constructs an enabled registry.
+     *
+     * @param recordingEvents {@code true} to also emit a {@code Main.ParseFile} JFR event for
+     *                        every file parsed; the events cost nothing unless a flight
+     *                        recording is running.
+     */
+    public ParseMetrics(boolean recordingEvents) {
+        this(true, recordingEvents);
+    }
+
+    /**
+     * Constructs a registry.
+     *
+     * @param enabled         Whether anything is recorded.
+     * @param recordingEvents Whether JFR events are emitted.
+     */
+    private ParseMetrics(boolean enabled, boolean recordingEvents) {
+        this.enabled = enabled;
+        this.recordingEvents = enabled && recordingEvents;
+        int phases = Phase.values().length;
+        counters = new LongAdder[Counter.values().length];
+        latencyBuckets = new LongAdder[phases][];
+        latencyTotals = new LongAdder[phases];
+        latencyMaxima = new LongAccumulator[phases];
+        treeHeight = new LongAccumulator(Math::max, 0);
+        if (!enabled) {
+            return; // Nothing is ever recorded
+        }
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        for (int phase = 0; phase < phases; phase++) {
+            latencyBuckets[phase] = new LongAdder[BUCKETS];
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                latencyBuckets[phase][bucket] = new LongAdder();
+            }
+            latencyTotals[phase] = new LongAdder();
+            latencyMaxima[phase] = new LongAccumulator(Math::max, 0);
+        }
+    }
+
+    /**
+     * Checks whether this registry records anything.
+     *
+     * @return {@code false} for {@link #DISABLED}, {@code true} otherwise.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Checks whether the parser should emit JFR events.
+     *
+     * @return {@code true} if this registry is enabled and was created to record events.
+     */
+    public boolean isRecordingEvents() {
+        return recordingEvents;
+    }
+
+    /**
+     * Adds to a counter.
+     *
+     * @param counter The counter.
+     * @param amount  The amount to add.
+     */
+    public void add(Counter counter, long amount) {
+        if (enabled) {
+            counters[counter.ordinal()].add(amount);
+        }
+    }
+
+    /**
+     * Starts timing a phase.
+     *
+     * @return The start time to pass to {@link #recordPhase}, or 0 if the registry is disabled.
+     */
+    public long startTimer() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the latency of a phase that started at the given time.
+     *
+     * @param phase     The phase.
+     * @param startTime The time returned by {@link #startTimer()} when the phase started.
+     */
+    public void recordPhase(Phase phase, long startTime) {
+        if (enabled) {
+            recordLatency(phase, System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Records a measured latency of a phase.
+     *
+     * @param phase The phase.
+     * @param nanos The latency, in nanoseconds; negative values are recorded as 0.
+     */
+    public void recordLatency(Phase phase, long nanos) {
+        if (!enabled) {
+            return;
+        }
+        long latency = Math.max(nanos, 0);
+        int index = phase.ordinal();
+        latencyBuckets[index][bucketOf(latency)].increment();
+        latencyTotals[index].add(latency);
+        latencyMaxima[index].accumulate(latency);
+    }
+
+    /**
+     * Records the height of an identifier tree; the snapshot reports the greatest height recorded.
+     *
+     * @param height The height of the tree.
+     */
+    public void recordTreeHeight(int height) {
+        if (enabled) {
+            treeHeight.accumulate(height);
+        }
+    }
+
+    /**
+     * Copies the current values. Values recorded while the snapshot is taken may or may
+     * not be included.
+     *
+     * @return An immutable snapshot; all zero if the registry is disabled.
+     */
+    public MetricsSnapshot snapshot() {
+        Map<Counter, Long> counts = new EnumMap<>(Counter.class);
+        for (Counter counter : Counter.values()) {
+            counts.put(counter, enabled ? counters[counter.ordinal()].sum() : 0);
+        }
+        Map<Phase, MetricsSnapshot.PhaseLatency> latencies = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            long[] buckets = new long[BUCKETS];
+            long total = 0;
+            long max = 0;
+            if (enabled) {
+                int index = phase.ordinal();
+                for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                    buckets[bucket] = latencyBuckets[index][bucket].sum();
+                }
+                total = latencyTotals[index].sum();
+                max = latencyMaxima[index].get();
+            }
+            latencies.put(phase, new MetricsSnapshot.PhaseLatency(buckets, total, max));
+        }
+        return new MetricsSnapshot(counts, latencies, (int) treeHeight.get());
+    }
+
+    /**
+     * Resets every value to zero. Values recorded during the reset may or may not be kept.
+     */
+    public void reset() {
+        if (!enabled) {
+            return;
+        }
+        for (LongAdder counter : counters) {
+            counter.reset();
+        }
+        for (int phase = 0; phase < latencyBuckets.length; phase++) {
+            for (LongAdder bucket : latencyBuckets[phase]) {
+                bucket.reset();
+            }
+            latencyTotals[phase].reset();
+            latencyMaxima[phase].reset();
+        }
+        treeHeight.reset();
+    }
+
+    /**
+     * Finds the histogram bucket of a latency.
+     *
+     * @param nanos A non-negative latency, in nanoseconds.
+     * @return The bucket: 0 for 0 ns, otherwise the number of significant bits.
+     */
+    static int bucketOf(long nanos) {
+        return 64 - Long.numberOfLeadingZeros(nanos);
+    }
+}
@@ -1,28 +1,288 @@
 package Main;
 
+import LexerPackage.MappedSourceReader;
+import LexerPackage.ReservedWordMatcher;
+import LexerPackage.SourceScanner;
+import LexerPackage.SymbolTable;
+import LexerPackage.TokenHandler;
+import LexerPackage.JavaLexer;
+import LexerPackage.TokenScanner;
+import LexerPackage.TrieReservedWordMatcher;
+import TreePackage.AVLTree;
 import TreePackage.BinarySearchTree;
-import TreePackage.BinaryNode;
+import TreePackage.EntryCount;
+import TreePackage.SearchTreeInterface;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.function.Function;
 
 public class Parser {
+    /**
+     * The ways a source file can be read.
+     */
+    public enum InputMode {
+        /** Read the file through a buffered character stream. */
+        READER,
+        /** Memory-map the file and decode it in place; suited to very large files. */
+        MEMORY_MAPPED
+    }
+
     private BinarySearchTree<String> reservedWordsBST;
-    private BinarySearchTree<String> identifiersBST;
+    private final SymbolTable identifierSymbols = new SymbolTable(); // Interns each distinct identifier once
+    private int[] identifierCounts = new int[64];   // Occurrences of each identifier, indexed by symbol ID
+    private boolean identifiersChanged;             // Set when identifierCounts changes; identifiersBST is stale
+    private BinarySearchTree<String> identifiersBST; // Read-only sorted view of the identifiers, rebuilt when stale
+    private SearchTreeInterface<String> sharedIdentifiers; // Set shared with other workers, or null
+    private final Function<Collection<String>, ReservedWordMatcher> matcherFactory;
+    private ReservedWordMatcher reservedWordMatcher;
+    private BitSet reservedWordHits; // One bit per reserved word, indexed by matcher ordinal; set when the word is seen
+    private final SourceScanner sourceScanner = new SourceScanner();
+    private final TokenScanner lexer = new JavaLexer(); // Skips comments and literals
+    private final TokenHandler tokenClassifier = this::classifyToken;
+    private InputMode inputMode = InputMode.READER;
+    private ParseListener listener = ParseListener.NONE; // Receives parse events; silent by default
+    private ParseMetrics metrics = ParseMetrics.DISABLED; // Receives counters and phase latencies
+
+    private static final int RESERVED_WORD = 0;  // Token kinds returned by classifyToken
+    private static final int IDENTIFIER = 1;
+    private static final int NEW_IDENTIFIER = 2;
 
     public Parser() {
+        this(TrieReservedWordMatcher::new);
+    }
+
+    /**
+     * Creates a parser that classifies tokens with a custom reserved-word matcher.
+     *
+     * @param matcherFactory Builds the matcher from the reserved words once they are loaded.
+     */
+    public Parser(Function<Collection<String>, ReservedWordMatcher> matcherFactory) {
         reservedWordsBST = new BinarySearchTree<>();
-        identifiersBST = new BinarySearchTree<>();
+        identifiersBST = BinarySearchTree.unmodifiable(new AVLTree<String>());
+        this.matcherFactory = matcherFactory;
+        reservedWordMatcher = matcherFactory.apply(Collections.emptyList());
+        reservedWordHits = new BitSet();
+    }
+
+    /**
+     * Creates a worker parser that shares this parser's reserved words, input mode,
+     * listener and metrics but collects identifiers on its own, so several workers can parse files in
+     * parallel. The reserved words must not be reloaded while workers are running.
+     *
+     * @return A new parser with no identifiers.
+     */
+    public Parser createWorker() {
+        Parser worker = new Parser(matcherFactory);
+        worker.reservedWordsBST = reservedWordsBST;
+        worker.reservedWordMatcher = reservedWordMatcher;
+        worker.reservedWordHits = new BitSet(reservedWordMatcher.size());
+        worker.inputMode = inputMode;
+        worker.listener = listener;
+        worker.metrics = metrics;
+        return worker;
+    }
+
+    /**
+     * Creates a worker parser that shares this parser's reserved words, input mode and
+     * listener and records identifiers in a set shared with other workers. The set must be safe for
+     * concurrent use if workers run in parallel.
+     *
+     * @param sharedIdentifiers The set that receives the worker's identifiers.
+     * @return A new parser that adds identifiers to the shared set.
+     */
+    public Parser createWorker(SearchTreeInterface<String> sharedIdentifiers) {
+        Parser worker = createWorker();
+        worker.sharedIdentifiers = sharedIdentifiers;
+        return worker;
     }
 
     public BinarySearchTree<String> getReservedWordsBST() {
         return reservedWordsBST;
     }
 
+    /**
+     * Retrieves the identifiers found, with their occurrence counts, as a search tree.
+     * Identifiers are counted by symbol ID while parsing; when the counts changed, the
+     * tree is rebuilt from them with one bulk load instead of an insertion per identifier.
+     *
+     * The tree is a read-only snapshot: it does not change when more files are parsed, so
+     * call this method again for the latest identifiers, and methods that would add to it
+     * throw {@link UnsupportedOperationException}.
+     *
+     * @return The identifiers found by this parser, as a read-only tree.
+     */
     public BinarySearchTree<String> getIdentifiersBST() {
+        if (identifiersChanged) {
+            List<EntryCount<String>> identifiers = new ArrayList<>(identifierSymbols.size());
+            for (int id = 0; id < identifierSymbols.size(); id++) {
+                identifiers.add(new EntryCount<>(identifierSymbols.symbol(id), identifierCounts[id]));
+            }
+            BinarySearchTree<String> tree = new AVLTree<>();
+            tree.addAllOccurrences(identifiers);
+            identifiersBST = BinarySearchTree.unmodifiable(tree);
+            identifiersChanged = false;
+            if (metrics.isEnabled()) {
+                metrics.recordTreeHeight(tree.getHeight());
+            }
+        }
         return identifiersBST;
     }
 
+    /**
+     * Retrieves the identifiers found: the shared set for a worker created with
+     * {@link #createWorker(SearchTreeInterface)}, and {@link #getIdentifiersBST()} otherwise.
+     *
+     * @return The identifiers found.
+     */
+    public SearchTreeInterface<String> getIdentifiers() {
+        return (sharedIdentifiers != null) ? sharedIdentifiers : getIdentifiersBST();
+    }
+
+    /**
+     * Retrieves the symbol table that numbers the identifiers found by this parser.
+     *
+     * @return The symbol table; the counts of {@link #getIdentifierCount(int)} are indexed by its IDs.
+     */
+    public SymbolTable getIdentifierSymbols() {
+        return identifierSymbols;
+    }
+
+    /**
+     * Retrieves the number of occurrences of an identifier.
+     *
+     * @param id The symbol ID of the identifier in {@link #getIdentifierSymbols()}.
+     * @return The number of occurrences.
+     * @throws IndexOutOfBoundsException if the ID is not valid.
+     */
+    public int getIdentifierCount(int id) {
+        if (id < 0 || id >= identifierSymbols.size()) {
+            throw new IndexOutOfBoundsException("No identifier with ID " + id);
+        }
+        return identifierCounts[id];
+    }
+
+    /**
+     * Retrieves the reserved words that appeared in the parsed input.
+     *
+     * @return The reserved words found, in alphabetical order.
+     */
+    public List<String> getReservedWordsFound() {
+        List<String> found = new ArrayList<>(reservedWordHits.cardinality());
+        for (int i = reservedWordHits.nextSetBit(0); i >= 0; i = reservedWordHits.nextSetBit(i + 1)) {
+            found.add(reservedWordMatcher.wordAt(i));
+        }
+        return found;
+    }
+
+    /**
+     * Merges the results of a worker created by this parser into this parser: the reserved
+     * words it found, and its identifiers with their occurrence counts unless the worker
+     * shares this parser's identifier set.
+     *
+     * @param worker A worker created with {@link #createWorker()} or {@link #createWorker(SearchTreeInterface)}.
+     */
+    public void mergeResults(Parser worker) {
+        reservedWordHits.or(worker.reservedWordHits);
+        if (worker.sharedIdentifiers != null) {
+            if (worker.sharedIdentifiers == sharedIdentifiers) {
+                return; // Both already record into the same set
+            }
+            Iterator<String> iterator = worker.sharedIdentifiers.getInorderIterator();
+            while (iterator.hasNext()) {
+                String identifier = iterator.next();
+                addIdentifierOccurrences(identifier, worker.sharedIdentifiers.getOccurrenceCount(identifier));
+            }
+            return;
+        }
+        for (int id = 0; id < worker.identifierSymbols.size(); id++) {
+            if (sharedIdentifiers != null) {
+                sharedIdentifiers.addOccurrences(worker.identifierSymbols.symbol(id), worker.identifierCounts[id]);
+            } else {
+                addIdentifierOccurrences(identifierSymbols.intern(worker.identifierSymbols, id), worker.identifierCounts[id]);
+            }
+        }
+    }
+
+    /**
+     * Records occurrences of an identifier given as a String.
+     *
+     * @param identifier  The identifier.
+     * @param occurrences The number of occurrences.
+     */
+    private void addIdentifierOccurrences(String identifier, int occurrences) {
+        if (sharedIdentifiers != null) {
+            sharedIdentifiers.addOccurrences(identifier, occurrences);
+        } else {
+            char[] chars = identifier.toCharArray();
+            addIdentifierOccurrences(identifierSymbols.intern(chars, 0, chars.length), occurrences);
+        }
+    }
+
+    /**
+     * Records occurrences of an identifier given by symbol ID.
+     *
+     * @param id          The symbol ID of the identifier.
+     * @param occurrences The number of occurrences.
+     * @return The number of occurrences before these.
+     */
+    private int addIdentifierOccurrences(int id, int occurrences) {
+        if (id == identifierCounts.length) {
+            identifierCounts = Arrays.copyOf(identifierCounts, id * 2); // IDs are dense, so this only grows by one ID at a time
+        }
+        int previous = identifierCounts[id];
+        identifierCounts[id] = previous + occurrences;
+        identifiersChanged = true;
+        return previous;
+    }
+
+    public ReservedWordMatcher getReservedWordMatcher() {
+        return reservedWordMatcher;
+    }
+
+    public InputMode getInputMode() {
+        return inputMode;
+    }
+
+    public ParseListener getParseListener() {
+        return listener;
+    }
+
+    /**
+     * Sets the listener that receives an event for every reserved word and every new
+     * identifier. The parser does not close the listener.
+     *
+     * @param listener The listener, or {@link ParseListener#NONE} to parse silently.
+     */
+    public void setParseListener(ParseListener listener) {
+        this.listener = listener;
+    }
+
+    public ParseMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Sets the registry that receives counters and phase latencies. Workers created
+     * afterwards record into the same registry.
+     *
+     * @param metrics The registry, or {@link ParseMetrics#DISABLED} to record nothing.
+     */
+    public void setMetrics(ParseMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Selects how source files are read by {@link #parseFile(String)}. Both modes decode the file as UTF-8.
+     *
+     * @param inputMode The input mode to use.
+     */
+    public void setInputMode(InputMode inputMode) {
+        this.inputMode = inputMode;
+    }
+
     /**
      * Initializes the parser by loading reserved words and parsing the input file.
      *
@@ -39,7 +299,8 @@ public class Parser {
     }
 
     /**
-     * Loads reserved words from a file and populates a balanced BST.
+     * Loads reserved words from a file, bulk-loads them into a balanced BST, and builds the
+     * reserved-word matcher used to classify tokens.
      *
      * @param filename Path to the reserved words file.
      * @throws IOException if the file cannot be read.
@@ -47,78 +308,198 @@ public class Parser {
     public void initializeReservedWords(String filename) throws IOException {
         List<String> reservedWords = readLinesFromFile(filename);
 
-        // Sort reserved words and build a balanced BST
-        Collections.sort(reservedWords);
-        BinaryNode<String> rootNode = buildBalancedBST(reservedWords, 0, reservedWords.size() - 1);
-        reservedWordsBST.initializeRoot(rootNode);
+        // Sort reserved words, dropping duplicates, and build the balanced tree in linear time
+        List<String> sortedWords = new ArrayList<>(new TreeSet<>(reservedWords));
+        reservedWordsBST = BinarySearchTree.fromSorted(sortedWords);
+        reservedWordMatcher = matcherFactory.apply(sortedWords);
+        reservedWordHits = new BitSet(reservedWordMatcher.size());
     }
 
     /**
-     * Recursively builds a balanced BST from a sorted list of words.
+     * Parses a Java source file to extract reserved words and identifiers. The file is
+     * streamed through a fixed-size window, so memory use does not grow with the file size.
+     * It is read according to the current {@link InputMode}.
      *
-     * @param words A sorted list of words.
-     * @param start Starting index of the list.
-     * @param end   Ending index of the list.
-     * @return The root node of the balanced BST.
+     * @param filename Path to the source file.
+     * @throws IOException if the file cannot be read.
      */
-    private BinaryNode<String> buildBalancedBST(List<String> words, int start, int end) {
-        if (start > end) {
-            return null;
+    public void parseFile(String filename) throws IOException {
+        if (!metrics.isEnabled()) {
+            try (Reader reader = openSource(filename)) {
+                parse(reader);
+            }
+            return;
         }
 
-        int mid = (start + end) / 2;
-        BinaryNode<String> rootNode = new BinaryNode<>(words.get(mid));
-        rootNode.setLeftChild(buildBalancedBST(words, start, mid - 1));
-        rootNode.setRightChild(buildBalancedBST(words, mid + 1, end));
-        return rootNode;
+        ParseFileEvent event = metrics.isRecordingEvents() ? new ParseFileEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        long start = metrics.startTimer();
+        try (Reader reader = openSource(filename)) {
+            metrics.recordPhase(ParseMetrics.Phase.READ, start);
+            metrics.add(ParseMetrics.Counter.FILES_READ, 1);
+            MeasuringScanner scanner = parseMeasured(reader);
+            if (event != null && event.shouldCommit()) {
+                event.file = filename;
+                event.characters = scanner.characters;
+                event.tokens = scanner.counts.tokens;
+                event.identifiersAdded = scanner.counts.identifiersAdded;
+                event.commit();
+            }
+        }
     }
 
     /**
-     * Parses a Java source file to extract reserved words and identifiers.
+     * Opens a source file for reading according to the input mode.
      *
      * @param filename Path to the source file.
-     * @throws IOException if the file cannot be read.
+     * @return A reader over the decoded contents of the file.
+     * @throws IOException if the file cannot be opened.
      */
-    public void parseFile(String filename) throws IOException {
-        List<String> lines = readLinesFromFile(filename);
-
-        for (String line : lines) {
-            String[] tokens = line.split("[^a-zA-Z0-9]+"); // Tokenize by stripping punctuation and whitespace
-            for (String token : tokens) {
-                if (!token.isEmpty()) {
-                    // Check in reservedWordsBST
-                    if (reservedWordsBST.contains(token)) {
-                        // Reserved word; skip adding to identifiers
-                        System.out.println("Reserved Word: " + token);
-                    } else if (!identifiersBST.contains(token)) {
-                        // Only add non-reserved words as identifiers
-                        identifiersBST.add(token);
-                        System.out.println("Identifier Added: " + token);
-                    }
-                }
+    Reader openSource(String filename) throws IOException {
+        if (inputMode == InputMode.MEMORY_MAPPED) {
+            return new MappedSourceReader(Paths.get(filename));
+        }
+        return new FileReader(filename, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses Java source text from a character stream to extract reserved words and identifiers.
+     * The stream is read to its end but not closed.
+     *
+     * @param reader The stream holding the source text.
+     * @throws IOException if the stream cannot be read.
+     */
+    public void parse(Reader reader) throws IOException {
+        if (metrics.isEnabled()) {
+            parseMeasured(reader);
+        } else {
+            sourceScanner.scan(reader, lexer, tokenClassifier);
+        }
+    }
+
+    /**
+     * Parses a character stream while recording counters and phase latencies.
+     *
+     * @param reader The stream holding the source text.
+     * @return The scanner that measured the parse, holding its totals.
+     * @throws IOException if the stream cannot be read.
+     */
+    private MeasuringScanner parseMeasured(Reader reader) throws IOException {
+        MeasuringScanner scanner = new MeasuringScanner();
+        sourceScanner.scan(scanner.new MeasuringReader(reader), scanner, tokenClassifier);
+        metrics.add(ParseMetrics.Counter.CHARACTERS_SCANNED, scanner.characters);
+        recordTokenCounts(scanner.counts);
+        return scanner;
+    }
+
+    /**
+     * Classifies a batch of tokens held in one buffer, for a {@link PipelinedParser} whose
+     * tokenizer stage ran on other threads. The token counters are recorded once for the batch.
+     *
+     * @param chars        The buffer holding the tokens.
+     * @param bounds       The start and end index of each token, in pairs.
+     * @param boundsLength The number of entries used in {@code bounds}, twice the number of tokens.
+     */
+    void classifyTokens(char[] chars, int[] bounds, int boundsLength) {
+        TokenCounts counts = new TokenCounts();
+        classifyBatch(chars, bounds, boundsLength, counts);
+        if (metrics.isEnabled()) {
+            recordTokenCounts(counts);
+        }
+    }
+
+    /**
+     * Classifies a batch of tokens held in one buffer and adds their kinds to a tally. Both
+     * the measured sequential parse and the pipelined parse classify through this method,
+     * so their counters agree.
+     *
+     * @param chars        The buffer holding the tokens.
+     * @param bounds       The start and end index of each token, in pairs.
+     * @param boundsLength The number of entries used in {@code bounds}, twice the number of tokens.
+     * @param counts       The tally to add to.
+     */
+    private void classifyBatch(char[] chars, int[] bounds, int boundsLength, TokenCounts counts) {
+        for (int i = 0; i < boundsLength; i += 2) {
+            int kind = classifyToken(chars, bounds[i], bounds[i + 1]);
+            if (kind == RESERVED_WORD) {
+                counts.reservedWords++;
+            } else if (kind == NEW_IDENTIFIER) {
+                counts.identifiersAdded++;
             }
         }
+        counts.tokens += boundsLength / 2;
     }
 
+    /**
+     * Adds a tally of classified tokens to the token counters of the metrics.
+     *
+     * @param counts The tally.
+     */
+    private void recordTokenCounts(TokenCounts counts) {
+        metrics.add(ParseMetrics.Counter.TOKENS, counts.tokens);
+        metrics.add(ParseMetrics.Counter.RESERVED_WORD_HITS, counts.reservedWords);
+        metrics.add(ParseMetrics.Counter.IDENTIFIER_INSERTS, counts.tokens - counts.reservedWords);
+        metrics.add(ParseMetrics.Counter.IDENTIFIERS_ADDED, counts.identifiersAdded);
+    }
 
     /**
-     * Prints all reserved words found in the source file.
+     * Classifies a single token as a reserved word or an identifier. Reserved words are
+     * recognized in place, and identifiers are interned in place and counted by symbol ID,
+     * so a String is only created for the first occurrence of each identifier. A worker
+     * that shares an identifier set with other workers adds a String to the set instead.
+     *
+     * @param chars The buffer holding the token.
+     * @param start The index of the first character of the token.
+     * @param end   The index one past the last character of the token.
+     * @return The kind of token: {@code RESERVED_WORD}, {@code IDENTIFIER}, or
+     *         {@code NEW_IDENTIFIER} for the first occurrence of an identifier.
+     */
+    private int classifyToken(char[] chars, int start, int end) {
+        int reservedIndex = reservedWordMatcher.indexOf(chars, start, end);
+        if (reservedIndex != ReservedWordMatcher.NOT_RESERVED) {
+            // Reserved word; record the hit and skip adding to identifiers
+            reservedWordHits.set(reservedIndex);
+            listener.reservedWord(reservedWordMatcher.wordAt(reservedIndex));
+            return RESERVED_WORD;
+        } else if (sharedIdentifiers != null) {
+            String token = new String(chars, start, end - start);
+            if (sharedIdentifiers.addOccurrence(token) == 1) {
+                listener.identifierAdded(token);
+                return NEW_IDENTIFIER;
+            }
+        } else {
+            int id = identifierSymbols.intern(chars, start, end);
+            if (addIdentifierOccurrences(id, 1) == 0) {
+                // Count every occurrence, but only announce the first
+                listener.identifierAdded(identifierSymbols.symbol(id));
+                return NEW_IDENTIFIER;
+            }
+        }
+        return IDENTIFIER;
+    }
+
+    /**
+     * Prints the reserved words that appeared in the source file, in alphabetical order.
      */
     public void printReservedWords() {
+        long start = metrics.startTimer();
         System.out.println("Reserved Words Found in the File:");
-        Iterator<String> iterator = reservedWordsBST.getInorderIterator();
-        while (iterator.hasNext()) {
-            System.out.println(iterator.next());
+        for (String reservedWord : getReservedWordsFound()) {
+            System.out.println(reservedWord);
         }
+        metrics.recordPhase(ParseMetrics.Phase.REPORT, start);
     }
 
     /**
      * Prints all user-defined identifiers found in the source file.
      */
     public void printIdentifiers() {
+        long start = metrics.startTimer();
         System.out.println("User-Defined Identifiers Found in the File:");
         List<String> identifiers = new ArrayList<>();
-        Iterator<String> iterator = identifiersBST.getInorderIterator();
+        Iterator<String> iterator = getIdentifiers().getInorderIterator();
         while (iterator.hasNext()) {
             identifiers.add(iterator.next());
         }
@@ -127,17 +508,135 @@ public class Parser {
         for (String identifier : identifiers) {
             System.out.println(identifier);
         }
+        metrics.recordPhase(ParseMetrics.Phase.REPORT, start);
+    }
+
+    /**
+     * Prints the most frequent user-defined identifiers with their occurrence counts.
+     *
+     * @param k The maximum number of identifiers to print.
+     */
+    public void printMostFrequentIdentifiers(int k) {
+        long start = metrics.startTimer();
+        System.out.println("Most Frequent Identifiers in the File:");
+        for (EntryCount<String> identifier : getIdentifiers().getMostFrequent(k)) {
+            System.out.println(identifier);
+        }
+        metrics.recordPhase(ParseMetrics.Phase.REPORT, start);
+    }
+
+    /**
+     * A tally of classified tokens by kind.
+     */
+    private static final class TokenCounts {
+        private long tokens;           // Tokens classified
+        private long reservedWords;    // Tokens that were reserved words
+        private long identifiersAdded; // Identifiers seen for the first time
+    }
+
+    /**
+     * Scans a window with the parser's lexer, then classifies the tokens of the window in
+     * a batch, so the two phases can be timed separately. The handler passed by the
+     * {@link SourceScanner} is not called; tokens are classified by {@link #classifyToken}
+     * directly, which also reports their kind. The totals of one parse are kept in fields.
+     */
+    private class MeasuringScanner implements TokenScanner, TokenHandler {
+        private int[] bounds = new int[256]; // Start and end of each token of the current window
+        private int boundsLength;            // Number of entries used in bounds
+        private long characters;             // Characters read
+        private final TokenCounts counts = new TokenCounts(); // Kinds of the tokens classified
+
+        /**
+         * Tokenizes a window, timing the lexer and the classification separately.
+         *
+         * @param chars      The buffer holding the text.
+         * @param start      The index of the first character to scan.
+         * @param end        The index one past the last character to scan.
+         * @param endOfInput {@code true} if no more text follows.
+         * @param handler    Ignored; tokens are classified by the parser.
+         * @return The index from which scanning must resume.
+         */
+        @Override
+        public int tokenize(char[] chars, int start, int end, boolean endOfInput, TokenHandler handler) {
+            long scanStart = System.nanoTime();
+            boundsLength = 0;
+            int resume = lexer.tokenize(chars, start, end, endOfInput, this);
+            long classifyStart = System.nanoTime();
+            classifyBatch(chars, bounds, boundsLength, counts);
+            metrics.recordLatency(ParseMetrics.Phase.TOKENIZE, classifyStart - scanStart);
+            metrics.recordPhase(ParseMetrics.Phase.CLASSIFY, classifyStart);
+            return resume;
+        }
+
+        /**
+         * Records the bounds of a token reported by the lexer.
+         *
+         * @param chars The buffer holding the token.
+         * @param start The index of the first character of the token.
+         * @param end   The index one past the last character of the token.
+         */
+        @Override
+        public void token(char[] chars, int start, int end) {
+            if (boundsLength == bounds.length) {
+                bounds = Arrays.copyOf(bounds, boundsLength * 2);
+            }
+            bounds[boundsLength++] = start;
+            bounds[boundsLength++] = end;
+        }
+
+        /**
+         * Resets the lexer for a new input.
+         */
+        @Override
+        public void reset() {
+            lexer.reset();
+        }
+
+        /**
+         * Times every read of the source and counts the characters read.
+         */
+        private class MeasuringReader extends FilterReader {
+            /**
+             * Creates a reader that measures another.
+             *
+             * @param in The reader to measure.
+             */
+            MeasuringReader(Reader in) {
+                super(in);
+            }
+
+            /**
+             * Reads characters into part of an array, timing the read.
+             *
+             * @param buffer The array to read into.
+             * @param offset The index at which to store the first character.
+             * @param length The maximum number of characters to read.
+             * @return The number of characters read, or -1 at the end of the stream.
+             * @throws IOException if the stream cannot be read.
+             */
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                long start = System.nanoTime();
+                int read = super.read(buffer, offset, length);
+                metrics.recordPhase(ParseMetrics.Phase.READ, start);
+                if (read > 0) {
+                    characters += read;
+                }
+                return read;
+            }
+        }
     }
 
     /**
-     * Helper method to read lines from a file into a list.
+     * Helper method to read the trimmed lines of a small file, such as the reserved
+     * words file, into a list. Source files are streamed instead.
      *
      * @param filename Path to the file.
      * @return A list of lines from the file.
      * @throws IOException if the file cannot be read.
      */
     private List<String> readLinesFromFile(String filename) throws IOException {
-        List<String> lines = new LinkedList<>();
+        List<String> lines = new ArrayList<>();
         try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
             String line;
             while ((line = reader.readLine()) != null) {
@@ -0,0 +1,395 @@
+package Main;
+
+import LexerPackage.JavaLexer;
+import LexerPackage.TokenHandler;
+import LexerPackage.TokenScanner;
+import StackAndQueuePackage.ConcurrentArrayQueue;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Parses source files in three overlapping stages, so that reading, tokenizing and
+ * classifying proceed at the same time instead of one after another:
+ * <ol>
+ *     <li>a reader thread reads the files in large chunks of characters;</li>
+ *     <li>tokenizer threads split the chunks into tokens and pack them into batches;</li>
+ *     <li>the calling thread classifies each batch against the reserved words and records
+ *     the identifiers in the parser, so the parser is only ever used by one thread.</li>
+ * </ol>
+ * The stages hand chunks and batches to each other through {@link ConcurrentArrayQueue}s,
+ * and each costs one hand-off instead of a call per token. Chunks and batches are
+ * recycled through queues of free ones. Their fixed number bounds the memory in use: when
+ * a later stage falls behind, the earlier ones wait for a free chunk or batch.
+ *
+ * The lexer carries state from one chunk to the next, such as being inside a comment, so
+ * all chunks of a file go to the same tokenizer. Files are dealt to the tokenizers in
+ * turn. The tokens of each file are classified in order, but the tokens of files handled
+ * by different tokenizers interleave, and so do the listener events they cause.
+ */
+public class PipelinedParser {
+    /** The default number of characters in a chunk. */
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    private static final int CHUNKS_PER_TOKENIZER = 4;  // Chunks in flight for each tokenizer
+    private static final int BATCHES_PER_TOKENIZER = 4; // Batches in flight for each tokenizer
+    private static final Chunk END_OF_FILES = new Chunk(0);    // Tells a tokenizer that no files follow
+    private static final TokenBatch END_OF_TOKENS = new TokenBatch(); // Tells the classifier a tokenizer is done
+
+    private final Parser parser;
+    private final int tokenizers;
+    private final int chunkSize;
+
+    /**
+     * Creates a PipelinedParser with one tokenizer thread and the default chunk size.
+     *
+     * @param parser A parser with its reserved words loaded; receives the results.
+     */
+    public PipelinedParser(Parser parser) {
+        this(parser, 1, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a PipelinedParser.
+     *
+     * @param parser     A parser with its reserved words loaded; receives the results.
+     * @param tokenizers The number of tokenizer threads.
+     * @param chunkSize  The number of characters read at a time.
+     * @throws IllegalArgumentException if {@code tokenizers} or {@code chunkSize} is not positive.
+     */
+    public PipelinedParser(Parser parser, int tokenizers, int chunkSize) {
+        if (tokenizers <= 0 || chunkSize <= 0) {
+            throw new IllegalArgumentException("Tokenizers and chunk size must be positive.");
+        }
+        this.parser = parser;
+        this.tokenizers = tokenizers;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Parses the given files and records their results in the parser. The files are read
+     * according to the parser's input mode.
+     *
+     * @param files The source files to parse.
+     * @throws IOException if a file cannot be read, or the calling thread is interrupted.
+     * @throws RuntimeException if the reader or a tokenizer thread failed with one; any
+     *                          {@link Error} of those threads is rethrown as well.
+     */
+    public void parse(List<Path> files) throws IOException {
+        if (files.isEmpty()) {
+            return;
+        }
+        Pipeline pipeline = new Pipeline(files);
+        pipeline.start();
+        boolean finished = false;
+        try {
+            pipeline.classify();
+            finished = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while parsing.");
+        } finally {
+            pipeline.stop(!finished || pipeline.failure != null);
+        }
+        Throwable failure = pipeline.failure;
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+    }
+
+    /**
+     * The threads and queues of one parse.
+     */
+    private class Pipeline {
+        private final List<Path> files;
+        private final ConcurrentArrayQueue<Chunk> freeChunks;         // Chunks ready to be read into
+        private final List<ConcurrentArrayQueue<Chunk>> chunkQueues;  // Chunks read, one queue per tokenizer
+        private final ConcurrentArrayQueue<TokenBatch> freeBatches;   // Batches ready to be filled
+        private final ConcurrentArrayQueue<TokenBatch> fullBatches;   // Batches waiting for the classifier
+        private final List<Thread> threads = new ArrayList<>();
+        private final ParseMetrics metrics = parser.getMetrics();
+        private volatile Throwable failure; // The first error of the reader or a tokenizer thread
+
+        /**
+         * Creates the queues and fills the free queues.
+         *
+         * @param files The files to parse.
+         */
+        Pipeline(List<Path> files) {
+            this.files = files;
+            int chunks = CHUNKS_PER_TOKENIZER * tokenizers;
+            int batches = BATCHES_PER_TOKENIZER * tokenizers;
+            freeChunks = new ConcurrentArrayQueue<>(chunks);
+            chunkQueues = new ArrayList<>(tokenizers);
+            for (int i = 0; i < tokenizers; i++) {
+                chunkQueues.add(new ConcurrentArrayQueue<>(chunks + 1)); // Room for every chunk and the end marker
+            }
+            freeBatches = new ConcurrentArrayQueue<>(batches);
+            fullBatches = new ConcurrentArrayQueue<>(batches + tokenizers); // Room for every batch and end marker
+            for (int i = 0; i < chunks; i++) {
+                freeChunks.enqueue(new Chunk(chunkSize));
+            }
+            for (int i = 0; i < batches; i++) {
+                freeBatches.enqueue(new TokenBatch());
+            }
+        }
+
+        /**
+         * Starts the reader and tokenizer threads.
+         */
+        void start() {
+            threads.add(new Thread(this::read, "parse-reader"));
+            for (int i = 0; i < tokenizers; i++) {
+                ConcurrentArrayQueue<Chunk> chunkQueue = chunkQueues.get(i);
+                threads.add(new Thread(() -> tokenize(chunkQueue), "parse-tokenizer-" + i));
+            }
+            for (Thread thread : threads) {
+                thread.setDaemon(true);
+                thread.start();
+            }
+        }
+
+        /**
+         * Waits for the threads to finish, first interrupting them if the parse was abandoned.
+         *
+         * @param abandon {@code true} to interrupt the threads.
+         */
+        void stop(boolean abandon) {
+            for (Thread thread : threads) {
+                if (abandon) {
+                    thread.interrupt();
+                }
+            }
+            boolean interrupted = false;
+            for (Thread thread : threads) {
+                while (true) {
+                    try {
+                        thread.join();
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true; // Keep waiting; the threads must not outlive the parse
+                        thread.interrupt();
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * Records an error of the reader or a tokenizer thread. Only the first is kept.
+         *
+         * @param error The error.
+         */
+        private synchronized void fail(Throwable error) {
+            if (failure == null) {
+                failure = error;
+            }
+        }
+
+        /**
+         * The reader stage: reads every file into chunks and deals the files to the
+         * tokenizers in turn, then tells every tokenizer that no files follow. Reading stops
+         * at the first error, and the tokenizers are told all the same.
+         */
+        private void read() {
+            try {
+                for (int i = 0; i < files.size() && failure == null; i++) {
+                    readFile(files.get(i), chunkQueues.get(i % tokenizers));
+                }
+            } catch (InterruptedException e) {
+                // The parse was abandoned
+            } catch (Throwable e) {
+                fail(e);
+            } finally {
+                for (ConcurrentArrayQueue<Chunk> chunkQueue : chunkQueues) {
+                    chunkQueue.enqueue(END_OF_FILES); // Never full: it has room for every chunk and the marker
+                }
+            }
+        }
+
+        /**
+         * Reads one file into chunks. The last chunk of the file is marked, so the
+         * tokenizer knows where the file ends.
+         *
+         * @param file       The file.
+         * @param chunkQueue The queue of the tokenizer that handles the file.
+         * @throws InterruptedException if the parse was abandoned.
+         */
+        private void readFile(Path file, ConcurrentArrayQueue<Chunk> chunkQueue) throws InterruptedException {
+            long start = metrics.startTimer();
+            try (Reader reader = parser.openSource(file.toString())) {
+                metrics.recordPhase(ParseMetrics.Phase.READ, start);
+                metrics.add(ParseMetrics.Counter.FILES_READ, 1);
+                boolean endOfFile = false;
+                while (!endOfFile) {
+                    Chunk chunk = freeChunks.take();
+                    long readStart = metrics.startTimer();
+                    chunk.length = 0;
+                    while (chunk.length < chunk.chars.length && !endOfFile) {
+                        int read = reader.read(chunk.chars, chunk.length, chunk.chars.length - chunk.length);
+                        if (read < 0) {
+                            endOfFile = true;
+                        } else {
+                            chunk.length += read;
+                        }
+                    }
+                    chunk.endOfFile = endOfFile;
+                    metrics.recordPhase(ParseMetrics.Phase.READ, readStart);
+                    metrics.add(ParseMetrics.Counter.CHARACTERS_SCANNED, chunk.length);
+                    chunkQueue.put(chunk);
+                }
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+
+        /**
+         * A tokenizer stage: scans the chunks of its files with a lexer of its own and packs
+         * the tokens of each chunk into a batch for the classifier. Characters at the end of
+         * a chunk that may belong to a token continuing in the next chunk are kept in a
+         * window of the tokenizer's own. However the stage ends, it tells the classifier.
+         *
+         * @param chunkQueue The queue of chunks for this tokenizer.
+         */
+        private void tokenize(ConcurrentArrayQueue<Chunk> chunkQueue) {
+            TokenScanner lexer = new JavaLexer();
+            char[] window = new char[2 * chunkSize]; // Unscanned characters followed by the current chunk
+            int filled = 0;                          // window[0..filled) holds unscanned characters
+            try {
+                while (true) {
+                    Chunk chunk = chunkQueue.take();
+                    if (chunk == END_OF_FILES) {
+                        return;
+                    }
+                    long start = metrics.startTimer();
+                    if (filled + chunk.length > window.length) {
+                        window = Arrays.copyOf(window, Math.max(2 * window.length, filled + chunk.length));
+                    }
+                    System.arraycopy(chunk.chars, 0, window, filled, chunk.length);
+                    filled += chunk.length;
+                    boolean endOfFile = chunk.endOfFile;
+                    freeChunks.put(chunk); // The characters are copied; the reader may reuse the chunk
+
+                    TokenBatch batch = freeBatches.take();
+                    int resume = lexer.tokenize(window, 0, filled, endOfFile, batch);
+                    if (endOfFile) {
+                        lexer.reset();
+                        filled = 0;
+                    } else {
+                        System.arraycopy(window, resume, window, 0, filled - resume);
+                        filled -= resume;
+                    }
+                    metrics.recordPhase(ParseMetrics.Phase.TOKENIZE, start);
+                    if (batch.boundsLength > 0) {
+                        fullBatches.put(batch);
+                    } else {
+                        freeBatches.put(batch);
+                    }
+                }
+            } catch (InterruptedException e) {
+                // The parse was abandoned
+            } catch (Throwable e) {
+                fail(e);
+            } finally {
+                fullBatches.enqueue(END_OF_TOKENS); // Never full: it has room for every batch and marker
+            }
+        }
+
+        /**
+         * The classifier stage, run on the calling thread: classifies each batch with the
+         * parser until every tokenizer is done, or until one is done after a thread failed.
+         * The other threads may then be waiting on the failed one, so they are not awaited.
+         *
+         * @throws InterruptedException if the calling thread is interrupted.
+         */
+        void classify() throws InterruptedException {
+            int finished = 0;
+            while (finished < tokenizers) {
+                TokenBatch batch = fullBatches.take();
+                if (batch == END_OF_TOKENS) {
+                    if (failure != null) {
+                        return;
+                    }
+                    finished++;
+                    continue;
+                }
+                long start = metrics.startTimer();
+                parser.classifyTokens(batch.chars, batch.bounds, batch.boundsLength);
+                metrics.recordPhase(ParseMetrics.Phase.CLASSIFY, start);
+                batch.clear();
+                freeBatches.put(batch);
+            }
+        }
+    }
+
+    /**
+     * Characters read from a file, passed from the reader to a tokenizer.
+     */
+    private static final class Chunk {
+        private final char[] chars; // Holds the characters read
+        private int length;         // Number of characters used in chars
+        private boolean endOfFile;  // Whether this is the last chunk of its file
+
+        /**
+         * Creates an empty chunk.
+         *
+         * @param size The number of characters the chunk holds.
+         */
+        Chunk(int size) {
+            chars = new char[size];
+        }
+    }
+
+    /**
+     * Tokens packed into one buffer, passed from a tokenizer to the classifier. The
+     * characters of each token are copied, so the tokenizer may reuse its window at once.
+     * The arrays grow as needed and are kept when the batch is recycled.
+     */
+    private static final class TokenBatch implements TokenHandler {
+        private char[] chars = new char[16 * 1024]; // The characters of the tokens, one after another
+        private int charsLength;                    // Number of characters used in chars
+        private int[] bounds = new int[4 * 1024];   // Start and end of each token in chars, in pairs
+        private int boundsLength;                   // Number of entries used in bounds
+
+        /**
+         * Appends a token reported by the lexer.
+         *
+         * @param source The buffer holding the token.
+         * @param start  The index of the first character of the token.
+         * @param end    The index one past the last character of the token.
+         */
+        @Override
+        public void token(char[] source, int start, int end) {
+            int length = end - start;
+            if (charsLength + length > chars.length) {
+                chars = Arrays.copyOf(chars, Math.max(2 * chars.length, charsLength + length));
+            }
+            if (boundsLength == bounds.length) {
+                bounds = Arrays.copyOf(bounds, 2 * bounds.length);
+            }
+            System.arraycopy(source, start, chars, charsLength, length);
+            bounds[boundsLength++] = charsLength;
+            charsLength += length;
+            bounds[boundsLength++] = charsLength;
+        }
+
+        /**
+         * Empties the batch for reuse.
+         */
+        void clear() {
+            charsLength = 0;
+            boundsLength = 0;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package StackAndQueuePackage;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * The ArrayQueue class implements a generic queue in a circular array that doubles when
+ * it is full. Unlike {@link LinkedQueue}, it allocates nothing per entry, so it suits
+ * work-lists that see many entries, such as breadth-first traversals of large trees.
+ *
+ * The capacity is always a power of two, so an index wraps around with a mask instead
+ * of a division.
+ *
+ * @param <T> The type of elements stored in the queue.
+ */
+public class ArrayQueue<T> implements QueueInterface<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+    static final int MAX_CAPACITY = 1 << 30; // Largest power of two an array can hold
+
+    private T[] entries; // Circular array of entries; unused slots are null
+    private int front;   // Index of the front entry
+    private int size;    // Number of entries in the queue
+
+    /**
+     * Constructs an empty ArrayQueue with the default capacity.
+     */
+    public ArrayQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty ArrayQueue.
+     *
+     * @param initialCapacity The number of entries the queue holds before it grows; it is
+     *                        rounded up to a power of two.
+     * @throws IllegalArgumentException if the capacity is negative.
+     */
+    public ArrayQueue(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + initialCapacity);
+        }
+        @SuppressWarnings("unchecked")
+        T[] array = (T[]) new Object[capacityFor(initialCapacity)];
+        entries = array;
+    }
+
+    /**
+     * Rounds a requested capacity up to a power of two.
+     *
+     * @param capacity The requested capacity.
+     * @return The smallest power of two, at least 1, not less than the capacity.
+     * @throws IllegalArgumentException if no power of two an array can hold is large enough.
+     */
+    static int capacityFor(int capacity) {
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity is too large: " + capacity);
+        }
+        return (capacity <= 1) ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    /**
+     * Adds a new entry to the back of the queue, doubling the array if it is full.
+     *
+     * @param newEntry The item to be added.
+     * @throws IllegalStateException if the queue already holds the largest possible array.
+     */
+    @Override
+    public void enqueue(T newEntry) {
+        if (size == entries.length) {
+            grow();
+        }
+        entries[(front + size) & (entries.length - 1)] = newEntry;
+        size++;
+    }
+
+    /**
+     * Removes and returns the front entry of the queue.
+     *
+     * @return The front entry of the queue.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    @Override
+    public T dequeue() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Queue is empty.");
+        }
+        T data = entries[front];
+        entries[front] = null; // Let the entry be garbage collected
+        front = (front + 1) & (entries.length - 1);
+        size--;
+        return data;
+    }
+
+    /**
+     * Retrieves the front entry without removing it.
+     *
+     * @return The front entry of the queue.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    @Override
+    public T peek() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Queue is empty.");
+        }
+        return entries[front];
+    }
+
+    /**
+     * Checks whether the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, {@code false} otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Retrieves the number of entries in the queue.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all entries from the queue. The array keeps its capacity.
+     */
+    public void clear() {
+        int mask = entries.length - 1;
+        for (int i = 0; i < size; i++) {
+            entries[(front + i) & mask] = null;
+        }
+        front = 0;
+        size = 0;
+    }
+
+    /**
+     * Doubles the array, moving the entries so that the front entry is at index 0.
+     *
+     * @throws IllegalStateException if the queue already holds the largest possible array.
+     */
+    private void grow() {
+        if (entries.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Queue is full.");
+        }
+        int capacity = entries.length;
+        T[] larger = Arrays.copyOfRange(entries, front, front + 2 * capacity); // Front to the end of the array
+        System.arraycopy(entries, 0, larger, capacity - front, front);        // Then the entries that wrapped around
+        entries = larger;
+        front = 0;
+    }
+}
@@ -0,0 +1,125 @@
+package StackAndQueuePackage;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/**
+ * The ArrayStack class implements a generic stack in an array that doubles when it is
+ * full. Unlike {@link LinkedStack}, it allocates nothing per entry, so it suits
+ * work-lists that see many entries, such as depth-first traversals of large trees.
+ *
+ * @param <T> The type of elements stored in the stack.
+ */
+public class ArrayStack<T> implements StackInterface<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private T[] entries; // Entries from bottom to top; unused slots are null
+    private int size;    // Number of entries in the stack
+
+    /**
+     * Constructs an empty ArrayStack with the default capacity.
+     */
+    public ArrayStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty ArrayStack.
+     *
+     * @param initialCapacity The number of entries the stack holds before it grows.
+     * @throws IllegalArgumentException if the capacity is negative.
+     */
+    public ArrayStack(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + initialCapacity);
+        }
+        @SuppressWarnings("unchecked")
+        T[] array = (T[]) new Object[Math.max(initialCapacity, 1)];
+        entries = array;
+    }
+
+    /**
+     * Pushes a new entry onto the top of the stack, doubling the array if it is full.
+     *
+     * @param newEntry The item to be added to the stack.
+     * @throws IllegalStateException if the stack already holds the largest possible array.
+     */
+    @Override
+    public void push(T newEntry) {
+        if (size == entries.length) {
+            entries = Arrays.copyOf(entries, newCapacity(size));
+        }
+        entries[size++] = newEntry;
+    }
+
+    /**
+     * Removes and returns the top entry of the stack.
+     *
+     * @return The top entry of the stack.
+     * @throws EmptyStackException if the stack is empty.
+     */
+    @Override
+    public T pop() {
+        if (isEmpty()) {
+            throw new EmptyStackException();
+        }
+        T data = entries[--size];
+        entries[size] = null; // Let the entry be garbage collected
+        return data;
+    }
+
+    /**
+     * Retrieves the top entry without removing it.
+     *
+     * @return The top entry of the stack.
+     * @throws EmptyStackException if the stack is empty.
+     */
+    @Override
+    public T peek() {
+        if (isEmpty()) {
+            throw new EmptyStackException();
+        }
+        return entries[size - 1];
+    }
+
+    /**
+     * Checks whether the stack is empty.
+     *
+     * @return {@code true} if the stack is empty, {@code false} otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Retrieves the number of entries in the stack.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all entries from the stack. The array keeps its capacity.
+     */
+    public void clear() {
+        Arrays.fill(entries, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Computes the capacity of a full array after it grows.
+     *
+     * @param capacity The current capacity.
+     * @return Double the capacity, limited to the largest array size.
+     * @throws IllegalStateException if the array cannot grow.
+     */
+    static int newCapacity(int capacity) {
+        if (capacity == Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Stack is full.");
+        }
+        return (int) Math.min(2L * capacity, Integer.MAX_VALUE - 8); // Some VMs reserve header words
+    }
+}
@@ -0,0 +1,350 @@
+package StackAndQueuePackage;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded, lock-free queue that any number of threads may enqueue to and dequeue from
+ * at the same time, after Dmitry Vyukov's bounded MPMC queue. It hands work from one
+ * stage of a parse to the next: when a consumer falls behind, the queue fills up and
+ * producers wait, so memory use stays bounded.
+ *
+ * Every slot of the ring has a sequence number that says whose turn it is. A producer
+ * that finds the slot's sequence equal to its claimed position may write there; after
+ * writing, it advances the sequence by one to hand the slot to the consumer of that
+ * position, which in turn advances it by the capacity to hand it to the producer of the
+ * next lap. Producers and consumers therefore only contend on their own position
+ * counter, which a compare-and-set claims. The two counters are padded onto separate
+ * cache lines so that producers and consumers do not slow each other down.
+ *
+ * {@link #offer} and {@link #poll} never wait. {@link #put} and {@link #take} wait until
+ * they succeed, spinning briefly and then parking for growing intervals, so an idle
+ * queue costs little CPU. Entries may not be {@code null}, because {@link #poll} returns
+ * {@code null} when the queue is empty. {@link #size()}, {@link #isEmpty()} and
+ * {@link #peek()} are snapshots that may be stale by the time they return.
+ *
+ * @param <T> The type of elements stored in the queue.
+ */
+public class ConcurrentArrayQueue<T> implements QueueInterface<T> {
+    private static final int SPIN_LIMIT = 64;              // Idle rounds that spin before parking
+    private static final long MAX_PARK_NANOS = 1_000_000L; // Longest park between attempts (1 ms)
+
+    private final Object[] buffer;           // Ring of entries; a slot is null once consumed
+    private final AtomicLongArray sequences; // Sequence number of each slot, indexed like buffer
+    private final int mask;                  // Capacity - 1; the capacity is a power of two
+    private final PaddedCounter enqueuePosition = new PaddedCounter(); // Next position to enqueue at
+    private final PaddedCounter dequeuePosition = new PaddedCounter(); // Next position to dequeue from
+
+    /**
+     * Constructs an empty ConcurrentArrayQueue.
+     *
+     * @param capacity The maximum number of entries; it is rounded up to a power of two,
+     *                 and to at least 2 so that a slot's full and free sequences differ.
+     * @throws IllegalArgumentException if the capacity is less than 1 or too large.
+     */
+    public ConcurrentArrayQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1: " + capacity);
+        }
+        int size = ArrayQueue.capacityFor(Math.max(capacity, 2));
+        buffer = new Object[size];
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i); // Slot i is free for the producer of position i
+        }
+        mask = size - 1;
+    }
+
+    /**
+     * Adds an entry to the back of the queue if there is room, without waiting.
+     *
+     * @param newEntry The entry to add.
+     * @return {@code true} if the entry was added, {@code false} if the queue is full.
+     * @throws NullPointerException if the entry is {@code null}.
+     */
+    public boolean offer(T newEntry) {
+        if (newEntry == null) {
+            throw new NullPointerException("Entries must not be null.");
+        }
+        long position = enqueuePosition.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) { // The slot is free for this position
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    buffer[index] = newEntry;
+                    sequences.lazySet(index, position + 1); // Publishes the entry to the consumer
+                    return true;
+                }
+                position = enqueuePosition.get();
+            } else if (difference < 0) { // The slot still holds the entry from the previous lap
+                return false;
+            } else { // Another producer claimed this position
+                position = enqueuePosition.get();
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the front entry if there is one, without waiting.
+     *
+     * @return The front entry, or {@code null} if the queue is empty.
+     */
+    public T poll() {
+        long position = dequeuePosition.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) { // The slot holds the entry for this position
+                if (dequeuePosition.compareAndSet(position, position + 1)) {
+                    @SuppressWarnings("unchecked")
+                    T entry = (T) buffer[index];
+                    buffer[index] = null;
+                    sequences.lazySet(index, position + mask + 1); // Frees the slot for the next lap
+                    return entry;
+                }
+                position = dequeuePosition.get();
+            } else if (difference < 0) { // Nothing has been written at this position yet
+                return null;
+            } else { // Another consumer claimed this position
+                position = dequeuePosition.get();
+            }
+        }
+    }
+
+    /**
+     * Adds an entry to the back of the queue, waiting while the queue is full.
+     *
+     * @param newEntry The entry to add.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     * @throws NullPointerException if the entry is {@code null}.
+     */
+    public void put(T newEntry) throws InterruptedException {
+        for (int idleRounds = 0; !offer(newEntry); idleRounds++) {
+            idle(idleRounds, Long.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Adds an entry to the back of the queue, waiting up to a timeout while the queue is full.
+     *
+     * @param newEntry The entry to add.
+     * @param timeout  The longest time to wait.
+     * @param unit     The unit of the timeout.
+     * @return {@code true} if the entry was added, {@code false} if the timeout expired first.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     * @throws NullPointerException if the entry is {@code null}.
+     */
+    public boolean offer(T newEntry, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (int idleRounds = 0; !offer(newEntry); idleRounds++) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            idle(idleRounds, remaining);
+        }
+        return true;
+    }
+
+    /**
+     * Removes and returns the front entry, waiting while the queue is empty.
+     *
+     * @return The front entry.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public T take() throws InterruptedException {
+        T entry;
+        for (int idleRounds = 0; (entry = poll()) == null; idleRounds++) {
+            idle(idleRounds, Long.MAX_VALUE);
+        }
+        return entry;
+    }
+
+    /**
+     * Removes and returns the front entry, waiting up to a timeout while the queue is empty.
+     *
+     * @param timeout The longest time to wait.
+     * @param unit    The unit of the timeout.
+     * @return The front entry, or {@code null} if the timeout expired first.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        T entry;
+        for (int idleRounds = 0; (entry = poll()) == null; idleRounds++) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return null;
+            }
+            idle(idleRounds, remaining);
+        }
+        return entry;
+    }
+
+    /**
+     * Waits before the next attempt: spins at first, then parks for intervals that double
+     * up to a millisecond.
+     *
+     * @param idleRounds The number of failed attempts so far.
+     * @param maxNanos   The longest time to park.
+     * @throws InterruptedException if the thread is interrupted.
+     */
+    private static void idle(int idleRounds, long maxNanos) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        if (idleRounds < SPIN_LIMIT) {
+            Thread.onSpinWait();
+        } else {
+            int shift = Math.min(idleRounds - SPIN_LIMIT, 20);
+            LockSupport.parkNanos(Math.min(Math.min(1_000L << shift, MAX_PARK_NANOS), maxNanos));
+        }
+    }
+
+    /**
+     * Adds an entry to the back of the queue.
+     *
+     * @param newEntry The entry to add.
+     * @throws IllegalStateException if the queue is full.
+     * @throws NullPointerException if the entry is {@code null}.
+     */
+    @Override
+    public void enqueue(T newEntry) {
+        if (!offer(newEntry)) {
+            throw new IllegalStateException("Queue is full.");
+        }
+    }
+
+    /**
+     * Removes and returns the front entry of the queue.
+     *
+     * @return The front entry of the queue.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    @Override
+    public T dequeue() {
+        T entry = poll();
+        if (entry == null) {
+            throw new NoSuchElementException("Queue is empty.");
+        }
+        return entry;
+    }
+
+    /**
+     * Retrieves the front entry without removing it. Another thread may remove it at once.
+     *
+     * @return The front entry of the queue.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    @Override
+    public T peek() {
+        while (true) {
+            long position = dequeuePosition.get();
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                if (dequeuePosition.get() == position) {
+                    throw new NoSuchElementException("Queue is empty.");
+                }
+                continue; // A consumer moved on; look again
+            }
+            @SuppressWarnings("unchecked")
+            T entry = (T) buffer[index];
+            if (entry != null && dequeuePosition.get() == position) {
+                return entry;
+            }
+        }
+    }
+
+    /**
+     * Checks whether the queue is empty.
+     *
+     * @return {@code true} if the queue held no entries when checked.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Retrieves the number of entries in the queue.
+     *
+     * @return The number of entries when checked, between 0 and the capacity.
+     */
+    public int size() {
+        while (true) {
+            long dequeued = dequeuePosition.get();
+            long enqueued = enqueuePosition.get();
+            if (dequeuePosition.get() == dequeued) { // Both counters were read at a consistent point
+                return (int) Math.max(0, Math.min(enqueued - dequeued, capacity()));
+            }
+        }
+    }
+
+    /**
+     * Retrieves the maximum number of entries.
+     *
+     * @return The capacity of the queue.
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Padding that fills the cache line before a counter. Fields of a superclass are laid
+     * out before those of its subclasses, so the padding cannot be reordered away.
+     */
+    @SuppressWarnings("unused")
+    private static class LeftPadding {
+        private long p01, p02, p03, p04, p05, p06, p07, p08;
+    }
+
+    /**
+     * The counter itself, between two cache lines of padding.
+     */
+    private static class CounterValue extends LeftPadding {
+        private volatile long value; // Accessed through VALUE
+    }
+
+    /**
+     * A position counter alone on its cache line.
+     */
+    @SuppressWarnings("unused")
+    private static final class PaddedCounter extends CounterValue {
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(CounterValue.class, "value", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private long p11, p12, p13, p14, p15, p16, p17, p18;
+
+        /**
+         * Reads the counter.
+         *
+         * @return The current value.
+         */
+        long get() {
+            return (long) VALUE.getVolatile(this);
+        }
+
+        /**
+         * Sets the counter to a new value if it still has the expected value.
+         *
+         * @param expected The expected value.
+         * @param newValue The new value.
+         * @return {@code true} if the counter was updated.
+         */
+        boolean compareAndSet(long expected, long newValue) {
+            return VALUE.compareAndSet(this, expected, newValue);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package StackAndQueuePackage;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A queue of primitive {@code int} values in a circular array that doubles when it is
+ * full. It has the operations of {@link QueueInterface} without boxing, so a traversal
+ * can keep node indexes on it without allocating. As in {@link ArrayQueue}, the
+ * capacity is a power of two.
+ */
+public class IntQueue {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] values; // Circular array of values
+    private int front;    // Index of the front value
+    private int size;     // Number of values in the queue
+
+    /**
+     * Constructs an empty IntQueue with the default capacity.
+     */
+    public IntQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty IntQueue.
+     *
+     * @param initialCapacity The number of values the queue holds before it grows; it is
+     *                        rounded up to a power of two.
+     * @throws IllegalArgumentException if the capacity is negative.
+     */
+    public IntQueue(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + initialCapacity);
+        }
+        values = new int[ArrayQueue.capacityFor(initialCapacity)];
+    }
+
+    /**
+     * Adds a value to the back of the queue, doubling the array if it is full.
+     *
+     * @param value The value to be added.
+     * @throws IllegalStateException if the queue already holds the largest possible array.
+     */
+    public void enqueue(int value) {
+        if (size == values.length) {
+            grow();
+        }
+        values[(front + size) & (values.length - 1)] = value;
+        size++;
+    }
+
+    /**
+     * Removes and returns the front value of the queue.
+     *
+     * @return The front value of the queue.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    public int dequeue() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Queue is empty.");
+        }
+        int value = values[front];
+        front = (front + 1) & (values.length - 1);
+        size--;
+        return value;
+    }
+
+    /**
+     * Retrieves the front value without removing it.
+     *
+     * @return The front value of the queue.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    public int peek() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Queue is empty.");
+        }
+        return values[front];
+    }
+
+    /**
+     * Checks whether the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Retrieves the number of values in the queue.
+     *
+     * @return The number of values.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all values from the queue. The array keeps its capacity.
+     */
+    public void clear() {
+        front = 0;
+        size = 0;
+    }
+
+    /**
+     * Doubles the array, moving the values so that the front value is at index 0.
+     *
+     * @throws IllegalStateException if the queue already holds the largest possible array.
+     */
+    private void grow() {
+        if (values.length == ArrayQueue.MAX_CAPACITY) {
+            throw new IllegalStateException("Queue is full.");
+        }
+        int capacity = values.length;
+        int[] larger = Arrays.copyOfRange(values, front, front + 2 * capacity); // Front to the end of the array
+        System.arraycopy(values, 0, larger, capacity - front, front);          // Then the values that wrapped around
+        values = larger;
+        front = 0;
+    }
+}
@@ -0,0 +1,100 @@
+package StackAndQueuePackage;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/**
+ * A stack of primitive {@code int} values in an array that doubles when it is full. It
+ * has the operations of {@link StackInterface} without boxing, so a traversal can keep
+ * node indexes or character positions on it without allocating.
+ */
+public class IntStack {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] values; // Values from bottom to top
+    private int size;     // Number of values in the stack
+
+    /**
+     * Constructs an empty IntStack with the default capacity.
+     */
+    public IntStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty IntStack.
+     *
+     * @param initialCapacity The number of values the stack holds before it grows.
+     * @throws IllegalArgumentException if the capacity is negative.
+     */
+    public IntStack(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + initialCapacity);
+        }
+        values = new int[Math.max(initialCapacity, 1)];
+    }
+
+    /**
+     * Pushes a value onto the top of the stack, doubling the array if it is full.
+     *
+     * @param value The value to be added to the stack.
+     * @throws IllegalStateException if the stack already holds the largest possible array.
+     */
+    public void push(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, ArrayStack.newCapacity(size));
+        }
+        values[size++] = value;
+    }
+
+    /**
+     * Removes and returns the top value of the stack.
+     *
+     * @return The top value of the stack.
+     * @throws EmptyStackException if the stack is empty.
+     */
+    public int pop() {
+        if (isEmpty()) {
+            throw new EmptyStackException();
+        }
+        return values[--size];
+    }
+
+    /**
+     * Retrieves the top value without removing it.
+     *
+     * @return The top value of the stack.
+     * @throws EmptyStackException if the stack is empty.
+     */
+    public int peek() {
+        if (isEmpty()) {
+            throw new EmptyStackException();
+        }
+        return values[size - 1];
+    }
+
+    /**
+     * Checks whether the stack is empty.
+     *
+     * @return {@code true} if the stack is empty, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Retrieves the number of values in the stack.
+     *
+     * @return The number of values.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all values from the stack. The array keeps its capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+}
@@ -8,7 +8,7 @@ import java.util.NoSuchElementException;
  *
  * @param <T> The type of elements stored in the queue.
  */
-public class LinkedQueue<T> {
+public class LinkedQueue<T> implements QueueInterface<T> {
     private Node<T> front; // Front of the queue
     private Node<T> rear;  // Rear of the queue
 
@@ -8,7 +8,7 @@ import java.util.EmptyStackException;
  *
  * @param <T> The type of elements stored in the stack.
  */
-public class LinkedStack<T> {
+public class LinkedStack<T> implements StackInterface<T> {
     private Node<T> topNode; // Top node in the stack
 
     /**
@@ -34,6 +34,7 @@ public interface QueueInterface<T> {
     /**
      * Checks whether the queue is empty.
      *
-     * @return {@code true} if the queue is empty; {@code false} otherwis
+     * @return {@code true} if the queue is empty; {@code false} otherwise.
+     */
     boolean isEmpty();
 }
@@ -0,0 +1,237 @@
+package TreePackage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A self-balancing Binary Search Tree (AVL tree). After every insertion the heights of
+ * the left and right subtrees of each node differ by at most one, so the height of the
+ * tree stays below about 1.44 * log2(n) even when entries are added in sorted order.
+ *
+ * @param <T> The type of elements stored in the tree. Must implement Comparable.
+ */
+public class AVLTree<T extends Comparable<? super T>> extends BinarySearchTree<T> {
+    private boolean entryAdded;         // Set by insert() when it creates a new node
+    private BinaryNode<T> insertedNode; // Set by insert() to the node holding the entry
+
+    /**
+     * Constructs an empty AVL tree.
+     */
+    public AVLTree() {
+        super();
+    }
+
+    /**
+     * Adds a new entry to the tree unless an equal entry is already present, and
+     * rebalances the nodes on the insertion path.
+     *
+     * @param entry The entry to add.
+     * @return {@code true} if the entry was added, {@code false} if it was already present.
+     */
+    @Override
+    public boolean addIfAbsent(T entry) {
+        entryAdded = false;
+        setRootNode(insert(getRootNode(), entry));
+        insertedNode = null;
+        return entryAdded;
+    }
+
+    /**
+     * Records occurrences of an entry, adding the entry first if it is not present, and
+     * rebalances the nodes on the insertion path.
+     *
+     * @param entry       The entry whose occurrences are recorded.
+     * @param occurrences The number of occurrences to record.
+     * @return The number of occurrences recorded for the entry, including these.
+     */
+    @Override
+    public int addOccurrences(T entry, int occurrences) {
+        setRootNode(insert(getRootNode(), entry));
+        BinaryNode<T> node = insertedNode;
+        insertedNode = null;
+        return node.addToCount(occurrences);
+    }
+
+    /**
+     * Sets the root of the tree. Nodes built by an AVL tree are attached as they are. Any
+     * other structure, such as plain {@link BinaryNode}s passed to {@link #initializeRoot},
+     * is copied instead: its entries and occurrence counts are read in order and rebuilt
+     * as a perfectly balanced tree of AVL nodes, so the cached heights stay valid. The
+     * given nodes are not modified.
+     *
+     * @param rootNode The root node of the structure to attach, or {@code null} to empty the tree.
+     */
+    @Override
+    public void setRootNode(BinaryNode<T> rootNode) {
+        if (rootNode == null || rootNode instanceof AVLNode) {
+            super.setRootNode(rootNode);
+            return;
+        }
+        List<EntryCount<T>> entries = new ArrayList<>();
+        Deque<BinaryNode<T>> nodeStack = new ArrayDeque<>();
+        BinaryNode<T> currentNode = rootNode;
+        while (currentNode != null || !nodeStack.isEmpty()) {
+            while (currentNode != null) {
+                nodeStack.push(currentNode);
+                currentNode = currentNode.getLeftChild();
+            }
+            currentNode = nodeStack.pop();
+            entries.add(new EntryCount<>(currentNode.getData(), currentNode.getCount()));
+            currentNode = currentNode.getRightChild();
+        }
+        super.setRootNode(null);
+        addAllOccurrences(entries);
+    }
+
+    /**
+     * Creates an AVL node, which caches the height of its subtree.
+     *
+     * @param entry The entry.
+     * @return A new leaf node holding the entry.
+     */
+    @Override
+    protected BinaryNode<T> newNode(T entry) {
+        return new AVLNode<>(entry);
+    }
+
+    /**
+     * Recomputes the cached height of a node relinked by a bulk operation. The bulk
+     * operations build perfectly balanced trees, which satisfy the AVL condition.
+     *
+     * @param node The node whose children were linked.
+     */
+    @Override
+    protected void subtreeLinked(BinaryNode<T> node) {
+        ((AVLNode<T>) node).updateHeight();
+    }
+
+    /**
+     * Retrieves the height of the tree from the height cached in the root node.
+     *
+     * @return The height of the tree, or 0 if the tree is empty.
+     */
+    @Override
+    public int getHeight() {
+        return heightOf(getRootNode());
+    }
+
+    /**
+     * A helper method to recursively add a new entry and rebalance on the way back up.
+     * The recursion depth is bounded by the height of the tree, which is logarithmic.
+     *
+     * @param rootNode The root node of the subtree.
+     * @param entry    The entry to add.
+     * @return The root node of the rebalanced subtree.
+     */
+    private BinaryNode<T> insert(BinaryNode<T> rootNode, T entry) {
+        if (rootNode == null) {
+            entryAdded = true;
+            insertedNode = newNode(entry);
+            modCount++;
+            return insertedNode;
+        }
+        int comparison = entry.compareTo(rootNode.getData());
+        if (comparison < 0) {
+            rootNode.setLeftChild(insert(rootNode.getLeftChild(), entry));
+        } else if (comparison > 0) {
+            rootNode.setRightChild(insert(rootNode.getRightChild(), entry));
+        } else {
+            insertedNode = rootNode;
+            return rootNode; // Duplicate; nothing changed below this node
+        }
+        return rebalance((AVLNode<T>) rootNode);
+    }
+
+    /**
+     * Restores the AVL balance condition at a node whose subtrees may differ in height by two.
+     *
+     * @param node The node to rebalance.
+     * @return The new root of the subtree.
+     */
+    private AVLNode<T> rebalance(AVLNode<T> node) {
+        int balance = heightOf(node.getLeftChild()) - heightOf(node.getRightChild());
+        if (balance > 1) {
+            BinaryNode<T> left = node.getLeftChild();
+            if (heightOf(left.getLeftChild()) < heightOf(left.getRightChild())) {
+                node.setLeftChild(rotateLeft((AVLNode<T>) left)); // Left-right case
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            BinaryNode<T> right = node.getRightChild();
+            if (heightOf(right.getRightChild()) < heightOf(right.getLeftChild())) {
+                node.setRightChild(rotateRight((AVLNode<T>) right)); // Right-left case
+            }
+            return rotateLeft(node);
+        }
+        node.updateHeight();
+        return node;
+    }
+
+    /**
+     * Rotates a subtree to the right, making the left child the new root.
+     *
+     * @param node The root of the subtree.
+     * @return The new root of the subtree.
+     */
+    private AVLNode<T> rotateRight(AVLNode<T> node) {
+        AVLNode<T> newRoot = (AVLNode<T>) node.getLeftChild();
+        node.setLeftChild(newRoot.getRightChild());
+        node.updateHeight();
+        newRoot.setRightChild(node);
+        newRoot.updateHeight();
+        return newRoot;
+    }
+
+    /**
+     * Rotates a subtree to the left, making the right child the new root.
+     *
+     * @param node The root of the subtree.
+     * @return The new root of the subtree.
+     */
+    private AVLNode<T> rotateLeft(AVLNode<T> node) {
+        AVLNode<T> newRoot = (AVLNode<T>) node.getRightChild();
+        node.setRightChild(newRoot.getLeftChild());
+        node.updateHeight();
+        newRoot.setLeftChild(node);
+        newRoot.updateHeight();
+        return newRoot;
+    }
+
+    /**
+     * Retrieves the cached height of a node.
+     *
+     * @param node The node, possibly {@code null}.
+     * @return The height of the node, or 0 for {@code null}.
+     */
+    private static int heightOf(BinaryNode<?> node) {
+        return node == null ? 0 : ((AVLNode<?>) node).height;
+    }
+
+    /**
+     * A binary node that caches the height of the subtree rooted at it.
+     *
+     * @param <T> The type of data stored in the node.
+     */
+    private static class AVLNode<T> extends BinaryNode<T> {
+        private int height; // Height of the subtree rooted at this node
+
+        /**
+         * Constructs a leaf AVLNode with the given data.
+         *
+         * @param data The data to store in the node.
+         */
+        AVLNode(T data) {
+            super(data);
+            this.height = 1;
+        }
+
+        /**
+         * Recomputes the cached height from the heights of the children.
+         */
+        void updateHeight() {
+            height = 1 + Math.max(heightOf(getLeftChild()), heightOf(getRightChild()));
+        }
+    }
+}
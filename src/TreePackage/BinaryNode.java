@@ -9,6 +9,7 @@ public class BinaryNode<T> {
     private T data;                     // Data stored in the node
     private BinaryNode<T> leftChild;    // Reference to the left child
     private BinaryNode<T> rightChild;   // Reference to the right child
+    private int count;                  // Number of occurrences recorded for the data
 
     /**
      * Constructs a BinaryNode with the given data.
@@ -52,6 +53,26 @@ public class BinaryNode<T> {
         this.data = data;
     }
 
+    /**
+     * Retrieves the number of occurrences recorded for the data in this node.
+     *
+     * @return The occurrence count, initially 0.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Records further occurrences of the data in this node.
+     *
+     * @param occurrences The number of occurrences to add to the count.
+     * @return The updated occurrence count.
+     */
+    public int addToCount(int occurrences) {
+        count += occurrences;
+        return count;
+    }
+
     /**
      * Retrieves the left child of the node.
      *
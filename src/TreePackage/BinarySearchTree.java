@@ -1,7 +1,17 @@
 package TreePackage;
 
-import java.util.Queue;
-import java.util.LinkedList;
+import StackAndQueuePackage.ArrayQueue;
+import StackAndQueuePackage.QueueInterface;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * A generic Binary Search Tree implementation that extends the BinaryTree class
@@ -11,6 +21,7 @@ import java.util.LinkedList;
  * @param <T> The type of elements stored in the tree. Must implement Comparable.
  */
 public class BinarySearchTree<T extends Comparable<? super T>> extends BinaryTree<T> implements SearchTreeInterface<T> {
+    private static final int SMALL_BATCH_RATIO = 16; // Trees this many times larger than a batch take it one entry at a time
 
     /**
      * Constructs an empty Binary Search Tree.
@@ -19,6 +30,39 @@ public class BinarySearchTree<T extends Comparable<? super T>> extends BinaryTre
         super();
     }
 
+    /**
+     * Builds a perfectly balanced tree from entries in ascending order in O(n) time: the
+     * middle entry becomes the root and each half becomes a subtree.
+     *
+     * @param sortedEntries The entries, in strictly ascending order.
+     * @param <T>           The type of the entries.
+     * @return A new balanced tree holding the entries.
+     * @throws IllegalArgumentException if the entries are not strictly ascending.
+     */
+    public static <T extends Comparable<? super T>> BinarySearchTree<T> fromSorted(List<? extends T> sortedEntries) {
+        for (int i = 1; i < sortedEntries.size(); i++) {
+            if (sortedEntries.get(i - 1).compareTo(sortedEntries.get(i)) >= 0) {
+                throw new IllegalArgumentException("Entries must be strictly ascending at index " + i);
+            }
+        }
+        BinarySearchTree<T> tree = new BinarySearchTree<>();
+        tree.bulkAdd(sortedEntries, null);
+        return tree;
+    }
+
+    /**
+     * Returns a read-only view of a tree. The view shares the tree's nodes, so it is
+     * created in constant time; methods that would change it throw
+     * {@link UnsupportedOperationException}.
+     *
+     * @param tree The tree to view; it should not be changed while the view is in use.
+     * @param <T>  The type of the entries.
+     * @return A read-only tree holding the same entries and counts.
+     */
+    public static <T extends Comparable<? super T>> BinarySearchTree<T> unmodifiable(BinarySearchTree<T> tree) {
+        return (tree instanceof UnmodifiableSearchTree) ? tree : new UnmodifiableSearchTree<>(tree);
+    }
+
     /**
      * Checks if the tree contains a specific entry.
      *
@@ -36,57 +80,423 @@ public class BinarySearchTree<T extends Comparable<? super T>> extends BinaryTre
      * @return The entry if found, or {@code null} if not found.
      */
     public T getEntry(T entry) {
-        return findEntry(getRootNode(), entry);
+        BinaryNode<T> node = findNode(getRootNode(), entry);
+        return (node == null) ? null : node.getData();
     }
 
     /**
-     * A helper method to recursively find an entry in the tree.
+     * A helper method to find the node holding an entry. The search walks down the tree in a
+     * loop, so its stack usage does not depend on the height of the tree.
      *
      * @param rootNode The root node of the subtree to search.
      * @param entry    The entry to find.
-     * @return The entry if found, or {@code null} if not found.
+     * @return The node holding the entry if found, or {@code null} if not found.
      */
-    private T findEntry(BinaryNode<T> rootNode, T entry) {
-        if (rootNode == null) {
-            return null;
-        }
-        int comparison = entry.compareTo(rootNode.getData());
-        if (comparison == 0) {
-            return rootNode.getData();
-        } else if (comparison < 0) {
-            return findEntry(rootNode.getLeftChild(), entry);
-        } else {
-            return findEntry(rootNode.getRightChild(), entry);
+    private BinaryNode<T> findNode(BinaryNode<T> rootNode, T entry) {
+        BinaryNode<T> currentNode = rootNode;
+        while (currentNode != null) {
+            int comparison = entry.compareTo(currentNode.getData());
+            if (comparison == 0) {
+                return currentNode;
+            }
+            currentNode = (comparison < 0) ? currentNode.getLeftChild() : currentNode.getRightChild();
         }
+        return null;
     }
 
     /**
      * Adds a new entry to the tree while maintaining the binary search tree properties.
+     * Entries that are already in the tree are ignored.
      *
      * @param entry The entry to add.
      */
     public void add(T entry) {
-        setRootNode(addEntry(getRootNode(), entry));
+        addIfAbsent(entry);
+    }
+
+    /**
+     * Adds a new entry to the tree unless an equal entry is already present.
+     * The lookup and the insertion share a single walk down the tree.
+     *
+     * @param entry The entry to add.
+     * @return {@code true} if the entry was added, {@code false} if it was already present.
+     */
+    public boolean addIfAbsent(T entry) {
+        if (getRootNode() == null) {
+            setRootNode(newLeaf(entry));
+            return true;
+        }
+        return addEntry(getRootNode(), entry);
     }
 
     /**
-     * A helper method to recursively add a new entry to the tree.
+     * A helper method to add a new entry below a non-empty subtree. The insertion point is
+     * found with a loop, so its stack usage does not depend on the height of the tree.
      *
-     * @param rootNode The root node of the subtree.
+     * @param rootNode The root node of the subtree; must not be {@code null}.
      * @param entry    The entry to add.
-     * @return The updated root node of the subtree.
+     * @return {@code true} if the entry was added, {@code false} if it was already present.
+     */
+    private boolean addEntry(BinaryNode<T> rootNode, T entry) {
+        BinaryNode<T> currentNode = rootNode;
+        while (true) {
+            int comparison = entry.compareTo(currentNode.getData());
+            if (comparison == 0) {
+                return false;
+            } else if (comparison < 0) {
+                if (currentNode.getLeftChild() == null) {
+                    currentNode.setLeftChild(newLeaf(entry));
+                    return true;
+                }
+                currentNode = currentNode.getLeftChild();
+            } else {
+                if (currentNode.getRightChild() == null) {
+                    currentNode.setRightChild(newLeaf(entry));
+                    return true;
+                }
+                currentNode = currentNode.getRightChild();
+            }
+        }
+    }
+
+    /**
+     * Records occurrences of an entry, adding the entry first if it is not present.
+     * The lookup and the insertion share a single walk down the tree.
+     *
+     * @param entry       The entry whose occurrences are recorded.
+     * @param occurrences The number of occurrences to record.
+     * @return The number of occurrences recorded for the entry, including these.
+     */
+    public int addOccurrences(T entry, int occurrences) {
+        if (getRootNode() == null) {
+            setRootNode(newLeaf(entry));
+            return getRootNode().addToCount(occurrences);
+        }
+        BinaryNode<T> currentNode = getRootNode();
+        while (true) {
+            int comparison = entry.compareTo(currentNode.getData());
+            if (comparison == 0) {
+                return currentNode.addToCount(occurrences);
+            } else if (comparison < 0) {
+                if (currentNode.getLeftChild() == null) {
+                    currentNode.setLeftChild(newLeaf(entry));
+                    return currentNode.getLeftChild().addToCount(occurrences);
+                }
+                currentNode = currentNode.getLeftChild();
+            } else {
+                if (currentNode.getRightChild() == null) {
+                    currentNode.setRightChild(newLeaf(entry));
+                    return currentNode.getRightChild().addToCount(occurrences);
+                }
+                currentNode = currentNode.getRightChild();
+            }
+        }
+    }
+
+    /**
+     * Adds a batch of entries, ignoring those already in the tree, and leaves the tree
+     * perfectly balanced unless the batch is small. The batch is sorted unless it already is, then merged with the
+     * entries of the tree in one in-order pass, and the nodes are relinked around the
+     * middle entry. This takes O(n + m) time for n entries in the tree and m sorted
+     * entries in the batch, instead of O(m log n) for one walk per entry. Existing nodes
+     * are reused, so their occurrence counts are kept. A batch much smaller than the tree
+     * is instead added one entry at a time, which is cheaper and leaves the shape of the
+     * tree as single additions would.
+     *
+     * @param entries The entries to add, in any order; duplicates are ignored.
+     */
+    @Override
+    public void addAll(Collection<? extends T> entries) {
+        if (isSmallBatch(entries.size())) {
+            for (T entry : entries) {
+                addIfAbsent(entry);
+            }
+            return;
+        }
+        List<T> batch = new ArrayList<>(entries);
+        if (!isSorted(batch, Comparator.naturalOrder())) {
+            batch.sort(null);
+        }
+        List<T> distinct = new ArrayList<>(batch.size());
+        for (T entry : batch) {
+            if (distinct.isEmpty() || distinct.get(distinct.size() - 1).compareTo(entry) != 0) {
+                distinct.add(entry);
+            }
+        }
+        bulkAdd(distinct, null);
+    }
+
+    /**
+     * Records a batch of occurrence counts, adding the entries that are not present. Works
+     * like {@link #addAll(Collection)}: a batch that is merged leaves the tree perfectly
+     * balanced, and a small one is added one entry at a time. The counts of equal entries
+     * are summed.
+     *
+     * @param entries The entries and the number of occurrences to record for each, in any order.
+     */
+    @Override
+    public void addAllOccurrences(Collection<EntryCount<T>> entries) {
+        if (isSmallBatch(entries.size())) {
+            for (EntryCount<T> entryCount : entries) {
+                addOccurrences(entryCount.getEntry(), entryCount.getCount());
+            }
+            return;
+        }
+        List<EntryCount<T>> batch = new ArrayList<>(entries);
+        Comparator<EntryCount<T>> byEntry = Comparator.comparing(EntryCount::getEntry);
+        if (!isSorted(batch, byEntry)) {
+            batch.sort(byEntry);
+        }
+        List<T> distinct = new ArrayList<>(batch.size());
+        int[] occurrences = new int[batch.size()];
+        for (EntryCount<T> entryCount : batch) {
+            int last = distinct.size() - 1;
+            if (last >= 0 && distinct.get(last).compareTo(entryCount.getEntry()) == 0) {
+                occurrences[last] += entryCount.getCount();
+            } else {
+                distinct.add(entryCount.getEntry());
+                occurrences[last + 1] = entryCount.getCount();
+            }
+        }
+        bulkAdd(distinct, occurrences);
+    }
+
+    /**
+     * Adds every entry of another tree, summing the occurrence counts of entries found in
+     * both, and leaves this tree perfectly balanced. The two in-order sequences are merged
+     * in one pass, so this takes O(n + m) time for trees of n and m entries, instead of
+     * O(m log n) for adding the entries of the other tree one at a time.
+     *
+     * @param other The tree to add; it is not modified.
+     */
+    public void unionWith(BinarySearchTree<T> other) {
+        SortedRun<T> run = SortedRun.of(other);
+        bulkAdd(run.entries(), run.counts());
+    }
+
+    /**
+     * Adds every entry of many trees, summing occurrence counts, and leaves this tree
+     * perfectly balanced. The trees are flattened and merged pairwise in a fork-join
+     * reduction, so the merges of independent pairs run in parallel; the balanced tree is
+     * built once, from the final merged run. For k trees of N entries in total, this takes
+     * O(N log k) work.
+     *
+     * @param others The trees to add; they must not be modified while the union runs.
+     * @param pool   The pool to run the reduction on.
+     */
+    public void unionWithAll(List<? extends BinarySearchTree<T>> others, ForkJoinPool pool) {
+        if (others.isEmpty()) {
+            return;
+        }
+        SortedRun<T> run = pool.invoke(new UnionTask<>(others, 0, others.size()));
+        bulkAdd(run.entries(), run.counts());
+    }
+
+    /**
+     * Checks whether a batch is small enough, compared with the tree, to be added one entry
+     * at a time. The nodes are counted only up to the threshold, so the check costs no more
+     * than adding the batch.
+     *
+     * @param batchSize The number of entries in the batch.
+     * @return {@code true} if the tree has more than {@link #SMALL_BATCH_RATIO} times as
+     *         many nodes as the batch has entries.
+     */
+    private boolean isSmallBatch(int batchSize) {
+        long limit = (long) SMALL_BATCH_RATIO * batchSize;
+        long counted = 0;
+        Deque<BinaryNode<T>> nodeStack = new ArrayDeque<>();
+        if (getRootNode() != null) {
+            nodeStack.push(getRootNode());
+        }
+        while (!nodeStack.isEmpty()) {
+            if (++counted > limit) {
+                return true;
+            }
+            BinaryNode<T> node = nodeStack.pop();
+            if (node.getLeftChild() != null) {
+                nodeStack.push(node.getLeftChild());
+            }
+            if (node.getRightChild() != null) {
+                nodeStack.push(node.getRightChild());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a list is in ascending order.
+     *
+     * @param list       The list to check.
+     * @param comparator The order.
+     * @param <E>        The type of the elements.
+     * @return {@code true} if no element is greater than the next one.
+     */
+    private static <E> boolean isSorted(List<E> list, Comparator<? super E> comparator) {
+        for (int i = 1; i < list.size(); i++) {
+            if (comparator.compare(list.get(i - 1), list.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Merges strictly ascending entries with the entries of the tree in one in-order pass,
+     * then relinks all nodes into a perfectly balanced tree.
+     *
+     * @param sortedEntries The entries to add, in strictly ascending order.
+     * @param occurrences   The number of occurrences to record for each entry, or
+     *                      {@code null} to record none.
+     */
+    private void bulkAdd(List<? extends T> sortedEntries, int[] occurrences) {
+        List<BinaryNode<T>> nodes = new ArrayList<>(sortedEntries.size());
+        Deque<BinaryNode<T>> nodeStack = new ArrayDeque<>();
+        BinaryNode<T> currentNode = getRootNode();
+        int next = 0; // Index of the next batch entry to merge
+        while (currentNode != null || !nodeStack.isEmpty()) {
+            while (currentNode != null) {
+                nodeStack.push(currentNode);
+                currentNode = currentNode.getLeftChild();
+            }
+            BinaryNode<T> node = nodeStack.pop();
+            currentNode = node.getRightChild();
+
+            // Batch entries that sort before this node become new nodes
+            while (next < sortedEntries.size() && sortedEntries.get(next).compareTo(node.getData()) < 0) {
+                nodes.add(createNode(sortedEntries.get(next), occurrences, next));
+                next++;
+            }
+            if (next < sortedEntries.size() && sortedEntries.get(next).compareTo(node.getData()) == 0) {
+                if (occurrences != null) {
+                    node.addToCount(occurrences[next]);
+                }
+                next++;
+            }
+            nodes.add(node);
+        }
+        while (next < sortedEntries.size()) {
+            nodes.add(createNode(sortedEntries.get(next), occurrences, next));
+            next++;
+        }
+        modCount++; // Every node is relinked
+        setRootNode(linkBalanced(nodes, 0, nodes.size() - 1));
+    }
+
+    /**
+     * Creates a node for a batch entry.
+     *
+     * @param entry       The entry.
+     * @param occurrences The occurrence counts of the batch, or {@code null}.
+     * @param index       The index of the entry in the batch.
+     * @return The new node.
      */
-    private BinaryNode<T> addEntry(BinaryNode<T> rootNode, T entry) {
-        if (rootNode == null) {
-            return new BinaryNode<>(entry);
+    private BinaryNode<T> createNode(T entry, int[] occurrences, int index) {
+        BinaryNode<T> node = newNode(entry);
+        if (occurrences != null) {
+            node.addToCount(occurrences[index]);
         }
-        int comparison = entry.compareTo(rootNode.getData());
-        if (comparison < 0) {
-            rootNode.setLeftChild(addEntry(rootNode.getLeftChild(), entry));
-        } else if (comparison > 0) {
-            rootNode.setRightChild(addEntry(rootNode.getRightChild(), entry));
+        return node;
+    }
+
+    /**
+     * Links nodes in ascending order into a perfectly balanced subtree. The recursion depth
+     * is the height of the result, which is logarithmic.
+     *
+     * @param nodes The nodes, in ascending order of their entries.
+     * @param first The index of the first node of the subtree.
+     * @param last  The index of the last node of the subtree.
+     * @return The root of the subtree, or {@code null} if the range is empty.
+     */
+    private BinaryNode<T> linkBalanced(List<BinaryNode<T>> nodes, int first, int last) {
+        if (first > last) {
+            return null;
+        }
+        int mid = (first + last) >>> 1;
+        BinaryNode<T> node = nodes.get(mid);
+        node.setLeftChild(linkBalanced(nodes, first, mid - 1));
+        node.setRightChild(linkBalanced(nodes, mid + 1, last));
+        subtreeLinked(node);
+        return node;
+    }
+
+    /**
+     * Creates a node for an entry that is about to be linked in as a leaf, and records the
+     * structural change so that traversals in progress fail fast.
+     *
+     * @param entry The entry.
+     * @return A new leaf node holding the entry.
+     */
+    private BinaryNode<T> newLeaf(T entry) {
+        modCount++;
+        return newNode(entry);
+    }
+
+    /**
+     * Creates the node that holds a new entry. Subclasses that keep extra data in their
+     * nodes override this to create their own node type.
+     *
+     * @param entry The entry.
+     * @return A new leaf node holding the entry.
+     */
+    protected BinaryNode<T> newNode(T entry) {
+        return new BinaryNode<>(entry);
+    }
+
+    /**
+     * Called by the bulk operations after the children of a node were relinked, children
+     * first. Subclasses that cache data about subtrees override this to recompute it.
+     *
+     * @param node The node whose children were linked.
+     */
+    protected void subtreeLinked(BinaryNode<T> node) {
+    }
+
+    /**
+     * Retrieves the characteristics of the spliterator over the entries. An in-order
+     * traversal of a search tree visits distinct, non-null entries in ascending order.
+     *
+     * @return The characteristics, as defined by {@link Spliterator}.
+     */
+    @Override
+    protected int inorderCharacteristics() {
+        return Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL;
+    }
+
+    /**
+     * Retrieves the number of occurrences recorded for an entry.
+     *
+     * @param entry The entry to look up.
+     * @return The occurrence count, or 0 if the entry is absent or none were recorded.
+     */
+    public int getOccurrenceCount(T entry) {
+        BinaryNode<T> node = findNode(getRootNode(), entry);
+        return (node == null) ? 0 : node.getCount();
+    }
+
+    /**
+     * Finds the most frequent entries with a single in-order walk, keeping the best k
+     * entries seen so far in a bounded heap. This takes O(n log k) time and O(k + h) extra
+     * space for a tree of n nodes and height h.
+     *
+     * @param k The maximum number of entries to return.
+     * @return The at most k entries with the highest occurrence counts, most frequent first;
+     *         entries with equal counts are in ascending order.
+     * @throws IllegalArgumentException if {@code k} is negative.
+     */
+    public List<EntryCount<T>> getMostFrequent(int k) {
+        TopKCollector<T> collector = new TopKCollector<>(k);
+        Deque<BinaryNode<T>> nodeStack = new ArrayDeque<>();
+        BinaryNode<T> currentNode = getRootNode();
+        while (currentNode != null || !nodeStack.isEmpty()) {
+            while (currentNode != null) {
+                nodeStack.push(currentNode);
+                currentNode = currentNode.getLeftChild();
+            }
+            BinaryNode<T> node = nodeStack.pop();
+            collector.offer(node.getData(), node.getCount());
+            currentNode = node.getRightChild();
         }
-        return rootNode;
+        return collector.result();
     }
 
     /**
@@ -109,22 +519,65 @@ public class BinarySearchTree<T extends Comparable<? super T>> extends BinaryTre
             return;
         }
 
-        Queue<BinaryNode<T>> queue = new LinkedList<>();
-        queue.add(getRootNode());
+        QueueInterface<BinaryNode<T>> queue = new ArrayQueue<>();
+        queue.enqueue(getRootNode());
 
         StringBuilder result = new StringBuilder();
         while (!queue.isEmpty()) {
-            BinaryNode<T> current = queue.poll();
+            BinaryNode<T> current = queue.dequeue();
             result.append(current.getData()).append(" ");
 
             if (current.getLeftChild() != null) {
-                queue.add(current.getLeftChild());
+                queue.enqueue(current.getLeftChild());
             }
             if (current.getRightChild() != null) {
-                queue.add(current.getRightChild());
+                queue.enqueue(current.getRightChild());
             }
         }
 
         System.out.println(result.toString().trim());
     }
+
+    /**
+     * A fork-join task that flattens a range of trees into one sorted run.
+     *
+     * @param <T> The type of the entries.
+     */
+    private static class UnionTask<T extends Comparable<? super T>> extends RecursiveTask<SortedRun<T>> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<? extends BinarySearchTree<T>> trees;
+        private final int start;
+        private final int end;
+
+        /**
+         * Creates a task for the trees {@code trees[start..end)}.
+         *
+         * @param trees The list of trees.
+         * @param start The index of the first tree.
+         * @param end   The index one past the last tree.
+         */
+        UnionTask(List<? extends BinarySearchTree<T>> trees, int start, int end) {
+            this.trees = trees;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Flattens a single tree directly, or splits the range in two and merges the halves.
+         *
+         * @return The union of the trees in the range, as a sorted run.
+         */
+        @Override
+        protected SortedRun<T> compute() {
+            if (end - start == 1) {
+                return SortedRun.of(trees.get(start));
+            }
+            int mid = (start + end) >>> 1;
+            UnionTask<T> left = new UnionTask<>(trees, start, mid);
+            left.fork();
+            SortedRun<T> right = new UnionTask<>(trees, mid, end).compute();
+            return SortedRun.merge(left.join(), right);
+        }
+    }
 }
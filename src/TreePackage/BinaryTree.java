@@ -1,7 +1,17 @@
 package TreePackage;
 
+import StackAndQueuePackage.ArrayQueue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A generic Binary Tree implementation that provides basic tree operations such as
@@ -11,7 +21,10 @@ import java.util.LinkedList;
  * @param <T> The type of elements stored in the tree.
  */
 public class BinaryTree<T> implements TreeInterface<T> {
+    private static final int STACK_CAPACITY = 32; // Initial traversal stack size; enough for balanced trees
+
     private BinaryNode<T> root;
+    protected int modCount; // Counts structural changes, so traversals can fail fast
 
     /**
      * Default constructor that creates an empty binary tree.
@@ -42,6 +55,9 @@ public class BinaryTree<T> implements TreeInterface<T> {
      * Clears the binary tree by removing all nodes.
      */
     public void clear() {
+        if (root != null) {
+            modCount++;
+        }
         root = null;
     }
 
@@ -51,6 +67,9 @@ public class BinaryTree<T> implements TreeInterface<T> {
      * @param rootNode The new root node of the tree.
      */
     public void setRootNode(BinaryNode<T> rootNode) {
+        if (rootNode != root) {
+            modCount++;
+        }
         this.root = rootNode;
     }
 
@@ -64,6 +83,37 @@ public class BinaryTree<T> implements TreeInterface<T> {
         return root;
     }
 
+    /**
+     * Computes the height of the binary tree, i.e. the number of nodes on the longest
+     * path from the root to a leaf. The tree is walked level by level, so degenerate
+     * trees do not exhaust the call stack.
+     *
+     * @return The height of the tree, or 0 if the tree is empty.
+     */
+    public int getHeight() {
+        if (root == null) {
+            return 0;
+        }
+
+        ArrayQueue<BinaryNode<T>> level = new ArrayQueue<>();
+        level.enqueue(root);
+        int height = 0;
+        while (!level.isEmpty()) {
+            height++;
+            int levelSize = level.size();
+            for (int i = 0; i < levelSize; i++) {
+                BinaryNode<T> current = level.dequeue();
+                if (current.getLeftChild() != null) {
+                    level.enqueue(current.getLeftChild());
+                }
+                if (current.getRightChild() != null) {
+                    level.enqueue(current.getRightChild());
+                }
+            }
+        }
+        return height;
+    }
+
     /**
      * Provides an iterator that performs an in-order traversal of the binary tree.
      *
@@ -72,25 +122,173 @@ public class BinaryTree<T> implements TreeInterface<T> {
      * 2. Current node
      * 3. Right child
      *
+     * The iterator is fail-fast: if the structure of the tree changes through the tree's
+     * own methods while it is in use, it throws a {@link ConcurrentModificationException}.
+     *
      * @return An iterator for in-order traversal of the tree.
      */
     public Iterator<T> getInorderIterator() {
         return new InorderIterator();
     }
 
+    /**
+     * Performs an action on every entry in in-order sequence. This internal iteration
+     * avoids the per-call overhead of an iterator.
+     *
+     * @param action The action to perform.
+     * @throws ConcurrentModificationException if the structure of the tree changes during the traversal.
+     */
+    public void forEachInOrder(Consumer<? super T> action) {
+        int expectedModCount = modCount;
+        NodeStack<T> nodeStack = new NodeStack<>(STACK_CAPACITY);
+        BinaryNode<T> currentNode = root;
+        while (currentNode != null || !nodeStack.isEmpty()) {
+            while (currentNode != null) {
+                nodeStack.push(currentNode);
+                currentNode = currentNode.getLeftChild();
+            }
+            BinaryNode<T> node = nodeStack.pop();
+            action.accept(node.getData());
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            currentNode = node.getRightChild();
+        }
+    }
+
+    /**
+     * Creates a spliterator over the entries in in-order sequence. It splits by subtrees,
+     * so a parallel stream over the tree processes subtrees on different threads. The
+     * size of the tree is not tracked, so the size estimate is only a guide.
+     *
+     * @return A fail-fast, ordered spliterator.
+     */
+    public Spliterator<T> spliterator() {
+        return new InorderSpliterator(root, new NodeStack<>(STACK_CAPACITY), Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a sequential stream over the entries in in-order sequence.
+     *
+     * @return A stream of the entries.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Creates a parallel stream over the entries in in-order sequence.
+     *
+     * @return A parallel stream of the entries.
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Retrieves the characteristics of the spliterator over the entries. Subclasses that
+     * keep their entries in order override this to report more.
+     *
+     * @return The characteristics, as defined by {@link Spliterator}.
+     */
+    protected int inorderCharacteristics() {
+        return Spliterator.ORDERED;
+    }
+
+    /**
+     * A stack of nodes in a growable array, so pushes do not allocate. It starts large
+     * enough for the height of any balanced tree of practical size.
+     *
+     * @param <T> The type of data stored in the nodes.
+     */
+    private static final class NodeStack<T> {
+        private BinaryNode<T>[] nodes;
+        private int size;
+
+        /**
+         * Creates an empty stack.
+         *
+         * @param capacity The initial capacity.
+         */
+        @SuppressWarnings("unchecked")
+        NodeStack(int capacity) {
+            nodes = (BinaryNode<T>[]) new BinaryNode<?>[Math.max(capacity, 1)];
+        }
+
+        /**
+         * Pushes a node, growing the array if it is full.
+         *
+         * @param node The node to push.
+         */
+        void push(BinaryNode<T> node) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+            }
+            nodes[size++] = node;
+        }
+
+        /**
+         * Pops the top node.
+         *
+         * @return The node that was on top.
+         */
+        BinaryNode<T> pop() {
+            BinaryNode<T> node = nodes[--size];
+            nodes[size] = null;
+            return node;
+        }
+
+        /**
+         * Checks whether the stack is empty.
+         *
+         * @return {@code true} if the stack holds no nodes.
+         */
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        /**
+         * Retrieves the number of nodes on the stack.
+         *
+         * @return The number of nodes.
+         */
+        int size() {
+            return size;
+        }
+
+        /**
+         * Moves the nodes above a position to a new stack.
+         *
+         * @param index The number of bottom nodes to keep.
+         * @return A stack holding the nodes from {@code index} to the top, in the same order.
+         */
+        NodeStack<T> splitAbove(int index) {
+            NodeStack<T> upper = new NodeStack<>(Math.max(STACK_CAPACITY, size - index));
+            for (int i = index; i < size; i++) {
+                upper.push(nodes[i]);
+                nodes[i] = null;
+            }
+            size = index;
+            return upper;
+        }
+    }
+
     /**
      * An inner class that implements an in-order traversal iterator for the binary tree.
+     * Each node on the stack is still to be visited, followed by its right subtree.
      */
     private class InorderIterator implements Iterator<T> {
-        private LinkedList<BinaryNode<T>> nodeStack;
-        private BinaryNode<T> currentNode;
+        private final NodeStack<T> nodeStack;
+        private BinaryNode<T> currentNode;     // Subtree to traverse before the nodes on the stack
+        private final int expectedModCount; // Value of modCount when the iterator was created
 
         /**
          * Constructor for the in-order iterator, initializing the traversal.
          */
-        public InorderIterator() {
-            nodeStack = new LinkedList<>();
+        InorderIterator() {
+            nodeStack = new NodeStack<>(STACK_CAPACITY);
             currentNode = root;
+            expectedModCount = modCount;
         }
 
         /**
@@ -107,23 +305,158 @@ public class BinaryTree<T> implements TreeInterface<T> {
          * Retrieves the next node in the in-order traversal.
          *
          * @return The data of the next node in the traversal.
+         * @throws NoSuchElementException if every node has been visited.
+         * @throws ConcurrentModificationException if the structure of the tree has changed.
          */
         @Override
         public T next() {
-            BinaryNode<T> nextNode = null;
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
 
             // Traverse to the leftmost node
             while (currentNode != null) {
-                nodeStack.addFirst(currentNode); // Push to stack
+                nodeStack.push(currentNode);
+                currentNode = currentNode.getLeftChild();
+            }
+            BinaryNode<T> nextNode = nodeStack.pop();
+            currentNode = nextNode.getRightChild();
+            return nextNode.getData();
+        }
+    }
+
+    /**
+     * A spliterator that traverses the tree in order. Like the iterator, it holds a subtree
+     * to traverse first and a stack of nodes, each to be visited before its right subtree.
+     * It splits off the first part of what remains: the left subtree of the pending
+     * subtree, the upper part of the stack, or a single node.
+     */
+    private class InorderSpliterator implements Spliterator<T> {
+        private final NodeStack<T> nodeStack;
+        private BinaryNode<T> currentNode;     // Subtree to traverse before the nodes on the stack
+        private long estimatedSize;            // A guide only; the tree does not track its size
+        private final int expectedModCount; // Value of modCount when the spliterator was created
+
+        /**
+         * Creates a spliterator.
+         *
+         * @param currentNode   The subtree to traverse first, or {@code null}.
+         * @param nodeStack     The nodes to visit afterwards, each followed by its right subtree.
+         * @param estimatedSize The estimated number of entries.
+         */
+        InorderSpliterator(BinaryNode<T> currentNode, NodeStack<T> nodeStack, long estimatedSize) {
+            this.currentNode = currentNode;
+            this.nodeStack = nodeStack;
+            this.estimatedSize = estimatedSize;
+            this.expectedModCount = modCount;
+        }
+
+        /**
+         * Performs the action on the next entry, if there is one.
+         *
+         * @param action The action to perform.
+         * @return {@code false} if no entries remain.
+         * @throws ConcurrentModificationException if the structure of the tree has changed.
+         */
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            while (currentNode != null) {
+                nodeStack.push(currentNode);
                 currentNode = currentNode.getLeftChild();
             }
+            if (nodeStack.isEmpty()) {
+                return false;
+            }
+            BinaryNode<T> node = nodeStack.pop();
+            currentNode = node.getRightChild();
+            action.accept(node.getData());
+            return true;
+        }
 
-            if (!nodeStack.isEmpty()) {
-                nextNode = nodeStack.removeFirst(); // Pop from stack
-                currentNode = nextNode.getRightChild();
+        /**
+         * Performs the action on every remaining entry.
+         *
+         * @param action The action to perform.
+         * @throws ConcurrentModificationException if the structure of the tree has changed.
+         */
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            while (tryAdvance(action)) {
+                // Each call visits one entry
             }
+        }
+
+        /**
+         * Splits off the first part of the remaining entries.
+         *
+         * @return A spliterator over the entries that come first, or {@code null} if a
+         *         single entry without a right subtree remains.
+         */
+        @Override
+        public Spliterator<T> trySplit() {
+            if (currentNode != null) {
+                BinaryNode<T> left = currentNode.getLeftChild();
+                nodeStack.push(currentNode); // The root of the subtree comes next, then its right subtree
+                currentNode = null;
+                if (left != null) {
+                    estimatedSize >>>= 1;
+                    return new InorderSpliterator(left, new NodeStack<>(STACK_CAPACITY), estimatedSize);
+                }
+            }
+            if (nodeStack.size() >= 2) {
+                estimatedSize >>>= 1;
+                return new InorderSpliterator(null, nodeStack.splitAbove(1), estimatedSize);
+            }
+            if (nodeStack.size() == 1) {
+                BinaryNode<T> node = nodeStack.pop();
+                if (node.getRightChild() == null) {
+                    nodeStack.push(node);
+                    return null;
+                }
+                currentNode = node.getRightChild();
+                return Collections.singletonList(node.getData()).spliterator();
+            }
+            return null;
+        }
 
-            return nextNode != null ? nextNode.getData() : null;
+        /**
+         * Estimates the number of remaining entries.
+         *
+         * @return The estimate, which starts at {@link Long#MAX_VALUE} and halves on every split.
+         */
+        @Override
+        public long estimateSize() {
+            return (currentNode == null && nodeStack.isEmpty()) ? 0 : estimatedSize;
+        }
+
+        /**
+         * Retrieves the characteristics of this spliterator.
+         *
+         * @return The characteristics reported by {@link #inorderCharacteristics()}.
+         */
+        @Override
+        public int characteristics() {
+            return inorderCharacteristics();
+        }
+
+        /**
+         * Retrieves the order of a sorted spliterator.
+         *
+         * @return {@code null}, meaning the natural order of the entries.
+         * @throws IllegalStateException if the spliterator is not sorted.
+         */
+        @Override
+        public Comparator<? super T> getComparator() {
+            if (hasCharacteristics(Spliterator.SORTED)) {
+                return null;
+            }
+            throw new IllegalStateException("The entries are not sorted.");
         }
     }
 
@@ -139,19 +472,19 @@ public class BinaryTree<T> implements TreeInterface<T> {
             return;
         }
 
-        LinkedList<BinaryNode<T>> queue = new LinkedList<>();
-        queue.add(root);
+        ArrayQueue<BinaryNode<T>> queue = new ArrayQueue<>();
+        queue.enqueue(root);
 
         System.out.println("Breadth-First Traversal:");
         while (!queue.isEmpty()) {
-            BinaryNode<T> current = queue.poll();
+            BinaryNode<T> current = queue.dequeue();
             System.out.print(current.getData() + " ");
 
             if (current.getLeftChild() != null) {
-                queue.add(current.getLeftChild());
+                queue.enqueue(current.getLeftChild());
             }
             if (current.getRightChild() != null) {
-                queue.add(current.getRightChild());
+                queue.enqueue(current.getRightChild());
             }
         }
         System.out.println(); // Line break after traversal
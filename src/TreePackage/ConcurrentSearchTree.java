@@ -0,0 +1,172 @@
+package TreePackage;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A thread-safe search tree backed by a lock-free skip list
+ * ({@link ConcurrentSkipListMap}). Any number of threads may add and look up entries
+ * at the same time, and {@link #addIfAbsent} is atomic, so exactly one thread wins when
+ * several add the same entry. Each entry maps to an atomic occurrence counter, so
+ * occurrences recorded concurrently are never lost. In-order iteration is weakly
+ * consistent: it never fails because of concurrent additions and reflects every entry
+ * added before it started.
+ *
+ * @param <T> The type of elements stored in the tree. Must implement Comparable.
+ */
+public class ConcurrentSearchTree<T extends Comparable<? super T>> implements SearchTreeInterface<T> {
+    private final ConcurrentSkipListMap<T, AtomicInteger> entries; // Entries and their occurrence counts
+
+    /**
+     * Constructs an empty ConcurrentSearchTree.
+     */
+    public ConcurrentSearchTree() {
+        entries = new ConcurrentSkipListMap<>();
+    }
+
+    /**
+     * Checks if the tree contains a specific entry.
+     *
+     * @param entry The entry to search for.
+     * @return {@code true} if the entry exists in the tree, {@code false} otherwise.
+     */
+    @Override
+    public boolean contains(T entry) {
+        return entries.containsKey(entry);
+    }
+
+    /**
+     * Retrieves the stored entry equal to the given entry.
+     *
+     * @param entry The entry to retrieve.
+     * @return The entry if found, or {@code null} if not found.
+     */
+    @Override
+    public T getEntry(T entry) {
+        T candidate = entries.ceilingKey(entry);
+        return (candidate != null && candidate.compareTo(entry) == 0) ? candidate : null;
+    }
+
+    /**
+     * Adds a new entry to the tree. Entries that are already in the tree are ignored.
+     *
+     * @param entry The entry to add.
+     */
+    @Override
+    public void add(T entry) {
+        addIfAbsent(entry);
+    }
+
+    /**
+     * Atomically adds a new entry unless an equal entry is already present.
+     *
+     * @param entry The entry to add.
+     * @return {@code true} if this call added the entry, {@code false} if it was already present.
+     */
+    @Override
+    public boolean addIfAbsent(T entry) {
+        return !entries.containsKey(entry) && entries.putIfAbsent(entry, new AtomicInteger()) == null;
+    }
+
+    /**
+     * Atomically records occurrences of an entry, adding the entry first if it is not present.
+     *
+     * @param entry       The entry whose occurrences are recorded.
+     * @param occurrences The number of occurrences to record.
+     * @return The number of occurrences recorded for the entry, including these.
+     */
+    @Override
+    public int addOccurrences(T entry, int occurrences) {
+        AtomicInteger counter = entries.get(entry);
+        if (counter == null) {
+            AtomicInteger added = new AtomicInteger(occurrences);
+            counter = entries.putIfAbsent(entry, added);
+            if (counter == null) {
+                return occurrences;
+            }
+        }
+        return counter.addAndGet(occurrences);
+    }
+
+    /**
+     * Retrieves the number of occurrences recorded for an entry.
+     *
+     * @param entry The entry to look up.
+     * @return The occurrence count, or 0 if the entry is absent or none were recorded.
+     */
+    @Override
+    public int getOccurrenceCount(T entry) {
+        AtomicInteger counter = entries.get(entry);
+        return (counter == null) ? 0 : counter.get();
+    }
+
+    /**
+     * Finds the most frequent entries in a single pass over the skip list. Counts that
+     * change during the pass may or may not be seen.
+     *
+     * @param k The maximum number of entries to return.
+     * @return The at most k entries with the highest occurrence counts, most frequent first;
+     *         entries with equal counts are in ascending order.
+     * @throws IllegalArgumentException if {@code k} is negative.
+     */
+    @Override
+    public List<EntryCount<T>> getMostFrequent(int k) {
+        TopKCollector<T> collector = new TopKCollector<>(k);
+        for (Map.Entry<T, AtomicInteger> entry : entries.entrySet()) {
+            collector.offer(entry.getKey(), entry.getValue().get());
+        }
+        return collector.result();
+    }
+
+    /**
+     * Provides an iterator over the entries in ascending order.
+     *
+     * @return A weakly consistent in-order iterator.
+     */
+    @Override
+    public Iterator<T> getInorderIterator() {
+        return entries.keySet().iterator();
+    }
+
+    /**
+     * Retrieves the smallest entry. A skip list has no root node, so the first entry in
+     * order stands in for the root.
+     *
+     * @return The smallest entry, or {@code null} if the tree is empty.
+     */
+    @Override
+    public T getRootData() {
+        Iterator<T> iterator = getInorderIterator(); // Unlike firstKey(), safe against a concurrent clear()
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    /**
+     * Checks whether the tree is empty.
+     *
+     * @return {@code true} if the tree is empty, {@code false} otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Removes all entries from the tree.
+     */
+    @Override
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Counts the entries in the tree. This walks the whole skip list.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,91 @@
+package TreePackage;
+
+/**
+ * An entry of a search tree paired with the number of occurrences recorded for it.
+ *
+ * @param <T> The type of the entry.
+ */
+public final class EntryCount<T extends Comparable<? super T>> implements Comparable<EntryCount<T>> {
+    private final T entry;  // The entry
+    private final int count; // Number of occurrences recorded for the entry
+
+    /**
+     * Constructs an EntryCount.
+     *
+     * @param entry The entry.
+     * @param count The number of occurrences recorded for the entry.
+     */
+    public EntryCount(T entry, int count) {
+        this.entry = entry;
+        this.count = count;
+    }
+
+    /**
+     * Retrieves the entry.
+     *
+     * @return The entry.
+     */
+    public T getEntry() {
+        return entry;
+    }
+
+    /**
+     * Retrieves the number of occurrences recorded for the entry.
+     *
+     * @return The occurrence count.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Orders entry counts from most to least frequent; equal counts are ordered by entry,
+     * so rankings are deterministic.
+     *
+     * @param other The entry count to compare with.
+     * @return A negative number if this entry ranks before {@code other}, a positive number
+     *         if it ranks after, or 0 if both are equal.
+     */
+    @Override
+    public int compareTo(EntryCount<T> other) {
+        if (count != other.count) {
+            return (count > other.count) ? -1 : 1;
+        }
+        return entry.compareTo(other.entry);
+    }
+
+    /**
+     * Checks whether two entry counts hold equal entries and counts.
+     *
+     * @param other The object to compare with.
+     * @return {@code true} if {@code other} is an equal entry count, {@code false} otherwise.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof EntryCount)) {
+            return false;
+        }
+        EntryCount<?> that = (EntryCount<?>) other;
+        return count == that.count && entry.equals(that.entry);
+    }
+
+    /**
+     * Computes a hash code from the entry and the count.
+     *
+     * @return The hash code.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * entry.hashCode() + count;
+    }
+
+    /**
+     * Returns a string representation of the entry and its count.
+     *
+     * @return The entry followed by its count, such as {@code "index: 42"}.
+     */
+    @Override
+    public String toString() {
+        return entry + ": " + count;
+    }
+}
@@ -1,5 +1,9 @@
 package TreePackage;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
 /**
  * An interface for a search tree, extending the basic tree interface.
  * This interface defines methods specific to binary search tree functionality.
@@ -30,4 +34,77 @@ public interface SearchTreeInterface<T extends Comparable<? super T>> extends Tr
      * @param entry The element to add.
      */
     void add(T entry);
+
+    /**
+     * Adds a new entry to the tree unless an equal entry is already present.
+     *
+     * @param entry The element to add.
+     * @return True if the entry was added, false if it was already present.
+     */
+    boolean addIfAbsent(T entry);
+
+    /**
+     * Records occurrences of an entry, adding the entry first if it is not present.
+     *
+     * @param entry       The element whose occurrences are recorded.
+     * @param occurrences The number of occurrences to record.
+     * @return The number of occurrences recorded for the entry, including these.
+     */
+    int addOccurrences(T entry, int occurrences);
+
+    /**
+     * Records one occurrence of an entry, adding the entry first if it is not present.
+     *
+     * @param entry The element whose occurrence is recorded.
+     * @return The number of occurrences recorded for the entry, including this one.
+     */
+    default int addOccurrence(T entry) {
+        return addOccurrences(entry, 1);
+    }
+
+    /**
+     * Adds a batch of entries, ignoring those already present.
+     *
+     * @param entries The elements to add, in any order.
+     */
+    default void addAll(Collection<? extends T> entries) {
+        for (T entry : entries) {
+            add(entry);
+        }
+    }
+
+    /**
+     * Records a batch of occurrence counts, adding the entries that are not present.
+     *
+     * @param entries The elements and the number of occurrences to record for each, in any order.
+     */
+    default void addAllOccurrences(Collection<EntryCount<T>> entries) {
+        for (EntryCount<T> entry : entries) {
+            addOccurrences(entry.getEntry(), entry.getCount());
+        }
+    }
+
+    /**
+     * Retrieves the number of occurrences recorded for an entry.
+     *
+     * @param entry The element to look up.
+     * @return The occurrence count, or 0 if the entry is absent or none were recorded.
+     */
+    int getOccurrenceCount(T entry);
+
+    /**
+     * Finds the most frequent entries in a single pass over the tree.
+     *
+     * @param k The maximum number of entries to return.
+     * @return The at most k entries with the highest occurrence counts, most frequent first;
+     *         entries with equal counts are in ascending order.
+     */
+    List<EntryCount<T>> getMostFrequent(int k);
+
+    /**
+     * Provides an iterator that visits the entries in ascending order.
+     *
+     * @return An iterator for in-order traversal of the tree.
+     */
+    Iterator<T> getInorderIterator();
 }
@@ -0,0 +1,117 @@
+package TreePackage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The entries of a search tree flattened into ascending order, with the occurrence count
+ * of each entry in a parallel array. Runs are merged with a linear two-pointer pass, so
+ * many trees can be combined pairwise and the balanced result built only once.
+ *
+ * @param <T> The type of the entries.
+ */
+class SortedRun<T extends Comparable<? super T>> {
+    private final List<T> entries; // Distinct entries in ascending order
+    private final int[] counts;    // Occurrence count of each entry, indexed like entries; may be longer
+
+    /**
+     * Creates a run.
+     *
+     * @param entries Distinct entries in ascending order.
+     * @param counts  The occurrence count of each entry.
+     */
+    private SortedRun(List<T> entries, int[] counts) {
+        this.entries = entries;
+        this.counts = counts;
+    }
+
+    /**
+     * Flattens a tree with an in-order walk.
+     *
+     * @param tree The tree; it is not modified.
+     * @param <T>  The type of the entries.
+     * @return The entries of the tree and their counts, in ascending order.
+     */
+    static <T extends Comparable<? super T>> SortedRun<T> of(BinarySearchTree<T> tree) {
+        List<T> entries = new ArrayList<>();
+        int[] counts = new int[16];
+        Deque<BinaryNode<T>> nodeStack = new ArrayDeque<>();
+        BinaryNode<T> currentNode = tree.getRootNode();
+        while (currentNode != null || !nodeStack.isEmpty()) {
+            while (currentNode != null) {
+                nodeStack.push(currentNode);
+                currentNode = currentNode.getLeftChild();
+            }
+            BinaryNode<T> node = nodeStack.pop();
+            if (entries.size() == counts.length) {
+                counts = Arrays.copyOf(counts, counts.length * 2);
+            }
+            counts[entries.size()] = node.getCount();
+            entries.add(node.getData());
+            currentNode = node.getRightChild();
+        }
+        return new SortedRun<>(entries, counts);
+    }
+
+    /**
+     * Merges two runs in one linear pass; entries found in both get the sum of their counts.
+     *
+     * @param first  A run.
+     * @param second Another run.
+     * @param <T>    The type of the entries.
+     * @return A new run holding the union of the two.
+     */
+    static <T extends Comparable<? super T>> SortedRun<T> merge(SortedRun<T> first, SortedRun<T> second) {
+        int firstSize = first.entries.size();
+        int secondSize = second.entries.size();
+        List<T> entries = new ArrayList<>(firstSize + secondSize);
+        int[] counts = new int[firstSize + secondSize];
+        int i = 0;
+        int j = 0;
+        while (i < firstSize || j < secondSize) {
+            int comparison;
+            if (i == firstSize) {
+                comparison = 1;
+            } else if (j == secondSize) {
+                comparison = -1;
+            } else {
+                comparison = first.entries.get(i).compareTo(second.entries.get(j));
+            }
+            int count = 0;
+            T entry;
+            if (comparison <= 0) {
+                entry = first.entries.get(i);
+                count += first.counts[i++];
+            } else {
+                entry = second.entries.get(j);
+            }
+            if (comparison >= 0) {
+                count += second.counts[j++];
+            }
+            counts[entries.size()] = count;
+            entries.add(entry);
+        }
+        return new SortedRun<>(entries, counts);
+    }
+
+    /**
+     * Retrieves the entries.
+     *
+     * @return The distinct entries in ascending order.
+     */
+    List<T> entries() {
+        return entries;
+    }
+
+    /**
+     * Retrieves the occurrence counts.
+     *
+     * @return The count of each entry, indexed like {@link #entries()}; may be longer than the entries.
+     */
+    int[] counts() {
+        return counts;
+    }
+}
@@ -0,0 +1,64 @@
+package TreePackage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Collects the k most frequent entries from a stream of entries and their counts in a
+ * single pass. A min-heap holds the best k entries seen so far with the weakest on top,
+ * so each offer costs O(log k) and memory stays O(k) however many entries are offered.
+ *
+ * @param <T> The type of the entries.
+ */
+class TopKCollector<T extends Comparable<? super T>> {
+    private final int k;                                // Number of entries to keep
+    private final PriorityQueue<EntryCount<T>> heap;    // Best entries so far, weakest first
+
+    /**
+     * Constructs a collector for the k most frequent entries.
+     *
+     * @param k The number of entries to keep.
+     * @throws IllegalArgumentException if {@code k} is negative.
+     */
+    TopKCollector(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        this.k = k;
+        this.heap = new PriorityQueue<>(Math.max(1, Math.min(k, 1024)), Collections.reverseOrder()); // Grows if k is large
+    }
+
+    /**
+     * Offers an entry and its count. Entries with no recorded occurrences are ignored.
+     *
+     * @param entry The entry.
+     * @param count The number of occurrences recorded for the entry.
+     */
+    void offer(T entry, int count) {
+        if (count <= 0 || k == 0) {
+            return;
+        }
+        if (heap.size() < k) {
+            heap.add(new EntryCount<>(entry, count));
+            return;
+        }
+        EntryCount<T> weakest = heap.peek();
+        if (count > weakest.getCount() || (count == weakest.getCount() && entry.compareTo(weakest.getEntry()) < 0)) {
+            heap.poll();
+            heap.add(new EntryCount<>(entry, count));
+        }
+    }
+
+    /**
+     * Retrieves the collected entries.
+     *
+     * @return The at most k most frequent entries, most frequent first.
+     */
+    List<EntryCount<T>> result() {
+        List<EntryCount<T>> result = new ArrayList<>(heap);
+        Collections.sort(result);
+        return result;
+    }
+}
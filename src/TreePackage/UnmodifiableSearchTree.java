@@ -0,0 +1,160 @@
+package TreePackage;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A read-only view of a binary search tree, returned by
+ * {@link BinarySearchTree#unmodifiable(BinarySearchTree)}. The view shares the nodes of the
+ * tree it was created from, so lookups and traversals cost the same as on that tree; every
+ * method that would change the tree throws {@link UnsupportedOperationException}.
+ *
+ * @param <T> The type of elements stored in the tree. Must implement Comparable.
+ */
+final class UnmodifiableSearchTree<T extends Comparable<? super T>> extends BinarySearchTree<T> {
+    private final BinarySearchTree<T> tree; // The tree whose nodes are shared
+
+    /**
+     * Creates a read-only view of a tree.
+     *
+     * @param tree The tree to view.
+     */
+    UnmodifiableSearchTree(BinarySearchTree<T> tree) {
+        super();
+        this.tree = tree;
+        super.setRootNode(tree.getRootNode());
+    }
+
+    /**
+     * Retrieves the height of the viewed tree, which may cache it.
+     *
+     * @return The height of the tree, or 0 if the tree is empty.
+     */
+    @Override
+    public int getHeight() {
+        return tree.getHeight();
+    }
+
+    /**
+     * Not supported: the view is read-only.
+     *
+     * @param entry The entry to add.
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void add(T entry) {
+        throw readOnly();
+    }
+
+    /**
+     * Not supported: the view is read-only.
+     *
+     * @param entry The entry to add.
+     * @return Never returns.
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public boolean addIfAbsent(T entry) {
+        throw readOnly();
+    }
+
+    /**
+     * Not supported: the view is read-only.
+     *
+     * @param entry       The entry whose occurrences are recorded.
+     * @param occurrences The number of occurrences to record.
+     * @return Never returns.
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public int addOccurrences(T entry, int occurrences) {
+        throw readOnly();
+    }
+
+    /**
+     * Not supported: the view is read-only.
+     *
+     * @param entries The entries to add.
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void addAll(Collection<? extends T> entries) {
+        throw readOnly();
+    }
+
+    /**
+     * Not supported: the view is read-only.
+     *
+     * @param entries The entries and their occurrence counts.
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void addAllOccurrences(Collection<EntryCount<T>> entries) {
+        throw readOnly();
+    }
+
+    /**
+     * Not supported: the view is read-only.
+     *
+     * @param other The tree to add.
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void unionWith(BinarySearchTree<T> other) {
+        throw readOnly();
+    }
+
+    /**
+     * Not supported: the view is read-only.
+     *
+     * @param others The trees to add.
+     * @param pool   The pool to run the reduction on.
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void unionWithAll(List<? extends BinarySearchTree<T>> others, ForkJoinPool pool) {
+        throw readOnly();
+    }
+
+    /**
+     * Not supported: the view is read-only.
+     *
+     * @param rootNode The root node to set.
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void initializeRoot(BinaryNode<T> rootNode) {
+        throw readOnly();
+    }
+
+    /**
+     * Not supported: the view is read-only.
+     *
+     * @param rootNode The new root node of the tree.
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void setRootNode(BinaryNode<T> rootNode) {
+        throw readOnly();
+    }
+
+    /**
+     * Not supported: the view is read-only.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void clear() {
+        throw readOnly();
+    }
+
+    /**
+     * Creates the exception thrown by every method that would change the tree.
+     *
+     * @return The exception.
+     */
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("This search tree is read-only.");
+    }
+}